@@ -0,0 +1,54 @@
+package guru.mikelue.foxglove;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.slf4j.LoggerFactory;
+
+/**
+ * Holds the default executor of {@link DataGenerator#generateAsync(java.util.List)}.
+ *
+ * <p>
+ * The executor creates a virtual thread per task if the runtime supports it(Java 21+),
+ * otherwise a cached pool of daemon threads is used.
+ */
+final class AsyncExecutors {
+	private final static ExecutorService DEFAULT_EXECUTOR = buildDefaultExecutor();
+
+	private AsyncExecutors() {}
+
+	static ExecutorService defaultExecutor()
+	{
+		return DEFAULT_EXECUTOR;
+	}
+
+	/**
+	 * Since this library is compiled for Java 17, the factory of virtual threads is looked up at runtime.
+	 */
+	private static ExecutorService buildDefaultExecutor()
+	{
+		try {
+			var factoryMethod = MethodHandles.publicLookup().findStatic(
+				Executors.class, "newVirtualThreadPerTaskExecutor",
+				MethodType.methodType(ExecutorService.class)
+			);
+
+			return (ExecutorService)factoryMethod.invoke();
+		} catch (Throwable e) {
+			LoggerFactory.getLogger(AsyncExecutors.class)
+				.debug("Virtual threads are not supported, uses cached pool of threads: {}", e.toString());
+		}
+
+		var threadIndex = new AtomicInteger(0);
+		return Executors.newCachedThreadPool(
+			runnable -> {
+				var thread = new Thread(runnable, "foxglove-async-" + threadIndex.getAndIncrement());
+				thread.setDaemon(true);
+				return thread;
+			}
+		);
+	}
+}
@@ -1,6 +1,10 @@
 package guru.mikelue.foxglove;
 
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+import org.apache.commons.lang3.Validate;
 
 import guru.mikelue.foxglove.setting.SettingAware;
 
@@ -20,7 +24,7 @@ public interface DataGenerator<T extends TableFacet> extends SettingAware<DataGe
 	 * @see #generate(List)
 	 */
 	@SuppressWarnings("unchecked")
-	default int generate(T... tables)
+	default long generate(T... tables)
 	{
 		return generate(java.util.Arrays.asList(tables));
 	}
@@ -34,5 +38,51 @@ public interface DataGenerator<T extends TableFacet> extends SettingAware<DataGe
 	 *
 	 * @see #generate(T...)
 	 */
-	int generate(List<T> tables);
+	long generate(List<T> tables);
+
+	/**
+	 * Performs the data generating asynchronously on the default executor.
+	 *
+	 * @param tables The table facets
+	 *
+	 * @return The future of total number of rows generated
+	 *
+	 * @see #generateAsync(List, Executor)
+	 */
+	default CompletableFuture<Long> generateAsync(List<T> tables)
+	{
+		return generateAsync(tables, AsyncExecutors.defaultExecutor());
+	}
+
+	/**
+	 * Performs the data generating asynchronously on the given executor.
+	 *
+	 * <p>
+	 * The independent generations(e.g., one generator per {@link javax.sql.DataSource}) could be run concurrently:
+	 *
+	 * <pre><code class="java">
+	 * CompletableFuture.allOf(
+	 *     new JdbcDataGenerator(orderDataSource).generateAsync(orderFacets),
+	 *     new JdbcDataGenerator(userDataSource).generateAsync(userFacets)
+	 * ).join();
+	 * </code></pre>
+	 *
+	 * <p>
+	 * The default executor creates a virtual thread per task on Java 21+, or uses a cached pool of daemon threads.
+	 * The future is completed exceptionally with the exception thrown by {@link #generate(List)}.
+	 *
+	 * <p>
+	 * <strong>The calls on the same generator are run concurrently as well, which should not share facets.</strong>
+	 *
+	 * @param tables The table facets
+	 * @param executor The executor to run the generating
+	 *
+	 * @return The future of total number of rows generated
+	 */
+	default CompletableFuture<Long> generateAsync(List<T> tables, Executor executor)
+	{
+		Validate.notNull(executor, "Executor must not be null");
+
+		return CompletableFuture.supplyAsync(() -> generate(tables), executor);
+	}
 }
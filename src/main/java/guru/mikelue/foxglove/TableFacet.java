@@ -16,5 +16,5 @@ public interface TableFacet {
 	 *
 	 * @return The number of rows to be generated
 	 */
-	int getNumberOfRows();
+	long getNumberOfRows();
 }
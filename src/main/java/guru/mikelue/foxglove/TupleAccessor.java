@@ -63,5 +63,5 @@ public interface TupleAccessor {
 	 *
 	 * @return Index for of generated rows on the TableFacet
 	 */
-	int index();
+	long index();
 }
@@ -55,7 +55,7 @@ public class GenDataProcessor {
 	 *
 	 * @throws Exception if any error is encountered during data generation
 	 */
-	public int performGenerating() throws Exception
+	public long performGenerating() throws Exception
 	{
 		if (!hasDataGenerating()) {
 			return -1;
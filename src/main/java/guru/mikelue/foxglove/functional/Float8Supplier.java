@@ -0,0 +1,42 @@
+package guru.mikelue.foxglove.functional;
+
+import java.util.function.DoubleSupplier;
+import java.util.function.Supplier;
+
+/**
+ * A {@link Supplier} of {@link Double}(8 bytes), whose values are generated as primitive {@code double}.
+ *
+ * <p>
+ * The values of a column supplied by this interface are bound to statement by {@code PreparedStatement.setDouble(...)},
+ * without boxing of values(unless the values are accessed by {@link guru.mikelue.foxglove.TupleAccessor}).
+ *
+ * <pre><code class="java">
+ * builder.column("od_price").useSupplier((Float8Supplier)() -&gt; random.nextDouble(1000));
+ * </code></pre>
+ *
+ * @see Int4Supplier
+ * @see Int8Supplier
+ */
+@FunctionalInterface
+public interface Float8Supplier extends Supplier<Double>, DoubleSupplier {
+	/**
+	 * Gets the next value as primitive.
+	 *
+	 * @return The next value
+	 */
+	@Override
+	double getAsDouble();
+
+	/**
+	 * Gets the next value as boxed one.
+	 *
+	 * @return The next value
+	 *
+	 * @see #getAsDouble()
+	 */
+	@Override
+	default Double get()
+	{
+		return getAsDouble();
+	}
+}
@@ -1,7 +1,5 @@
 package guru.mikelue.foxglove.functional;
 
-import java.util.function.IntSupplier;
-
 /**
  * Provides consequent number with customizable start and steps.
  *
@@ -9,7 +7,7 @@ import java.util.function.IntSupplier;
  *
  * @see Int8SequenceSupplier
  */
-public class Int4SequenceSupplier implements IntSupplier, SequenceSupplier<Integer> {
+public class Int4SequenceSupplier implements Int4Supplier, SequenceSupplier<Integer> {
 	private int currentValue;
 	private final int step;
 
@@ -57,7 +55,18 @@ public class Int4SequenceSupplier implements IntSupplier, SequenceSupplier<Integ
 	@Override
 	public int getAsInt()
 	{
-		return nextValue();
+		var nextValue = currentValue;
+		currentValue += step;
+		return nextValue;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public Integer get()
+	{
+		return getAsInt();
 	}
 
 	/**
@@ -66,9 +75,7 @@ public class Int4SequenceSupplier implements IntSupplier, SequenceSupplier<Integ
 	@Override
 	public Integer nextValue()
 	{
-		var nextValue = currentValue;
-		currentValue += step;
-		return nextValue;
+		return getAsInt();
 	}
 
 	/**
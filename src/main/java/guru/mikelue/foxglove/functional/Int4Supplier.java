@@ -0,0 +1,42 @@
+package guru.mikelue.foxglove.functional;
+
+import java.util.function.IntSupplier;
+import java.util.function.Supplier;
+
+/**
+ * A {@link Supplier} of {@link Integer}(4 bytes), whose values are generated as primitive {@code int}.
+ *
+ * <p>
+ * The values of a column supplied by this interface are bound to statement by {@code PreparedStatement.setInt(...)},
+ * without boxing of values(unless the values are accessed by {@link guru.mikelue.foxglove.TupleAccessor}).
+ *
+ * <pre><code class="java">
+ * builder.column("od_quantity").useSupplier((Int4Supplier)() -&gt; random.nextInt(100));
+ * </code></pre>
+ *
+ * @see Int8Supplier
+ * @see Float8Supplier
+ */
+@FunctionalInterface
+public interface Int4Supplier extends Supplier<Integer>, IntSupplier {
+	/**
+	 * Gets the next value as primitive.
+	 *
+	 * @return The next value
+	 */
+	@Override
+	int getAsInt();
+
+	/**
+	 * Gets the next value as boxed one.
+	 *
+	 * @return The next value
+	 *
+	 * @see #getAsInt()
+	 */
+	@Override
+	default Integer get()
+	{
+		return getAsInt();
+	}
+}
@@ -1,7 +1,5 @@
 package guru.mikelue.foxglove.functional;
 
-import java.util.function.LongSupplier;
-
 /**
  * Provides consequent number with customizable start and steps.
  *
@@ -9,7 +7,7 @@ import java.util.function.LongSupplier;
  *
  * @see Int4SequenceSupplier
  */
-public class Int8SequenceSupplier implements LongSupplier, SequenceSupplier<Long> {
+public class Int8SequenceSupplier implements Int8Supplier, SequenceSupplier<Long> {
 	private long currentValue;
 	private final int step;
 
@@ -57,7 +55,18 @@ public class Int8SequenceSupplier implements LongSupplier, SequenceSupplier<Long
 	@Override
 	public long getAsLong()
 	{
-		return nextValue();
+		var nextValue = currentValue;
+		currentValue += step;
+		return nextValue;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public Long get()
+	{
+		return getAsLong();
 	}
 
 	/**
@@ -66,9 +75,7 @@ public class Int8SequenceSupplier implements LongSupplier, SequenceSupplier<Long
 	@Override
 	public Long nextValue()
 	{
-		var nextValue = currentValue;
-		currentValue += step;
-		return nextValue;
+		return getAsLong();
 	}
 
 	/**
@@ -0,0 +1,42 @@
+package guru.mikelue.foxglove.functional;
+
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * A {@link Supplier} of {@link Long}(8 bytes), whose values are generated as primitive {@code long}.
+ *
+ * <p>
+ * The values of a column supplied by this interface are bound to statement by {@code PreparedStatement.setLong(...)},
+ * without boxing of values(unless the values are accessed by {@link guru.mikelue.foxglove.TupleAccessor}).
+ *
+ * <pre><code class="java">
+ * builder.column("od_amount").useSupplier((Int8Supplier)() -&gt; random.nextLong(1_000_000L));
+ * </code></pre>
+ *
+ * @see Int4Supplier
+ * @see Float8Supplier
+ */
+@FunctionalInterface
+public interface Int8Supplier extends Supplier<Long>, LongSupplier {
+	/**
+	 * Gets the next value as primitive.
+	 *
+	 * @return The next value
+	 */
+	@Override
+	long getAsLong();
+
+	/**
+	 * Gets the next value as boxed one.
+	 *
+	 * @return The next value
+	 *
+	 * @see #getAsLong()
+	 */
+	@Override
+	default Long get()
+	{
+		return getAsLong();
+	}
+}
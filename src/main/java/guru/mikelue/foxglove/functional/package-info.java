@@ -12,6 +12,7 @@
  *
  * <ul>
  *   <li>{@link Int4SequenceSupplier}, {@link Int8SequenceSupplier} - Used to generate sequence numbers for integer types.</li>
+ *   <li>{@link Int4Supplier}, {@link Int8Supplier}, {@link Float8Supplier} - Generates primitive values, which are bound to statement without boxing.</li>
  *   <li>{@link RoundRobinValueSupplier} provides round robin behavior over a domain of values</li>
  *   <li>{@link RowIndexToValue} defines the {@link Function} which converts an index of row(generated for a table facet) to certain value</li>
  * </ul>
@@ -0,0 +1,131 @@
+package guru.mikelue.foxglove.jdbc;
+
+import java.time.Duration;
+
+import org.apache.commons.lang3.Validate;
+
+/**
+ * Defines the batch size which is adjusted at runtime by the measured latency of executing batches.
+ *
+ * <p>
+ * After every execution of batch, the batch size grows or shrinks(at most doubled or halved)
+ * toward the size which would be executed in {@linkplain #targetLatency() target latency}.
+ * The size is also bound by the estimated width of rows, so a batch would not hold more than
+ * {@linkplain #maxBytesPerBatch() maximum bytes}.
+ *
+ * <p>
+ * The initial size is the batch size set to {@link JdbcDataGenerator} or {@link JdbcTableFacet}.
+ * The adjustment only takes effect for {@link BatchMode#Default} on drivers
+ * supporting {@link java.sql.PreparedStatement#executeBatch()} for generated keys.
+ *
+ * <pre><code class="java">
+ * generator.setAdaptiveBatchSize(
+ *     AdaptiveBatchSize.of(Duration.ofMillis(200), 32, 8192)
+ * );
+ * </code></pre>
+ *
+ * @see JdbcDataGenerator#setAdaptiveBatchSize(AdaptiveBatchSize)
+ * @see JdbcTableFacet.Builder#batchSize(AdaptiveBatchSize)
+ */
+public final class AdaptiveBatchSize {
+	/**
+	 * The default maximum estimated bytes of a batch.
+	 */
+	public final static long DEFAULT_MAX_BYTES_PER_BATCH = 8 * 1024 * 1024;
+
+	/**
+	 * Builds the definition with {@link #DEFAULT_MAX_BYTES_PER_BATCH}.
+	 *
+	 * @param targetLatency The expected latency of executing a batch
+	 * @param minSize The minimum batch size
+	 * @param maxSize The maximum batch size
+	 *
+	 * @return The definition
+	 */
+	public static AdaptiveBatchSize of(Duration targetLatency, int minSize, int maxSize)
+	{
+		return new AdaptiveBatchSize(targetLatency, minSize, maxSize, DEFAULT_MAX_BYTES_PER_BATCH);
+	}
+
+	private final Duration targetLatency;
+	private final int minSize;
+	private final int maxSize;
+	private final long maxBytesPerBatch;
+
+	private AdaptiveBatchSize(
+		Duration targetLatency, int minSize, int maxSize,
+		long maxBytesPerBatch
+	) {
+		Validate.notNull(targetLatency, "Target latency must not be null");
+		Validate.isTrue(!targetLatency.isNegative() && !targetLatency.isZero(), "Target latency must be positive");
+		Validate.isTrue(minSize > 0, "Minimum batch size must be greater than zero");
+		Validate.isTrue(maxSize >= minSize, "Maximum batch size must be greater than or equal to minimum one");
+		Validate.isTrue(maxBytesPerBatch > 0, "Maximum bytes of batch must be greater than zero");
+
+		this.targetLatency = targetLatency;
+		this.minSize = minSize;
+		this.maxSize = maxSize;
+		this.maxBytesPerBatch = maxBytesPerBatch;
+	}
+
+	/**
+	 * Builds a new definition with the maximum estimated bytes of a batch.
+	 *
+	 * @param maxBytesPerBatch The maximum estimated bytes of a batch
+	 *
+	 * @return The new definition
+	 */
+	public AdaptiveBatchSize withMaxBytesPerBatch(long maxBytesPerBatch)
+	{
+		return new AdaptiveBatchSize(targetLatency, minSize, maxSize, maxBytesPerBatch);
+	}
+
+	/**
+	 * Gets the expected latency of executing a batch.
+	 *
+	 * @return The target latency
+	 */
+	public Duration targetLatency()
+	{
+		return targetLatency;
+	}
+
+	/**
+	 * Gets the minimum batch size.
+	 *
+	 * @return The minimum batch size
+	 */
+	public int minSize()
+	{
+		return minSize;
+	}
+
+	/**
+	 * Gets the maximum batch size.
+	 *
+	 * @return The maximum batch size
+	 */
+	public int maxSize()
+	{
+		return maxSize;
+	}
+
+	/**
+	 * Gets the maximum estimated bytes of a batch.
+	 *
+	 * @return The maximum bytes
+	 */
+	public long maxBytesPerBatch()
+	{
+		return maxBytesPerBatch;
+	}
+
+	@Override
+	public String toString()
+	{
+		return String.format(
+			"AdaptiveBatchSize[%s, %d..%d, %d bytes]",
+			targetLatency, minSize, maxSize, maxBytesPerBatch
+		);
+	}
+}
@@ -0,0 +1,104 @@
+package guru.mikelue.foxglove.jdbc;
+
+import java.util.Map;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import guru.mikelue.foxglove.ColumnMeta;
+
+/**
+ * Adjusts the batch size by measured latency and estimated width of rows.
+ *
+ * @see AdaptiveBatchSize
+ */
+class AdaptiveBatchSizer implements BatchSizer {
+	/**
+	 * Only every N-th row is estimated for its width.
+	 */
+	private final static int SAMPLING_OF_ROWS = 16;
+
+	private final Logger logger = LoggerFactory.getLogger(AdaptiveBatchSizer.class);
+
+	private final AdaptiveBatchSize definition;
+	private final long targetNanos;
+
+	private int size;
+	private int sizeByWidth;
+	private long numberOfAddedRows = 0;
+	private double bytesPerRow = 0;
+
+	AdaptiveBatchSizer(AdaptiveBatchSize definition, int initialSize)
+	{
+		this.definition = definition;
+		this.targetNanos = definition.targetLatency().toNanos();
+		this.size = clamp(initialSize);
+		this.sizeByWidth = definition.maxSize();
+	}
+
+	@Override
+	public int size()
+	{
+		return Math.min(size, sizeByWidth);
+	}
+
+	@Override
+	public void onRowAdded(Map<ColumnMeta, Object> row)
+	{
+		if (numberOfAddedRows++ % SAMPLING_OF_ROWS != 0) {
+			return;
+		}
+
+		/*
+		 * Moving average of width of sampled rows
+		 */
+		var bytes = CommitPolicy.estimateBytes(row);
+		bytesPerRow = bytesPerRow == 0 ?
+			bytes : (bytesPerRow * 3 + bytes) / 4;
+		// :~)
+
+		sizeByWidth = clamp(
+			(long)(definition.maxBytesPerBatch() / Math.max(1, bytesPerRow))
+		);
+	}
+
+	@Override
+	public void onBatchExecuted(int numberOfRows, long elapsedNanos)
+	{
+		/*
+		 * Only a full batch gives the meaningful latency
+		 */
+		if (numberOfRows < size()) {
+			return;
+		}
+		// :~)
+
+		var nanosPerRow = Math.max(1, elapsedNanos / numberOfRows);
+		var sizeByLatency = targetNanos / nanosPerRow;
+
+		/*
+		 * The change is bound to be doubled or halved
+		 */
+		var newSize = clamp(
+			Math.max(size / 2, Math.min((long)size * 2, sizeByLatency))
+		);
+		// :~)
+
+		if (newSize != size) {
+			logger.debug(
+				"Batch size: [{}] -> [{}]. Latency of [{}] rows: {} ns",
+				size, newSize, numberOfRows, elapsedNanos
+			);
+		}
+
+		size = newSize;
+	}
+
+	private int clamp(long value)
+	{
+		return (int)Math.max(
+			definition.minSize(),
+			Math.min(definition.maxSize(), value)
+		);
+	}
+}
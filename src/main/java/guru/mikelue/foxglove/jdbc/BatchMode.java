@@ -0,0 +1,35 @@
+package guru.mikelue.foxglove.jdbc;
+
+import java.sql.PreparedStatement;
+
+/**
+ * Defines the shape of statements used to insert generated rows.
+ *
+ * @see JdbcDataGenerator#setBatchMode(BatchMode)
+ */
+public enum BatchMode {
+	/**
+	 * One parameter set per row, which is collected by {@link PreparedStatement#addBatch()}.
+	 *
+	 * <p>
+	 * For Derby, SQLite and MSSQL, every row is executed individually.
+	 */
+	Default,
+	/**
+	 * Multiple rows per statement, like {@code INSERT INTO t (c1, c2) VALUES (?, ?), (?, ?), ...}.
+	 *
+	 * <p>
+	 * The number of rows in a statement is bound by the batch size and
+	 * the maximum number of parameters allowed by the JDBC driver.
+	 *
+	 * <p>
+	 * This mode falls back to {@link #Default} when:
+	 *
+	 * <ul>
+	 *   <li>The database doesn't support multi-row {@code VALUES}(e.g., Oracle).</li>
+	 *   <li>The JDBC driver gives only the last generated key(Derby, SQLite, MSSQL) and
+	 *       the table facet keeps values of auto-generated columns for other facets.</li>
+	 * </ul>
+	 */
+	MultiRowValues
+}
@@ -0,0 +1,59 @@
+package guru.mikelue.foxglove.jdbc;
+
+import java.util.Map;
+
+import guru.mikelue.foxglove.ColumnMeta;
+
+/**
+ * Gives the batch size of a table facet, which could be changed by the feedback of {@link BatchWorker}.
+ */
+interface BatchSizer {
+	static BatchSizer fixed(int batchSize)
+	{
+		return () -> batchSize;
+	}
+
+	/**
+	 * Shares the sizer among threads, e.g., the lanes of {@link ParallelFacetInserter}.
+	 */
+	static BatchSizer synchronizedOf(BatchSizer sizer)
+	{
+		return new BatchSizer() {
+			@Override
+			public synchronized int size()
+			{
+				return sizer.size();
+			}
+
+			@Override
+			public synchronized void onRowAdded(Map<ColumnMeta, Object> row)
+			{
+				sizer.onRowAdded(row);
+			}
+
+			@Override
+			public synchronized void onBatchExecuted(int numberOfRows, long elapsedNanos)
+			{
+				sizer.onBatchExecuted(numberOfRows, elapsedNanos);
+			}
+		};
+	}
+
+	/**
+	 * The current batch size.
+	 */
+	int size();
+
+	/**
+	 * Called before the row is added to batch.
+	 */
+	default void onRowAdded(Map<ColumnMeta, Object> row) {}
+
+	/**
+	 * Called after a batch is executed.
+	 *
+	 * @param numberOfRows The number of rows in the batch
+	 * @param elapsedNanos The elapsed time of execution
+	 */
+	default void onBatchExecuted(int numberOfRows, long elapsedNanos) {}
+}
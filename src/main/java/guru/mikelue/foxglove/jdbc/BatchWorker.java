@@ -4,18 +4,16 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.sql.PreparedStatement;
-import java.sql.ResultSet;
 import java.sql.SQLException;
-import java.util.HashMap;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
-import java.util.Optional;
 import java.util.function.Consumer;
 import java.util.function.Function;
-import java.util.regex.Pattern;
 
 import guru.mikelue.foxglove.ColumnMeta;
 import guru.mikelue.foxglove.TupleAccessor;
+import guru.mikelue.foxglove.jdbc.DriverCapabilities.KeysOfBatch;
 import guru.mikelue.foxglove.setting.DataSettingInfo;
 
 /**
@@ -25,9 +23,14 @@ import guru.mikelue.foxglove.setting.DataSettingInfo;
  * <ul>
  *   <li>Derby, SQLite - Only get generated value of latest inserted row</li>
  *   <li>MSSQL - Only able to get value by {@link PreparedStatement#executeUpdate()}</li>
- *   <li>Otherwise, gets the generated values by {@link PreparedStatement#executeBatch}</li>
+ *   <li>Otherwise, gets the generated values by {@link PreparedStatement#executeLargeBatch}</li>
  * </ul>
  *
+ * If the generated values are not needed(e.g., the keys are pre-assigned by {@link KeyPreAssigner}),
+ * {@link PreparedStatement#executeLargeBatch} is used for all of the databases.
+ *
+ * The drivers not listed below are asked by {@link DriverCapabilities}, see {@link ProbingBatchWorker}.
+ *
  * Microsoft JDBC Driver 11.2 for SQL Server
  * Apache Derby Embedded JDBC Driver
  * SQLite JDBC
@@ -37,97 +40,99 @@ import guru.mikelue.foxglove.setting.DataSettingInfo;
  * MySQL Connector/J
  * Oracle JDBC driver
  */
-interface BatchWorker {
-	static Pattern DRIVER_FOR_SINGLE_WORKER = Pattern.compile(
-		"(?i).*(derby|sqlite|microsoft).*"
-	);
-
+interface BatchWorker extends AutoCloseable {
+	/**
+	 * Builds the worker by the capabilities of driver.
+	 *
+	 * <ul>
+	 *   <li>The driver without batch updates - {@link SingleBatchWorker}</li>
+	 *   <li>The driver giving all of the generated keys(or the keys are not kept) -
+	 *       {@link MultiRowBatchWorker} by {@link BatchMode#MultiRowValues}, otherwise {@link PluralBatchWorker}</li>
+	 *   <li>The driver giving only the latest key - {@link RangeQueryBatchWorker} if the range query is preferred,
+	 *       otherwise {@link SingleBatchWorker}</li>
+	 *   <li>The driver without generated keys - {@link RangeQueryBatchWorker} if the range query is viable</li>
+	 *   <li>The driver not probed yet - {@link ProbingBatchWorker}</li>
+	 * </ul>
+	 *
+	 * @param multiRowStatement The preparer of multi-row statement, could be null if
+	 * the mode is not {@link BatchMode#MultiRowValues}
+	 * @param keyRangeQuery The query of generated keys by range, could be null if it is not viable for the table
+	 * @param preferringRangeQuery Whether or not the {@link GeneratedKeyRetrieval#RangeQuery} is set
+	 * @param batchSizer The size of batch, which is only adjusted at runtime for {@link PluralBatchWorker}
+	 * @param keepingGeneratedValues Whether or not the generated values by database are kept by
+	 * {@link ValueTomb}, the generated keys are not fetched if this value is false
+	 */
 	static BatchWorker newInstance(
-		String dbDriverName,
-		PreparedStatement stmt, String[] askedGeneratedColumns,
+		DriverCapabilities capabilities, BatchMode batchMode,
+		PreparedStatement stmt, MultiRowStatementPreparer multiRowStatement,
+		KeyRangeQuery keyRangeQuery, boolean preferringRangeQuery,
+		String[] askedGeneratedColumns,
 		Consumer<List<TupleAccessor>> generatedValuesConsumer,
-		int batchSize,
-		DataSettingInfo dataSettingInfo
+		BatchSizer batchSizer,
+		DataSettingInfo dataSettingInfo,
+		boolean keepingGeneratedValues
 	) {
-		var WorkerAssistance = new WorkerAssistance(
+		var workerAssistance = new WorkerAssistance(
 			stmt, new GeneratedValueLoader(askedGeneratedColumns),
-			generatedValuesConsumer, dataSettingInfo
+			generatedValuesConsumer, dataSettingInfo,
+			keepingGeneratedValues
 		);
 
-		if (DRIVER_FOR_SINGLE_WORKER.matcher(dbDriverName).matches()) {
-			return new SingleBatchWorker(stmt, WorkerAssistance);
-		}
-
-		return new PluralBatchWorker(stmt, batchSize, WorkerAssistance);
-	}
+		Function<KeysOfBatch, BatchWorker> workerByKeys = keysOfBatch -> {
+			if (!capabilities.supportsBatchUpdates()) {
+				return new SingleBatchWorker(stmt, workerAssistance);
+			}
 
-	void addBatch(Map<ColumnMeta, Object> paramSet) throws SQLException;
-	void executeBatch() throws SQLException;
-}
+			var givingAllKeys = !keepingGeneratedValues || keysOfBatch == KeysOfBatch.All;
+
+			/*
+			 * Only the driver gives all of the generated keys of a multi-row statement
+			 * could be used if the generated values are needed.
+			 */
+			if (
+				batchMode == BatchMode.MultiRowValues && multiRowStatement != null &&
+				capabilities.supportsMultiRowValues() && givingAllKeys
+			) {
+				return new MultiRowBatchWorker(
+					stmt, multiRowStatement,
+					capabilities.rowsPerMultiRowStatement(
+						multiRowStatement.numberOfColumns(), batchSizer.size()
+					),
+					workerAssistance
+				);
+			}
+			// :~)
 
-class WorkerAssistance {
-	private final PreparedStatement stmt;
-	private final Consumer<List<TupleAccessor>> generatedValuesConsumer;
-	private final GeneratedValueLoader generatedValueLoader;
-	private final Map<SetParameterIndex, CustomStatementSetter<?>> paramSetterCache = new HashMap<>(32);
-	private final CustomStatementSetterProvider paramSetterProvider;
-
-	WorkerAssistance(
-		PreparedStatement stmt,
-		GeneratedValueLoader generatedValueLoader,
-		Consumer<List<TupleAccessor>> generatedValuesConsumer,
-		DataSettingInfo dataSettingInfo
-	) {
-		this.stmt = stmt;
-		this.generatedValuesConsumer = generatedValuesConsumer;
-		this.generatedValueLoader = generatedValueLoader;
-		this.paramSetterProvider = dataSettingInfo::getStatementSetter;
-	}
+			if (givingAllKeys) {
+				return new PluralBatchWorker(stmt, batchSizer, workerAssistance);
+			}
 
-	final protected void setParams(Map<ColumnMeta, Object> paramSet) throws SQLException
-	{
-		setParams(stmt, paramSet, paramSetterCache);
-	}
+			return switch (keysOfBatch) {
+				case None -> keyRangeQuery != null ?
+					new RangeQueryBatchWorker(stmt, keyRangeQuery, batchSizer, workerAssistance) :
+					new SingleBatchWorker(stmt, workerAssistance);
+				case LastOnly -> keyRangeQuery != null && preferringRangeQuery ?
+					new RangeQueryBatchWorker(stmt, keyRangeQuery, batchSizer, workerAssistance) :
+					new SingleBatchWorker(stmt, workerAssistance);
+				default -> throw new IllegalStateException("Unexpected keys of batch: " + keysOfBatch);
+			};
+		};
+
+		if (
+			capabilities.keysOfBatch() == KeysOfBatch.Unknown &&
+			capabilities.supportsBatchUpdates() && keepingGeneratedValues
+		) {
+			return new ProbingBatchWorker(stmt, capabilities, workerAssistance, workerByKeys);
+		}
 
-	final protected void consumeValues(ResultSet rs) throws SQLException
-	{
-		generatedValuesConsumer.accept(
-			generatedValueLoader.toTuples(rs)
-		);
+		return workerByKeys.apply(capabilities.keysOfBatch());
 	}
 
-	@SuppressWarnings("unchecked")
-	private void setParams(
-		PreparedStatement stmt, Map<ColumnMeta, Object> paramSet,
-		Map<SetParameterIndex, CustomStatementSetter<?>> setterCache
-	) throws SQLException {
-		var paramIndex = 1;
-
-		for (ColumnMeta columnMeta: paramSet.keySet()) {
-			var jdbcType = columnMeta.jdbcType();
-			var value = paramSet.get(columnMeta);
-
-			CustomStatementSetter<Object> setParamFunc;
-
-			if (value == null) {
-				setParamFunc = (localStmt, localIndex, meta, localValue) ->
-					stmt.setNull(localIndex, jdbcType.getVendorTypeNumber());
-			} else {
-				setParamFunc = (CustomStatementSetter<Object>)setterCache.computeIfAbsent(
-					new SetParameterIndex(columnMeta, value.getClass()),
-					index -> paramSetterProvider.apply(columnMeta)
-						.orElseGet(
-							() -> {
-								return ParameterSetterFactory.smartSetterImpl(index);
-							}
-						)
-				);
-			}
+	void addBatch(Map<ColumnMeta, Object> paramSet) throws SQLException;
+	void executeBatch() throws SQLException;
 
-			setParamFunc.setParameter(stmt, paramIndex, columnMeta, value);
-			paramIndex++;
-		}
-	}
+	@Override
+	default void close() throws SQLException {}
 }
 
 class PluralBatchWorker implements BatchWorker {
@@ -135,27 +140,28 @@ class PluralBatchWorker implements BatchWorker {
 
 	private final WorkerAssistance assistance;
 	private final PreparedStatement stmt;
-	private final int batchSize;
+	private final BatchSizer batchSizer;
 	private int unExecutedNumberOfRows = 0;
 
 	PluralBatchWorker(
-		PreparedStatement stmt, int batchSize,
+		PreparedStatement stmt, BatchSizer batchSizer,
 		WorkerAssistance assistance
 	) {
 		this.stmt = stmt;
-		this.batchSize = batchSize;
+		this.batchSizer = batchSizer;
 		this.assistance = assistance;
 	}
 
 	@Override
 	public void addBatch(Map<ColumnMeta, Object> paramSet) throws SQLException
 	{
+		batchSizer.onRowAdded(paramSet);
 		assistance.setParams(paramSet);
 
 		stmt.addBatch();
 		unExecutedNumberOfRows++;
 
-		if (unExecutedNumberOfRows >= batchSize) {
+		if (unExecutedNumberOfRows >= batchSizer.size()) {
 			executeBatch();
 		}
 	}
@@ -167,51 +173,119 @@ class PluralBatchWorker implements BatchWorker {
 			return;
 		}
 
-		logger.debug("Executing for [{}] statements of batch[{}]", unExecutedNumberOfRows, batchSize);
+		logger.debug("Executing for [{}] statements of batch[{}]", unExecutedNumberOfRows, batchSizer.size());
+
+		var startNanos = System.nanoTime();
+		assistance.executeBatch(stmt);
+		batchSizer.onBatchExecuted(unExecutedNumberOfRows, System.nanoTime() - startNanos);
 
-		stmt.executeBatch();
 		unExecutedNumberOfRows = 0;
 
-		try (var rs = stmt.getGeneratedKeys()) {
-			assistance.consumeValues(rs);
-		}
+		assistance.consumeGeneratedValues(stmt);
 	}
 }
 
-class SingleBatchWorker implements BatchWorker {
-	private Logger logger = LoggerFactory.getLogger(SingleBatchWorker.class);
+/**
+ * Puts multiple rows into one statement of {@code INSERT INTO ... VALUES (...), (...), ...}.
+ *
+ * The statement for full rows is prepared once, the remaining rows(less than full rows)
+ * are executed by a statement with smaller number of rows.
+ */
+class MultiRowBatchWorker implements BatchWorker {
+	private Logger logger = LoggerFactory.getLogger(MultiRowBatchWorker.class);
 
 	private final WorkerAssistance assistance;
-	private final PreparedStatement stmt;
-	private int counter = 0;
-
-	SingleBatchWorker(
-		PreparedStatement stmt, WorkerAssistance assistance
+	private final PreparedStatement singleRowStmt;
+	private final MultiRowStatementPreparer stmtPreparer;
+	private final int rowsPerStatement;
+	private final List<Map<ColumnMeta, Object>> pendingRows;
+
+	private PreparedStatement fullRowsStmt = null;
+	private int executedNumberOfRows = 0;
+
+	MultiRowBatchWorker(
+		PreparedStatement singleRowStmt,
+		MultiRowStatementPreparer stmtPreparer,
+		int rowsPerStatement,
+		WorkerAssistance assistance
 	) {
-		this.stmt = stmt;
+		this.singleRowStmt = singleRowStmt;
+		this.stmtPreparer = stmtPreparer;
+		this.rowsPerStatement = rowsPerStatement;
 		this.assistance = assistance;
+		this.pendingRows = new ArrayList<>(rowsPerStatement);
+
+		logger.debug("Using [{}] rows per statement", rowsPerStatement);
 	}
 
 	@Override
 	public void addBatch(Map<ColumnMeta, Object> paramSet) throws SQLException
 	{
-		assistance.setParams(paramSet);
-
-		stmt.executeUpdate();
-		counter++;
+		pendingRows.add(paramSet);
 
-		try (var rs = stmt.getGeneratedKeys()) {
-			assistance.consumeValues(rs);
+		if (pendingRows.size() >= rowsPerStatement) {
+			executePendingRows();
 		}
 	}
 
 	@Override
 	public void executeBatch() throws SQLException
 	{
-		logger.debug("Have executed [{}] statements individually", counter);
-		counter = 0;
+		executePendingRows();
+
+		logger.debug("Have executed [{}] rows by multi-row statements", executedNumberOfRows);
+		executedNumberOfRows = 0;
 	}
-}
 
-@FunctionalInterface
-interface CustomStatementSetterProvider extends Function<ColumnMeta, Optional<CustomStatementSetter<?>>> {}
+	@Override
+	public void close() throws SQLException
+	{
+		if (fullRowsStmt != null && fullRowsStmt != singleRowStmt) {
+			fullRowsStmt.close();
+		}
+		fullRowsStmt = null;
+	}
+
+	private void executePendingRows() throws SQLException
+	{
+		var numberOfRows = pendingRows.size();
+		if (numberOfRows == 0) {
+			return;
+		}
+
+		if (numberOfRows == rowsPerStatement) {
+			if (fullRowsStmt == null) {
+				fullRowsStmt = rowsPerStatement == 1 ?
+					singleRowStmt : stmtPreparer.prepare(rowsPerStatement);
+			}
+
+			executeRows(fullRowsStmt);
+		} else if (numberOfRows == 1) {
+			executeRows(singleRowStmt);
+		} else {
+			/*
+			 * The statement for remaining rows is used only once
+			 */
+			try (var remainingRowsStmt = stmtPreparer.prepare(numberOfRows)) {
+				executeRows(remainingRowsStmt);
+			}
+			// :~)
+		}
+
+		executedNumberOfRows += numberOfRows;
+		pendingRows.clear();
+	}
+
+	private void executeRows(PreparedStatement stmt) throws SQLException
+	{
+		var paramIndex = 1;
+		for (var paramSet: pendingRows) {
+			assistance.setParams(stmt, paramIndex, paramSet);
+			paramIndex += paramSet.size();
+		}
+
+		stmt.executeUpdate();
+
+		assistance.consumeGeneratedValues(stmt);
+	}
+}
@@ -0,0 +1,165 @@
+package guru.mikelue.foxglove.jdbc;
+
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.JDBCType;
+import java.sql.SQLException;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import guru.mikelue.foxglove.ColumnMeta;
+
+/**
+ * Loads a staged CSV file(written by {@link CsvRowSink} without header) into a table
+ * by the import of database in one statement.
+ *
+ * <ul>
+ *   <li>H2 - {@code INSERT INTO ... SELECT ... FROM CSVREAD(...)}</li>
+ *   <li>Derby - {@code CALL SYSCS_UTIL.SYSCS_IMPORT_DATA(...)}</li>
+ * </ul>
+ *
+ * <p>
+ * The file must be readable by the database, which is the case of embedded databases.
+ */
+class BulkLoader {
+	private enum Vendor {
+		H2, Derby
+	}
+
+	private final static Pattern DRIVER_OF_H2 = Pattern.compile("(?i).*h2.*");
+	private final static Pattern DRIVER_OF_DERBY = Pattern.compile("(?i).*derby.*");
+
+	private final static Set<JDBCType> BINARY_TYPES = EnumSet.of(
+		JDBCType.BINARY, JDBCType.VARBINARY, JDBCType.LONGVARBINARY, JDBCType.BLOB
+	);
+
+	/**
+	 * Builds the loader by the name of JDBC driver.
+	 *
+	 * @return null if the database is not supported
+	 */
+	static BulkLoader of(String driverName)
+	{
+		if (DRIVER_OF_H2.matcher(driverName).matches()) {
+			return new BulkLoader(Vendor.H2);
+		}
+		if (DRIVER_OF_DERBY.matcher(driverName).matches()) {
+			return new BulkLoader(Vendor.Derby);
+		}
+
+		return null;
+	}
+
+	private final Logger logger = LoggerFactory.getLogger(BulkLoader.class);
+
+	private final Vendor vendor;
+
+	private BulkLoader(Vendor vendor)
+	{
+		this.vendor = vendor;
+	}
+
+	/**
+	 * Checks whether or not the rows of table could be loaded by this loader.
+	 *
+	 * <ul>
+	 *   <li>The generated values could only be read back by the range of a single key({@link KeyRangeQuery}).</li>
+	 *   <li>H2 converts text to binary by UTF-8 rather than hexadecimal digits, the binary columns are not supported.</li>
+	 * </ul>
+	 */
+	boolean isApplicable(
+		List<ColumnMeta> targetColumns,
+		boolean keepingGeneratedValues, String[] namesOfGeneratedColumns
+	) {
+		if (keepingGeneratedValues && namesOfGeneratedColumns.length != 1) {
+			return false;
+		}
+
+		return vendor != Vendor.H2 ||
+			targetColumns.stream().noneMatch(BulkLoader::isBinary);
+	}
+
+	/**
+	 * Imports the rows of file into the table.
+	 *
+	 * @param columns The columns of table, in the order of fields in file
+	 * @param file The CSV file without header
+	 */
+	void load(
+		Connection conn, String tableName, List<ColumnMeta> columns,
+		Path file
+	) throws SQLException {
+		var sql = switch (vendor) {
+			case H2 -> buildSqlOfH2(conn, tableName, columns, file);
+			case Derby -> buildSqlOfDerby(conn, tableName, columns, file);
+		};
+
+		logger.debug("Bulk loading [{}] by:\n\t{}", tableName, sql);
+
+		try (var stmt = conn.createStatement()) {
+			stmt.execute(sql);
+		}
+	}
+
+	private static String buildSqlOfH2(
+		Connection conn, String tableName, List<ColumnMeta> columns,
+		Path file
+	) throws SQLException {
+		var sql = MetaUtils.buildInsertSql(conn.getMetaData(), tableName, columns);
+		var insertClause = sql.substring(0, sql.indexOf("\nVALUES"));
+
+		var selectedFields = IntStream.range(0, columns.size())
+			.mapToObj(i -> String.format("\"C%d\"", i + 1))
+			.collect(Collectors.joining(", "));
+		var namesOfFields = IntStream.range(0, columns.size())
+			.mapToObj(i -> "C" + (i + 1))
+			.collect(Collectors.joining(","));
+
+		return String.format(
+			"%s\nSELECT %s FROM CSVREAD(%s, '%s', 'charset=UTF-8 fieldSeparator=,')",
+			insertClause, selectedFields,
+			toLiteral(file.toAbsolutePath().toString()), namesOfFields
+		);
+	}
+
+	/**
+	 * The identifiers of SYSCS_IMPORT_DATA are the ones stored in catalog.
+	 */
+	private static String buildSqlOfDerby(
+		Connection conn, String tableName, List<ColumnMeta> columns,
+		Path file
+	) throws SQLException {
+		var storedTableName = conn.getMetaData().storesUpperCaseIdentifiers() ?
+			tableName.toUpperCase() : tableName;
+		var insertColumns = columns.stream()
+			.map(meta -> "\"" + meta.name() + "\"")
+			.collect(Collectors.joining(","));
+
+		return String.format(
+			"CALL SYSCS_UTIL.SYSCS_IMPORT_DATA(NULL, %s, %s, NULL, %s, ',', '\"', 'UTF-8', 0)",
+			toLiteral(storedTableName), toLiteral(insertColumns),
+			toLiteral(file.toAbsolutePath().toString())
+		);
+	}
+
+	/**
+	 * H2 gives {@link JDBCType#BINARY} for {@code UUID}, which is written as text.
+	 */
+	private static boolean isBinary(ColumnMeta column)
+	{
+		return BINARY_TYPES.contains(column.jdbcType()) &&
+			!"UUID".equalsIgnoreCase(column.typeName());
+	}
+
+	private static String toLiteral(String text)
+	{
+		return "'" + text.replace("'", "''") + "'";
+	}
+}
@@ -1,17 +1,23 @@
 package guru.mikelue.foxglove.jdbc;
 
-import java.util.ArrayList;
 import java.util.List;
 import java.util.function.Supplier;
 
+import org.apache.commons.lang3.Validate;
 import org.instancio.Instancio;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import guru.mikelue.foxglove.functional.RoundRobinValueSupplier;
+import guru.mikelue.foxglove.functional.StatefulSupplier;
 
 import static guru.mikelue.foxglove.functional.Suppliers.lazySupplier;
 
+/**
+ * Repeats every value of parent by the cardinality, which is decided when the values of parent are available.
+ *
+ * <p>
+ * Only the number of children per parent is kept, so the memory is not growing with the number of rows.
+ */
 class CardinalityInfo<T> {
 	private final Logger logger = LoggerFactory.getLogger(ReferenceSettingStepImpl.class);
 
@@ -20,7 +26,8 @@ class CardinalityInfo<T> {
 	private final ValueTomb valueTomb;
 
 	private List<T> values = null;
-	private int numberOfRows = -1;
+	private int[] numbersOfChildren = null;
+	private long numberOfRows = -1;
 
 	CardinalityInfo(
 		int min, int max,
@@ -36,7 +43,7 @@ class CardinalityInfo<T> {
 		}
 	}
 
-	int getNumberOfRows()
+	long getNumberOfRows()
 	{
 		init();
 		return numberOfRows;
@@ -49,7 +56,6 @@ class CardinalityInfo<T> {
 		}
 
 		var sourceValues = valueTomb.<T>getValues(columnName);
-		this.values = new ArrayList<>(sourceValues.size());
 
 		logger.debug(
 			"Setting up reference values for column[{}]. Parent size[{}].",
@@ -57,10 +63,11 @@ class CardinalityInfo<T> {
 		);
 
 		/*
-		 * Builds the list of values by cardinality number
+		 * Decides the number of children for every value of parent
 		 */
-		int newNumberOfRows = 0;
-		for (var sourceValue: sourceValues) {
+		var newNumbersOfChildren = new int[sourceValues.size()];
+		long newNumberOfRows = 0;
+		for (int i = 0; i < newNumbersOfChildren.length; i++) {
 			int numberOfChildren = numberPerParent.get();
 
 			logger.trace(
@@ -68,14 +75,13 @@ class CardinalityInfo<T> {
 				columnName, numberOfChildren
 			);
 
-			for (int i = 0; i < numberOfChildren; i++) {
-				this.values.add(sourceValue);
-			}
-
+			newNumbersOfChildren[i] = numberOfChildren;
 			newNumberOfRows += numberOfChildren;
 		}
 
+		this.numbersOfChildren = newNumbersOfChildren;
 		this.numberOfRows = newNumberOfRows;
+		this.values = sourceValues;
 		// :~)
 	}
 
@@ -84,8 +90,30 @@ class CardinalityInfo<T> {
 		return lazySupplier(
 			() -> {
 				init();
-				return RoundRobinValueSupplier.of(values);
+				return new RepeatedValueSupplier();
 			}
 		);
 	}
+
+	/**
+	 * Supplies every value of parent by its number of children, starts over after the last one.
+	 */
+	private class RepeatedValueSupplier implements StatefulSupplier<T> {
+		private int indexOfParent = 0;
+		private int suppliedOfParent = 0;
+
+		@Override
+		public T get()
+		{
+			Validate.validState(numberOfRows > 0, "No row for cardinality of column[%s]", columnName);
+
+			while (suppliedOfParent >= numbersOfChildren[indexOfParent]) {
+				indexOfParent = (indexOfParent + 1) % numbersOfChildren.length;
+				suppliedOfParent = 0;
+			}
+
+			suppliedOfParent++;
+			return values.get(indexOfParent);
+		}
+	}
 }
@@ -3,15 +3,23 @@ package guru.mikelue.foxglove.jdbc;
 import java.util.*;
 import java.util.function.Supplier;
 
-import guru.mikelue.foxglove.functional.RoundRobinValueSupplier;
+import guru.mikelue.foxglove.functional.StatefulSupplier;
 
 import static guru.mikelue.foxglove.functional.Suppliers.lazySupplier;
 
+/**
+ * Builds the suppliers of columns for Cartesian product of their domains.
+ *
+ * <p>
+ * The value of a row is computed from the index of row, so the memory is not growing with the number of rows.
+ */
 class CartesianProductBuilder {
 	private Map<String, Supplier<List<?>>> domainProviders = new LinkedHashMap<>(2);
-	// As the suppliers for expanded values
+	// The source values of domains
 	private Map<String, List<?>> finalValues;
-	private int numberOfRows = -1;
+	// The number of rows for Cartesian product of rest columns(the times a value is repeated)
+	private Map<String, Long> repeatedTimesOfColumns;
+	private long numberOfRows = -1;
 
 	CartesianProductBuilder() {}
 
@@ -23,7 +31,7 @@ class CartesianProductBuilder {
 		domainProviders.put(columnName, newSupplier);
 	}
 
-	int getNumberOfRows()
+	long getNumberOfRows()
 	{
 		init();
 		return numberOfRows;
@@ -46,7 +54,20 @@ class CartesianProductBuilder {
 			init();
 
 			var values = (List<T>)finalValues.get(columnName);
-			return RoundRobinValueSupplier.of(values);
+			long repeatedTimes = repeatedTimesOfColumns.get(columnName);
+
+			return new StatefulSupplier<T>() {
+				private long rowIndex = 0;
+
+				@Override
+				public T get()
+				{
+					var value = values.get((int)((rowIndex / repeatedTimes) % values.size()));
+					rowIndex++;
+
+					return value;
+				}
+			};
 		});
 	}
 
@@ -56,8 +77,6 @@ class CartesianProductBuilder {
 			return;
 		}
 
-		finalValues = new HashMap<>(domainProviders.size());
-
 		/*
 		 * Builds the source of domain values and calculate repeating times for each column.
 		 */
@@ -66,63 +85,35 @@ class CartesianProductBuilder {
 			.forEach(entry ->
 				sourceValues.put(
 					entry.getKey(),
-					entry.getValue().get()
+					List.copyOf(entry.getValue().get())
 				)
 			);
 
-		var expandedSizesOfRestColumns = new HashMap<String, Integer>(domainProviders.size());
+		var expandedSizesOfRestColumns = new HashMap<String, Long>(domainProviders.size());
 		numberOfRows = buildProductNumberOfRestColumns(sourceValues, expandedSizesOfRestColumns);
 		// :~)
 
-		for (var columnName: domainProviders.keySet()) {
-			var sourceValuesOfCurrentColumn = sourceValues.get(columnName);
-			int repeatedTimes = expandedSizesOfRestColumns.get(columnName);;
-
-			var expandedValuesOfCurrentColumn = new ArrayList<Object>(numberOfRows);
-
-			/*
-			 * Adds all of the values for current column
-			 * by pre-calculating the number of repetitions.
-			 */
-			for (int i = 0; i < numberOfRows;) {
-				for (var v: sourceValuesOfCurrentColumn) {
-					/*
-					 * Adds the same number of supplierOfValues corresponding to
-					 * Cartesian product of rest columns.
-					 */
-					for (int t = 0; t < repeatedTimes; t++) {
-						expandedValuesOfCurrentColumn.add(v);
-					}
-					// :~)
-
-					i += repeatedTimes;
-				}
-			}
-			// :~)
-
-			finalValues.put(
-				columnName, expandedValuesOfCurrentColumn
-			);
-		}
+		repeatedTimesOfColumns = expandedSizesOfRestColumns;
+		finalValues = sourceValues;
 	}
 
-	private int buildProductNumberOfRestColumns(
-		Map<String, List<?>> sourceValues, Map<String, Integer> expandedSizes
+	private long buildProductNumberOfRestColumns(
+		Map<String, List<?>> sourceValues, Map<String, Long> expandedSizes
 	) {
-		var productNumberOfRows = 1;
+		long productNumberOfRows = 1;
 		var columnNames = new ArrayList<>(sourceValues.keySet());
 
 		/*
 		 * Caches the number of rows for Cartesian product for
 		 * rest of columns on every column.
 		 */
-		for (var i = sourceValues.size() - 1; i >= 0; i--) {
+		for (var i = columnNames.size() - 1; i >= 0; i--) {
 			var currentColumnName = columnNames.get(i);
 			var sizeOfCurrentColumn = sourceValues.get(currentColumnName).size();
-			productNumberOfRows *= sizeOfCurrentColumn;
+			productNumberOfRows = Math.multiplyExact(productNumberOfRows, sizeOfCurrentColumn);
 
-			if (i == sourceValues.size() - 1) {
-				expandedSizes.put(currentColumnName, 1);
+			if (i == columnNames.size() - 1) {
+				expandedSizes.put(currentColumnName, 1L);
 				continue;
 			}
 
@@ -130,8 +121,6 @@ class CartesianProductBuilder {
 
 			/*
 			 * Calculates the number of rows for rest of columns.
-			 *
-			 * This is used to optimize the building of expanded supplierOfValues.
 			 */
 			var productSizeOfCurrentColumn = expandedSizes.get(nextColumnName) * sourceValues.get(nextColumnName).size();
 			expandedSizes.put(currentColumnName, productSizeOfCurrentColumn);
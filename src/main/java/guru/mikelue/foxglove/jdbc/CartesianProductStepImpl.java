@@ -32,6 +32,7 @@ class CartesianProductStepImpl<T> implements CartesianProductSettingStep<T> {
 	{
 		var valueTomb = referencedTable.getValueTomb();
 		valueTomb.keepColumn(referencedColumn);
+		parentBuilder.dependOn(referencedTable);
 
 		finalStageSetter.accept(() -> valueTomb.getValues(referencedColumn));
 		return parentBuilder;
@@ -0,0 +1,181 @@
+package guru.mikelue.foxglove.jdbc;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.CharBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+
+import static java.nio.file.StandardOpenOption.CREATE;
+import static java.nio.file.StandardOpenOption.TRUNCATE_EXISTING;
+import static java.nio.file.StandardOpenOption.WRITE;
+
+/**
+ * Writes UTF-8 text to a file through {@link FileChannel} with a direct buffer,
+ * which is optionally compressed as GZIP format.
+ *
+ * <p>
+ * The text is encoded into the direct buffer, which is written(or deflated) only if it is full,
+ * so there is no intermediate array of bytes on heap.
+ */
+class ChannelTextWriter implements AutoCloseable {
+	/**
+	 * The default capacity of direct buffer.
+	 */
+	final static int DEFAULT_BUFFER_SIZE = 4 * 1024 * 1024;
+
+	private final static byte[] GZIP_HEADER = {
+		0x1f, (byte)0x8b, Deflater.DEFLATED, 0, 0, 0, 0, 0, 0, (byte)0xff
+	};
+
+	private final FileChannel channel;
+	private final ByteBuffer buffer;
+	private final CharsetEncoder encoder = StandardCharsets.UTF_8.newEncoder();
+
+	/*
+	 * Only for GZIP
+	 */
+	private final Deflater deflater;
+	private final ByteBuffer deflatedBuffer;
+	private final CRC32 crc;
+	private long sizeOfInput = 0;
+	// :~)
+
+	/**
+	 * Creates(or truncates) the file.
+	 *
+	 * @param file The file to be written
+	 * @param gzip Whether or not the text is compressed
+	 * @param bufferSize The capacity of direct buffer
+	 */
+	ChannelTextWriter(Path file, boolean gzip, int bufferSize) throws IOException
+	{
+		channel = FileChannel.open(file, CREATE, TRUNCATE_EXISTING, WRITE);
+		buffer = ByteBuffer.allocateDirect(bufferSize);
+
+		if (gzip) {
+			deflater = new Deflater(Deflater.DEFAULT_COMPRESSION, true);
+			deflatedBuffer = ByteBuffer.allocateDirect(bufferSize);
+			crc = new CRC32();
+
+			writeFully(ByteBuffer.wrap(GZIP_HEADER));
+		} else {
+			deflater = null;
+			deflatedBuffer = null;
+			crc = null;
+		}
+	}
+
+	/**
+	 * Appends the text.
+	 */
+	ChannelTextWriter write(CharSequence text) throws IOException
+	{
+		var chars = CharBuffer.wrap(text);
+
+		while (true) {
+			var result = encoder.encode(chars, buffer, false);
+			if (result.isOverflow()) {
+				drain();
+				continue;
+			}
+			if (result.isError()) {
+				result.throwException();
+			}
+
+			break;
+		}
+
+		return this;
+	}
+
+	/**
+	 * Drains the remaining text(and the trailer of GZIP) and closes the file.
+	 */
+	@Override
+	public void close() throws IOException
+	{
+		try {
+			while (encoder.encode(CharBuffer.allocate(0), buffer, true).isOverflow()) {
+				drain();
+			}
+			while (encoder.flush(buffer).isOverflow()) {
+				drain();
+			}
+			drain();
+
+			if (deflater != null) {
+				finishGzip();
+			}
+
+			channel.force(false);
+		} finally {
+			if (deflater != null) {
+				deflater.end();
+			}
+			channel.close();
+		}
+	}
+
+	private void drain() throws IOException
+	{
+		buffer.flip();
+
+		if (deflater == null) {
+			writeFully(buffer);
+			buffer.clear();
+			return;
+		}
+
+		sizeOfInput += buffer.remaining();
+
+		/*
+		 * The deflater keeps the reference of input, which must not be affected by the clearing of buffer
+		 */
+		deflater.setInput(buffer.duplicate());
+		crc.update(buffer);
+		// :~)
+
+		while (!deflater.needsInput()) {
+			deflateToChannel();
+		}
+
+		buffer.clear();
+	}
+
+	private void finishGzip() throws IOException
+	{
+		deflater.finish();
+		while (!deflater.finished()) {
+			deflateToChannel();
+		}
+
+		var trailer = ByteBuffer.allocate(8)
+			.order(ByteOrder.LITTLE_ENDIAN)
+			.putInt((int)crc.getValue())
+			.putInt((int)sizeOfInput)
+			.flip();
+		writeFully(trailer);
+	}
+
+	private void deflateToChannel() throws IOException
+	{
+		deflater.deflate(deflatedBuffer);
+
+		deflatedBuffer.flip();
+		writeFully(deflatedBuffer);
+		deflatedBuffer.clear();
+	}
+
+	private void writeFully(ByteBuffer source) throws IOException
+	{
+		while (source.hasRemaining()) {
+			channel.write(source);
+		}
+	}
+}
@@ -0,0 +1,235 @@
+package guru.mikelue.foxglove.jdbc;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.apache.commons.lang3.Validate;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Records the committed rows of every table facet into a file, which is rewritten(atomically) on every commit.
+ *
+ * <p>
+ * If a generation is failed, another generation with the same list of table facets
+ * resumes from the last committed rows of the journal. The committed rows are generated again,
+ * but not inserted, so the state of suppliers(sequences, round-robin, etc.) and the
+ * values kept for referencing facets are the same as an uninterrupted generation,
+ * as long as the suppliers are deterministic.
+ *
+ * <p>
+ * The file is deleted after a successful generation.
+ *
+ * <pre><code class="java">
+ * new JdbcDataGenerator(dataSource)
+ *     .setCheckpointJournal(CheckpointJournal.of(Path.of("target/orders.checkpoint")))
+ *     .generate(orderFacets);
+ * </code></pre>
+ *
+ * @see JdbcDataGenerator#setCheckpointJournal(CheckpointJournal)
+ */
+public final class CheckpointJournal {
+	private final Logger logger = LoggerFactory.getLogger(CheckpointJournal.class);
+
+	private final static String HEADER = "# Foxglove checkpoint: <index of facet>\t<table>\t<committed rows>";
+
+	private record Entry(String tableName, long committedRows) {}
+
+	private final Path file;
+	private final Map<Integer, Entry> committedEntries = new TreeMap<>();
+	private final Map<Integer, Entry> pendingEntries = new TreeMap<>();
+
+	private int currentIndex = -1;
+	private String currentTableName;
+	private long currentSkippedRows = 0;
+
+	/**
+	 * Loads the journal from the file, an absent file is an empty journal.
+	 *
+	 * @param file The file of journal
+	 *
+	 * @return The journal
+	 */
+	public static CheckpointJournal of(Path file)
+	{
+		Validate.notNull(file, "File of journal must not be null");
+
+		var journal = new CheckpointJournal(file);
+		journal.load();
+
+		return journal;
+	}
+
+	private CheckpointJournal(Path file)
+	{
+		this.file = file;
+	}
+
+	/**
+	 * Gets the file of this journal.
+	 *
+	 * @return The file of journal
+	 */
+	public Path getFile()
+	{
+		return file;
+	}
+
+	/**
+	 * Gets the number of committed rows for a table facet.
+	 *
+	 * @param indexOfFacet The index of table facet in the list of generation
+	 *
+	 * @return The number of committed rows, {@code 0} if the facet hasn't been committed
+	 */
+	public synchronized long getCommittedRows(int indexOfFacet)
+	{
+		var entry = committedEntries.get(indexOfFacet);
+		return entry != null ? entry.committedRows() : 0;
+	}
+
+	/**
+	 * Removes the records and the file, the next generation starts from the beginning.
+	 */
+	public synchronized void reset()
+	{
+		committedEntries.clear();
+		pendingEntries.clear();
+
+		try {
+			Files.deleteIfExists(file);
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	/**
+	 * Starts the insertion of a table facet.
+	 *
+	 * @return The number of committed rows, which should be skipped
+	 */
+	synchronized long beginFacet(int indexOfFacet, String tableName, long numberOfRows)
+	{
+		var entry = committedEntries.get(indexOfFacet);
+
+		Validate.validState(
+			entry == null || entry.tableName().equalsIgnoreCase(tableName),
+			"Facet[%d] of checkpoint is table [%s], but [%s] is given: %s",
+			indexOfFacet, entry == null ? null : entry.tableName(), tableName, file
+		);
+
+		currentIndex = indexOfFacet;
+		currentTableName = tableName;
+		currentSkippedRows = entry != null ? entry.committedRows() : 0;
+
+		Validate.validState(
+			currentSkippedRows <= numberOfRows,
+			"Checkpoint has [%d] committed rows of table [%s], which is more than [%d] rows of facet: %s",
+			currentSkippedRows, tableName, numberOfRows, file
+		);
+
+		return currentSkippedRows;
+	}
+
+	/**
+	 * Records the executed(but not committed yet) rows of current facet.
+	 *
+	 * @param executedRows The number of executed rows since {@link #beginFacet(int, String, long)}
+	 */
+	synchronized void markExecuted(long executedRows)
+	{
+		if (currentIndex < 0) {
+			return;
+		}
+
+		pendingEntries.put(currentIndex, new Entry(currentTableName, currentSkippedRows + executedRows));
+	}
+
+	/**
+	 * Makes the executed rows committed, which is written to the file.
+	 */
+	synchronized void markCommitted()
+	{
+		if (pendingEntries.isEmpty()) {
+			return;
+		}
+
+		committedEntries.putAll(pendingEntries);
+		pendingEntries.clear();
+
+		write();
+	}
+
+	private void load()
+	{
+		if (!Files.exists(file)) {
+			return;
+		}
+
+		try {
+			for (var line: Files.readAllLines(file, StandardCharsets.UTF_8)) {
+				if (line.isBlank() || line.startsWith("#")) {
+					continue;
+				}
+
+				var fields = line.split("\t");
+				Validate.validState(fields.length == 3, "Illegal line of checkpoint: \"%s\"", line);
+
+				committedEntries.put(
+					Integer.parseInt(fields[0]),
+					new Entry(fields[1], Long.parseLong(fields[2]))
+				);
+			}
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+
+		logger.info("Resuming from checkpoint[{}]: {}", file, committedEntries);
+	}
+
+	/**
+	 * The content is written to a temporary file, which replaces the journal afterward.
+	 */
+	private void write()
+	{
+		var content = new StringBuilder(HEADER).append('\n');
+		committedEntries.forEach((index, entry) ->
+			content.append(index).append('\t')
+				.append(entry.tableName()).append('\t')
+				.append(entry.committedRows()).append('\n')
+		);
+
+		try {
+			var parent = file.toAbsolutePath().getParent();
+			if (parent != null) {
+				Files.createDirectories(parent);
+			}
+
+			var tempFile = file.resolveSibling(file.getFileName() + ".tmp");
+			Files.writeString(tempFile, content, StandardCharsets.UTF_8);
+
+			try {
+				Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+			} catch (AtomicMoveNotSupportedException e) {
+				Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING);
+			}
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+
+		logger.trace("Checkpoint is written: {}", committedEntries);
+	}
+
+	@Override
+	public String toString()
+	{
+		return String.format("CheckpointJournal[%s]", file);
+	}
+}
@@ -0,0 +1,120 @@
+package guru.mikelue.foxglove.jdbc;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import guru.mikelue.foxglove.ColumnMeta;
+
+/**
+ * Binds the value of a column(by ordinal) to statement, which is compiled once for the columns of a table facet.
+ *
+ * <p>
+ * The setter of a column is decided by:
+ *
+ * <ol>
+ *   <li>The {@link CustomStatementSetter} of column, which is resolved when the binder is compiled</li>
+ *   <li>{@code setInt/setLong/setDouble} for the value in primitive lane of {@link RowValues}</li>
+ *   <li>The setter by type of the first value, a value of other type falls back to the setters kept by type</li>
+ * </ol>
+ */
+final class ColumnBinder {
+	/**
+	 * Compiles the binders by ordinal of columns.
+	 */
+	static ColumnBinder[] compile(List<ColumnMeta> columns, CustomStatementSetterProvider setterProvider)
+	{
+		var binders = new ColumnBinder[columns.size()];
+
+		for (int i = 0; i < binders.length; i++) {
+			var columnMeta = columns.get(i);
+			binders[i] = new ColumnBinder(
+				columnMeta, setterProvider.apply(columnMeta).orElse(null)
+			);
+		}
+
+		return binders;
+	}
+
+	private final ColumnMeta columnMeta;
+	private final int sqlTypeOfNull;
+	private final CustomStatementSetter<Object> customSetter;
+
+	private Class<?> typeOfValue = null;
+	private CustomStatementSetter<Object> setterOfType = null;
+	private Map<Class<?>, CustomStatementSetter<Object>> settersOfOtherTypes = null;
+
+	@SuppressWarnings("unchecked")
+	private ColumnBinder(ColumnMeta columnMeta, CustomStatementSetter<?> customSetter)
+	{
+		this.columnMeta = columnMeta;
+		this.sqlTypeOfNull = columnMeta.jdbcType().getVendorTypeNumber();
+		this.customSetter = (CustomStatementSetter<Object>)customSetter;
+	}
+
+	void bind(PreparedStatement stmt, int paramIndex, RowValues row, int ordinal) throws SQLException
+	{
+		var primitiveType = row.primitiveTypeAt(ordinal);
+
+		if (primitiveType != null && customSetter == null) {
+			switch (primitiveType) {
+				case Int4 -> stmt.setInt(paramIndex, row.intAt(ordinal));
+				case Int8 -> stmt.setLong(paramIndex, row.longAt(ordinal));
+				case Float8 -> stmt.setDouble(paramIndex, row.doubleAt(ordinal));
+			}
+			return;
+		}
+
+		bind(stmt, paramIndex, row.valueAt(ordinal));
+	}
+
+	void bind(PreparedStatement stmt, int paramIndex, Object value) throws SQLException
+	{
+		if (value == null) {
+			stmt.setNull(paramIndex, sqlTypeOfNull);
+			return;
+		}
+
+		if (customSetter != null) {
+			customSetter.setParameter(stmt, paramIndex, columnMeta, value);
+			return;
+		}
+
+		setterOf(value.getClass())
+			.setParameter(stmt, paramIndex, columnMeta, value);
+	}
+
+	@SuppressWarnings("unchecked")
+	private CustomStatementSetter<Object> setterOf(Class<?> type)
+	{
+		if (type == typeOfValue) {
+			return setterOfType;
+		}
+
+		if (typeOfValue == null) {
+			typeOfValue = type;
+			setterOfType = (CustomStatementSetter<Object>)ParameterSetterFactory.smartSetterImpl(
+				new SetParameterIndex(columnMeta, type)
+			);
+
+			return setterOfType;
+		}
+
+		/*
+		 * The value of other type than the first one
+		 */
+		if (settersOfOtherTypes == null) {
+			settersOfOtherTypes = new HashMap<>(4);
+		}
+
+		return settersOfOtherTypes.computeIfAbsent(
+			type,
+			otherType -> (CustomStatementSetter<Object>)ParameterSetterFactory.smartSetterImpl(
+				new SetParameterIndex(columnMeta, otherType)
+			)
+		);
+		// :~)
+	}
+}
@@ -85,6 +85,7 @@ class ColumnSettingStepImpl<T> implements ColumnSimpleStep<T> {
 		Validate.notEmpty(safeReferencedColumn, "Referenced column must not be empty");
 
 		referencedTable.getValueTomb().keepColumn(safeReferencedColumn);
+		parentBuilder.dependOn(referencedTable);
 		return new ColumnFromStepImpl<T>(
 			parentBuilder,
 			referencedTable, referencedColumn,
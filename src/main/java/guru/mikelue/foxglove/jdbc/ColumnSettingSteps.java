@@ -207,7 +207,7 @@ public interface ColumnSettingSteps {
 		 * @return The builder for {@link JdbcTableFacet}
 		 *
 		 * @see #range(long, long)
-		 * @see #limit(int)
+		 * @see #limit(long)
 		 */
 		default Builder range(long end)
 		{
@@ -223,7 +223,7 @@ public interface ColumnSettingSteps {
 		 * @return The builder for {@link JdbcTableFacet}
 		 *
 		 * @see #range(long, long, int)
-		 * @see #limit(long, int)
+		 * @see #limit(long, long)
 		 */
 		default Builder range(long start, long end)
 		{
@@ -241,7 +241,7 @@ public interface ColumnSettingSteps {
 		 *
 		 * @see #range(long)
 		 * @see #range(long, long)
-		 * @see #limit(long, int, int)
+		 * @see #limit(long, long, int)
 		 */
 		Builder range(long start, long end, int step);
 
@@ -252,10 +252,10 @@ public interface ColumnSettingSteps {
 		 *
 		 * @return The builder for {@link JdbcTableFacet}
 		 *
-		 * @see #limit(long, int)
+		 * @see #limit(long, long)
 		 * @see #range(long)
 		 */
-		default Builder limit(int number)
+		default Builder limit(long number)
 		{
 			return limit(1, number, 1);
 		}
@@ -268,10 +268,10 @@ public interface ColumnSettingSteps {
 		 *
 		 * @return The builder for {@link JdbcTableFacet}
 		 *
-		 * @see #limit(long, int, int)
+		 * @see #limit(long, long, int)
 		 * @see #range(long, long)
 		 */
-		default Builder limit(long start, int number)
+		default Builder limit(long start, long number)
 		{
 			return limit(start, number, 1);
 		}
@@ -285,11 +285,11 @@ public interface ColumnSettingSteps {
 		 *
 		 * @return The builder for {@link JdbcTableFacet}
 		 *
-		 * @see #limit(int)
-		 * @see #limit(long, int)
+		 * @see #limit(long)
+		 * @see #limit(long, long)
 		 * @see #range(long, long, int)
 		 */
-		Builder limit(long start, int number, int step);
+		Builder limit(long start, long number, int step);
 
 		/**
 		 * Sets the domain of numbers to be used for key column.
@@ -299,7 +299,7 @@ public interface ColumnSettingSteps {
 		 * @return The builder for {@link JdbcTableFacet}
 		 *
 		 * @see #range(long, long, int)
-		 * @see #limit(long, int, int)
+		 * @see #limit(long, long, int)
 		 */
 		default Builder domain(Stream<Long> domain)
 		{
@@ -319,7 +319,7 @@ public interface ColumnSettingSteps {
 		 * @return The builder for {@link JdbcTableFacet}
 		 *
 		 * @see #range(long, long, int)
-		 * @see #limit(long, int, int)
+		 * @see #limit(long, long, int)
 		 */
 		default Builder domain(List<Long> domain)
 		{
@@ -339,7 +339,7 @@ public interface ColumnSettingSteps {
 		 * @return The builder for {@link JdbcTableFacet}
 		 *
 		 * @see #range(long, long, int)
-		 * @see #limit(long, int, int)
+		 * @see #limit(long, long, int)
 		 */
 		default Builder domain(LongStream domain)
 		{
@@ -356,7 +356,7 @@ public interface ColumnSettingSteps {
 		 * @return The builder for {@link JdbcTableFacet}
 		 *
 		 * @see #range(long, long, int)
-		 * @see #limit(long, int, int)
+		 * @see #limit(long, long, int)
 		 */
 		Builder domain(long[] domain);
 	}
@@ -0,0 +1,217 @@
+package guru.mikelue.foxglove.jdbc;
+
+import java.time.Duration;
+import java.time.temporal.Temporal;
+import java.util.Map;
+
+import org.apache.commons.lang3.Validate;
+
+import guru.mikelue.foxglove.ColumnMeta;
+
+/**
+ * Decides when the inserted rows are committed, which is independent of the batch size.
+ *
+ * <p>
+ * The default policy is {@link #everyBatches(int) everyBatches(1)},
+ * which commits the rows every time the number of uncommitted rows reaches the batch size.
+ *
+ * <p>
+ * Regardless of the policy, the remaining rows are committed when the generating is finished.
+ * The policy has no effect if {@link JdbcDataGenerator} joins the transaction of {@link java.sql.Connection}.
+ *
+ * @see JdbcDataGenerator#setCommitPolicy(CommitPolicy)
+ */
+public final class CommitPolicy {
+	private enum Mode {
+		Batches, Interval, Bytes, PerFacet, PerGeneration
+	}
+
+	private final static CommitPolicy DEFAULT = new CommitPolicy(Mode.Batches, 1);
+	private final static CommitPolicy PER_FACET = new CommitPolicy(Mode.PerFacet, 0);
+	private final static CommitPolicy PER_GENERATION = new CommitPolicy(Mode.PerGeneration, 0);
+
+	/**
+	 * The estimated bytes for values of fixed size(numbers, date/time, etc.).
+	 */
+	private final static int BYTES_OF_FIXED_VALUE = 8;
+
+	/**
+	 * Gets the default policy, which commits every batch.
+	 *
+	 * @return The default policy
+	 */
+	public static CommitPolicy defaults()
+	{
+		return DEFAULT;
+	}
+
+	/**
+	 * Commits when the number of uncommitted rows reaches {@code numberOfBatches * batchSize}.
+	 *
+	 * @param numberOfBatches The number of batches in a transaction
+	 *
+	 * @return The policy
+	 */
+	public static CommitPolicy everyBatches(int numberOfBatches)
+	{
+		Validate.isTrue(numberOfBatches > 0, "Number of batches must be greater than zero");
+
+		return numberOfBatches == 1 ? DEFAULT :
+			new CommitPolicy(Mode.Batches, numberOfBatches);
+	}
+
+	/**
+	 * Commits when the elapsed time of current transaction reaches the interval.
+	 *
+	 * <p>
+	 * The elapsed time is checked after every row is added to batch.
+	 *
+	 * @param interval The interval between commits
+	 *
+	 * @return The policy
+	 */
+	public static CommitPolicy everyInterval(Duration interval)
+	{
+		Validate.notNull(interval, "Interval must not be null");
+		Validate.isTrue(!interval.isNegative() && !interval.isZero(), "Interval must be positive");
+
+		return new CommitPolicy(Mode.Interval, interval.toNanos());
+	}
+
+	/**
+	 * Commits when the estimated bytes of uncommitted rows reaches the given number.
+	 *
+	 * <p>
+	 * The bytes are estimated by the values of rows, e.g., the length of text or binary.
+	 * The overhead of database(row header, index, etc.) is not counted.
+	 *
+	 * @param bytes The estimated bytes in a transaction
+	 *
+	 * @return The policy
+	 */
+	public static CommitPolicy everyBytes(long bytes)
+	{
+		Validate.isTrue(bytes > 0, "Bytes must be greater than zero");
+
+		return new CommitPolicy(Mode.Bytes, bytes);
+	}
+
+	/**
+	 * Commits once every table facet is finished.
+	 *
+	 * @return The policy
+	 */
+	public static CommitPolicy perFacet()
+	{
+		return PER_FACET;
+	}
+
+	/**
+	 * Commits once all of the table facets given to {@link JdbcDataGenerator#generate(java.util.List)} are finished.
+	 *
+	 * <p>
+	 * The facets inserted by multiple connections(parallelism or concurrency of facets)
+	 * are still committed by every connection, e.g., the lanes of parallelism commit once every facet is finished.
+	 *
+	 * @return The policy
+	 */
+	public static CommitPolicy perGeneration()
+	{
+		return PER_GENERATION;
+	}
+
+	private final Mode mode;
+	private final long threshold;
+
+	private CommitPolicy(Mode mode, long threshold)
+	{
+		this.mode = mode;
+		this.threshold = threshold;
+	}
+
+	/**
+	 * Whether or not the uncommitted rows should be committed.
+	 *
+	 * @param numberOfRows The number of uncommitted rows
+	 * @param bytes The estimated bytes of uncommitted rows(only for {@link #isEstimatingBytes()})
+	 * @param startNanos The {@link System#nanoTime()} when the current transaction is started
+	 * @param batchSize The batch size
+	 */
+	boolean isReached(long numberOfRows, long bytes, long startNanos, int batchSize)
+	{
+		return switch (mode) {
+			case Batches -> numberOfRows >= threshold * batchSize;
+			case Interval -> System.nanoTime() - startNanos >= threshold;
+			case Bytes -> bytes >= threshold;
+			case PerFacet, PerGeneration -> false;
+		};
+	}
+
+	boolean isCommittingPerFacet()
+	{
+		return mode == Mode.PerFacet;
+	}
+
+	/**
+	 * Whether or not the transaction is kept until the table facet is finished(or later).
+	 */
+	boolean isKeepingTransactionOfFacet()
+	{
+		return mode == Mode.PerFacet || mode == Mode.PerGeneration;
+	}
+
+	boolean isEstimatingBytes()
+	{
+		return mode == Mode.Bytes;
+	}
+
+	/**
+	 * Estimates the bytes of values in a row.
+	 */
+	static long estimateBytes(Map<ColumnMeta, Object> row)
+	{
+		long bytes = 0;
+
+		/*
+		 * The values in primitive lane are not boxed
+		 */
+		if (row instanceof RowValues rowValues) {
+			for (int i = 0; i < rowValues.size(); i++) {
+				bytes += rowValues.primitiveTypeAt(i) != null ?
+					BYTES_OF_FIXED_VALUE : estimateBytes(rowValues.valueAt(i));
+			}
+
+			return bytes;
+		}
+		// :~)
+
+		for (var value: row.values()) {
+			bytes += estimateBytes(value);
+		}
+
+		return bytes;
+	}
+
+	private static long estimateBytes(Object value)
+	{
+		if (value == null) {
+			return 1;
+		} else if (value instanceof CharSequence text) {
+			return text.length();
+		} else if (value instanceof byte[] binary) {
+			return binary.length;
+		} else if (value instanceof Number || value instanceof Boolean ||
+			value instanceof Temporal || value instanceof java.util.Date
+		) {
+			return BYTES_OF_FIXED_VALUE;
+		}
+
+		return value.toString().length();
+	}
+
+	@Override
+	public String toString()
+	{
+		return String.format("CommitPolicy[%s(%d)]", mode, threshold);
+	}
+}
@@ -0,0 +1,244 @@
+package guru.mikelue.foxglove.jdbc;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.commons.lang3.Validate;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import guru.mikelue.foxglove.ColumnMeta;
+
+/**
+ * Writes the rows of every table facet to a CSV file(RFC 4180) in a directory,
+ * which could be loaded by native bulk loaders(e.g., {@code COPY ... FROM ... WITH (FORMAT csv, HEADER)}).
+ *
+ * <p>
+ * The files are named as {@code <sequence>-<table>.csv}(or {@code .csv.gz} for GZIP), the sequence
+ * is the order of table facets, which should be loaded in the same order.
+ *
+ * <ul>
+ *   <li>{@code null} - empty field, while empty string is written as {@code ""}</li>
+ *   <li>{@code byte[]} - hexadecimal digits</li>
+ *   <li>Temporal values - {@code yyyy-MM-dd HH:mm:ss[.fraction][offset]}</li>
+ * </ul>
+ *
+ * <pre><code class="java">
+ * try (var sink = new CsvRowSink(Path.of("target/dataset")).setGzip(true)) {
+ *     new JdbcDataGenerator(dataSource)
+ *         .setRowSink(sink)
+ *         .generate(facets);
+ * }
+ * </code></pre>
+ *
+ * @see JdbcDataGenerator#setRowSink(RowSink)
+ */
+public final class CsvRowSink implements RowSink {
+	private final Logger logger = LoggerFactory.getLogger(CsvRowSink.class);
+
+	private final Path directory;
+	private boolean gzip = false;
+	private boolean header = true;
+	private char delimiter = ',';
+	private int bufferSize = ChannelTextWriter.DEFAULT_BUFFER_SIZE;
+
+	private int sequenceOfTables = 0;
+	private ChannelTextWriter currentWriter;
+	private Path lastFile;
+	private List<ColumnMeta> currentColumns;
+	private SinkRowReader rowReader;
+	private final StringBuilder line = new StringBuilder(256);
+
+	/**
+	 * Writes the files to the given directory, which is created if absent.
+	 *
+	 * @param directory The directory of files
+	 */
+	public CsvRowSink(Path directory)
+	{
+		Validate.notNull(directory, "Directory must not be null");
+
+		this.directory = directory;
+	}
+
+	/**
+	 * Sets whether or not the files are compressed as GZIP format.
+	 *
+	 * <p>
+	 * The default value is {@code false}.
+	 *
+	 * @param gzip Whether or not to compress the files
+	 *
+	 * @return This instance
+	 */
+	public CsvRowSink setGzip(boolean gzip)
+	{
+		this.gzip = gzip;
+
+		return this;
+	}
+
+	/**
+	 * Sets whether or not the first line is the names of columns.
+	 *
+	 * <p>
+	 * The default value is {@code true}.
+	 *
+	 * @param header Whether or not to write the header
+	 *
+	 * @return This instance
+	 */
+	public CsvRowSink setHeader(boolean header)
+	{
+		this.header = header;
+
+		return this;
+	}
+
+	/**
+	 * Sets the delimiter of fields.
+	 *
+	 * <p>
+	 * The default value is {@code ','}.
+	 *
+	 * @param delimiter The delimiter of fields
+	 *
+	 * @return This instance
+	 */
+	public CsvRowSink setDelimiter(char delimiter)
+	{
+		Validate.isTrue(
+			delimiter != '"' && delimiter != '\r' && delimiter != '\n',
+			"Delimiter must not be quote or line break"
+		);
+
+		this.delimiter = delimiter;
+
+		return this;
+	}
+
+	/**
+	 * Sets the capacity(in bytes) of direct buffer for writing a file.
+	 *
+	 * <p>
+	 * The default value is 4 MB.
+	 *
+	 * @param bufferSize The capacity of buffer
+	 *
+	 * @return This instance
+	 */
+	public CsvRowSink setBufferSize(int bufferSize)
+	{
+		Validate.isTrue(bufferSize >= 1024, "Buffer size must be greater than or equal to 1024");
+
+		this.bufferSize = bufferSize;
+
+		return this;
+	}
+
+	@Override
+	public void beginTable(String tableName, List<ColumnMeta> columns) throws IOException
+	{
+		Validate.validState(currentWriter == null, "The rows of previous table are not ended");
+
+		Files.createDirectories(directory);
+
+		var file = directory.resolve(String.format(
+			"%03d-%s.csv%s", ++sequenceOfTables, tableName, gzip ? ".gz" : ""
+		));
+		logger.debug("Writing rows of [{}] to: {}", tableName, file);
+
+		currentWriter = new ChannelTextWriter(file, gzip, bufferSize);
+		currentColumns = columns;
+		rowReader = new SinkRowReader(columns);
+		lastFile = file;
+
+		if (header) {
+			line.setLength(0);
+			for (int i = 0; i < columns.size(); i++) {
+				if (i > 0) {
+					line.append(delimiter);
+				}
+				appendField(columns.get(i).name());
+			}
+			currentWriter.write(line.append('\n'));
+		}
+	}
+
+	@Override
+	public void writeRow(Map<ColumnMeta, Object> row) throws IOException
+	{
+		line.setLength(0);
+
+		var ordinalRow = rowReader.ordinalRowOf(row);
+		for (int i = 0; i < currentColumns.size(); i++) {
+			if (i > 0) {
+				line.append(delimiter);
+			}
+
+			var value = rowReader.valueAt(row, ordinalRow, i);
+			if (value != null) {
+				appendField(SinkValues.toText(value));
+			}
+		}
+
+		currentWriter.write(line.append('\n'));
+	}
+
+	@Override
+	public void endTable() throws IOException
+	{
+		if (currentWriter == null) {
+			return;
+		}
+
+		try {
+			currentWriter.close();
+		} finally {
+			currentWriter = null;
+			currentColumns = null;
+			rowReader = null;
+		}
+	}
+
+	@Override
+	public void close() throws IOException
+	{
+		endTable();
+	}
+
+	/**
+	 * Gets the file of the last(or current) table.
+	 */
+	Path getLastFile()
+	{
+		return lastFile;
+	}
+
+	private void appendField(String text)
+	{
+		var quoting = text.isEmpty();
+		for (int i = 0; i < text.length() && !quoting; i++) {
+			var c = text.charAt(i);
+			quoting = c == delimiter || c == '"' || c == '\r' || c == '\n';
+		}
+
+		if (!quoting) {
+			line.append(text);
+			return;
+		}
+
+		line.append('"');
+		for (int i = 0; i < text.length(); i++) {
+			var c = text.charAt(i);
+			if (c == '"') {
+				line.append('"');
+			}
+			line.append(c);
+		}
+		line.append('"');
+	}
+}
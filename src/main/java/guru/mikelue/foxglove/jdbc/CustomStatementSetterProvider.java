@@ -0,0 +1,9 @@
+package guru.mikelue.foxglove.jdbc;
+
+import java.util.Optional;
+import java.util.function.Function;
+
+import guru.mikelue.foxglove.ColumnMeta;
+
+@FunctionalInterface
+interface CustomStatementSetterProvider extends Function<ColumnMeta, Optional<CustomStatementSetter<?>>> {}
@@ -0,0 +1,182 @@
+package guru.mikelue.foxglove.jdbc;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The capabilities of a JDBC driver used to choose the strategy of {@link BatchWorker},
+ * which are detected once for a URL of connection.
+ *
+ * <p>
+ * The known drivers are described by their names, the unknown ones are asked by {@link java.sql.DatabaseMetaData}.
+ * If a driver of unknown is able to give generated keys, whether or not it gives the keys of all rows in a batch
+ * is probed by the first batch(see {@link ProbingBatchWorker}).
+ *
+ * <p>
+ * The maximum number of parameters of a statement couldn't be asked by JDBC,
+ * which is {@code 999} for unknown drivers.
+ */
+class DriverCapabilities {
+	private final static Logger logger = LoggerFactory.getLogger(DriverCapabilities.class);
+
+	/**
+	 * How the generated keys are given after a batch is executed.
+	 */
+	enum KeysOfBatch {
+		/**
+		 * The keys of every row in the batch.
+		 */
+		All,
+		/**
+		 * Only the key of latest inserted row.
+		 */
+		LastOnly,
+		/**
+		 * The driver doesn't support {@link java.sql.Statement#getGeneratedKeys()}.
+		 */
+		None,
+		/**
+		 * Not probed yet.
+		 */
+		Unknown
+	}
+
+	private final static Map<Pattern, KeysOfBatch> KEYS_OF_KNOWN_DRIVERS = Map.of(
+		Pattern.compile("(?i).*(derby|sqlite|microsoft).*"), KeysOfBatch.LastOnly,
+		Pattern.compile("(?i).*(h2|hsql|postgresql|mysql|mariadb|oracle).*"), KeysOfBatch.All
+	);
+
+	private final static Map<String, DriverCapabilities> globalCache = new ConcurrentHashMap<>();
+
+	/**
+	 * Gets the capabilities of the driver of connection, which are cached by URL of connection.
+	 *
+	 * @param conn The connection
+	 *
+	 * @return The capabilities
+	 */
+	static DriverCapabilities of(Connection conn) throws SQLException
+	{
+		var connUrl = conn.getMetaData().getURL();
+
+		if (connUrl == null) {
+			return detect(conn);
+		}
+
+		var cached = globalCache.get(connUrl);
+		if (cached == null) {
+			cached = detect(conn);
+			globalCache.putIfAbsent(connUrl, cached);
+		}
+
+		return cached;
+	}
+
+	/**
+	 * Gets the capabilities by the name of driver only, an unknown driver is treated as giving all of the keys.
+	 *
+	 * @param driverName The name of driver
+	 *
+	 * @return The capabilities
+	 */
+	static DriverCapabilities ofDriverName(String driverName)
+	{
+		var keysOfBatch = knownKeysOfBatch(driverName);
+
+		return new DriverCapabilities(
+			driverName, true,
+			keysOfBatch != null ? keysOfBatch : KeysOfBatch.All
+		);
+	}
+
+	private static DriverCapabilities detect(Connection conn) throws SQLException
+	{
+		var dbMeta = conn.getMetaData();
+		var driverName = dbMeta.getDriverName();
+
+		var keysOfBatch = knownKeysOfBatch(driverName);
+		if (keysOfBatch != null) {
+			return new DriverCapabilities(driverName, true, keysOfBatch);
+		}
+
+		var capabilities = new DriverCapabilities(
+			driverName, dbMeta.supportsBatchUpdates(),
+			dbMeta.supportsGetGeneratedKeys() ? KeysOfBatch.Unknown : KeysOfBatch.None
+		);
+		logger.debug("Detected capabilities of unknown driver: {}", capabilities);
+
+		return capabilities;
+	}
+
+	private static KeysOfBatch knownKeysOfBatch(String driverName)
+	{
+		return KEYS_OF_KNOWN_DRIVERS.entrySet().stream()
+			.filter(entry -> entry.getKey().matcher(driverName).matches())
+			.map(Map.Entry::getValue)
+			.findFirst()
+			.orElse(null);
+	}
+
+	private final String driverName;
+	private final boolean batchUpdates;
+	private volatile KeysOfBatch keysOfBatch;
+
+	DriverCapabilities(String driverName, boolean batchUpdates, KeysOfBatch keysOfBatch)
+	{
+		this.driverName = driverName;
+		this.batchUpdates = batchUpdates;
+		this.keysOfBatch = keysOfBatch;
+	}
+
+	String driverName()
+	{
+		return driverName;
+	}
+
+	/**
+	 * Whether or not the driver supports {@link java.sql.Statement#executeLargeBatch()}.
+	 */
+	boolean supportsBatchUpdates()
+	{
+		return batchUpdates;
+	}
+
+	KeysOfBatch keysOfBatch()
+	{
+		return keysOfBatch;
+	}
+
+	/**
+	 * Keeps the probed result, which is shared by other connections of the same URL.
+	 */
+	void probedKeysOfBatch(KeysOfBatch keysOfBatch)
+	{
+		logger.debug("Probed generated keys of batch for driver [{}]: {}", driverName, keysOfBatch);
+		this.keysOfBatch = keysOfBatch;
+	}
+
+	boolean supportsMultiRowValues()
+	{
+		return MetaUtils.supportsMultiRowValues(driverName);
+	}
+
+	int rowsPerMultiRowStatement(int numberOfColumns, int batchSize)
+	{
+		return MetaUtils.rowsPerMultiRowStatement(driverName, numberOfColumns, batchSize);
+	}
+
+	@Override
+	public String toString()
+	{
+		return String.format(
+			"%s(batch updates: %s, generated keys of batch: %s)",
+			driverName, batchUpdates, keysOfBatch
+		);
+	}
+}
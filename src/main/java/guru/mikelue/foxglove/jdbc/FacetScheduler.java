@@ -0,0 +1,188 @@
+package guru.mikelue.foxglove.jdbc;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Inserts table facets concurrently by the dependencies among them.
+ *
+ * <p>
+ * The dependencies are derived from {@link JdbcTableFacet#getReferencedFacets()},
+ * a facet is started as soon as all of its referenced facets(in the same list) are finished.
+ * The referenced facets not in the list are considered as generated already.
+ *
+ * <p>
+ * The ready facets are started in order of the list.
+ * Once there is a failure, no more facet would be started,
+ * and the failure is thrown after the running facets are finished.
+ */
+class FacetScheduler {
+	/**
+	 * Inserts a table facet, which is called by the thread of scheduler.
+	 */
+	@FunctionalInterface
+	interface FacetTask {
+		/**
+		 * @param facet The facet to be inserted
+		 *
+		 * @return The number of inserted rows
+		 */
+		long insert(JdbcTableFacet facet) throws Exception;
+	}
+
+	private record FinishedFacet(JdbcTableFacet facet, long numberOfRows) {}
+
+	private final Logger logger = LoggerFactory.getLogger(FacetScheduler.class);
+
+	private final List<JdbcTableFacet> facets;
+	private final int concurrency;
+	private final Map<JdbcTableFacet, Set<JdbcTableFacet>> parentsOfFacets;
+
+	/**
+	 * @param facets The facets to be inserted
+	 * @param concurrency The maximum number of facets inserted at the same time
+	 */
+	FacetScheduler(List<JdbcTableFacet> facets, int concurrency)
+	{
+		this.facets = facets;
+		this.concurrency = concurrency;
+		this.parentsOfFacets = buildParentsOfFacets(facets);
+	}
+
+	/**
+	 * Executes the task for every facet, the method is blocked until all of the facets are finished.
+	 *
+	 * @param task The task of insertion
+	 *
+	 * @return The total number of inserted rows
+	 */
+	long execute(FacetTask task) throws Exception
+	{
+		var threadIndex = new AtomicInteger(0);
+		ExecutorService executor = Executors.newFixedThreadPool(
+			concurrency,
+			runnable -> {
+				var thread = new Thread(runnable, "foxglove-facet-" + threadIndex.getAndIncrement());
+				thread.setDaemon(true);
+				return thread;
+			}
+		);
+
+		try {
+			return schedule(new ExecutorCompletionService<>(executor), task);
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	private long schedule(
+		CompletionService<FinishedFacet> completionService,
+		FacetTask task
+	) throws Exception {
+		var waitingFacets = new ArrayList<>(facets);
+		var finishedFacets = Collections.newSetFromMap(new IdentityHashMap<JdbcTableFacet, Boolean>());
+
+		long totalRows = 0;
+		int runningFacets = 0;
+		Exception failure = null;
+
+		runningFacets += submitReadyFacets(completionService, task, waitingFacets, finishedFacets);
+
+		while (runningFacets > 0) {
+			var future = completionService.take();
+			runningFacets--;
+
+			try {
+				var finishedFacet = future.get();
+
+				totalRows += finishedFacet.numberOfRows();
+				finishedFacets.add(finishedFacet.facet());
+			} catch (ExecutionException e) {
+				if (failure == null) {
+					failure = e.getCause() instanceof Exception cause ?
+						cause : e;
+				}
+			}
+
+			if (failure == null) {
+				runningFacets += submitReadyFacets(completionService, task, waitingFacets, finishedFacets);
+			}
+		}
+
+		if (failure != null) {
+			throw failure;
+		}
+
+		if (!waitingFacets.isEmpty()) {
+			throw new IllegalStateException(
+				"Unresolvable dependencies of facets: " +
+				waitingFacets.stream().map(JdbcTableFacet::tableName).toList()
+			);
+		}
+
+		return totalRows;
+	}
+
+	private int submitReadyFacets(
+		CompletionService<FinishedFacet> completionService,
+		FacetTask task,
+		List<JdbcTableFacet> waitingFacets,
+		Set<JdbcTableFacet> finishedFacets
+	) {
+		int numberOfSubmitted = 0;
+
+		for (var iterator = waitingFacets.iterator(); iterator.hasNext(); ) {
+			var facet = iterator.next();
+
+			if (!finishedFacets.containsAll(parentsOfFacets.get(facet))) {
+				continue;
+			}
+
+			logger.debug("Starting facet of table: {}", facet.tableName());
+
+			iterator.remove();
+			completionService.submit(
+				() -> new FinishedFacet(facet, task.insert(facet))
+			);
+			numberOfSubmitted++;
+		}
+
+		return numberOfSubmitted;
+	}
+
+	/**
+	 * Only keeps the referenced facets in the list.
+	 */
+	private static Map<JdbcTableFacet, Set<JdbcTableFacet>> buildParentsOfFacets(
+		List<JdbcTableFacet> facets
+	) {
+		var parentsOfFacets = new IdentityHashMap<JdbcTableFacet, Set<JdbcTableFacet>>(facets.size());
+
+		for (var facet: facets) {
+			parentsOfFacets.put(facet, Collections.newSetFromMap(new IdentityHashMap<>()));
+		}
+
+		for (var facet: facets) {
+			for (var referencedFacet: facet.getReferencedFacets()) {
+				if (parentsOfFacets.containsKey(referencedFacet)) {
+					parentsOfFacets.get(facet).add(referencedFacet);
+				}
+			}
+		}
+
+		return parentsOfFacets;
+	}
+}
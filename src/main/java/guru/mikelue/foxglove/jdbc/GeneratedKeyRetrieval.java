@@ -0,0 +1,33 @@
+package guru.mikelue.foxglove.jdbc;
+
+import java.sql.PreparedStatement;
+
+/**
+ * Defines how the values generated by database(e.g., identity) are retrieved,
+ * for the drivers giving only the last generated key of a batch(Derby, SQLite, MSSQL).
+ *
+ * <p>
+ * The retrieval only happens when the generated values are kept for referencing facets.
+ *
+ * @see JdbcDataGenerator#setGeneratedKeyRetrieval(GeneratedKeyRetrieval)
+ */
+public enum GeneratedKeyRetrieval {
+	/**
+	 * Every row is executed by {@link PreparedStatement#executeUpdate()},
+	 * followed by {@link PreparedStatement#getGeneratedKeys()}.
+	 */
+	Default,
+	/**
+	 * The rows are executed by {@link PreparedStatement#executeBatch()},
+	 * then the generated keys of the batch are queried in one statement:
+	 * {@code SELECT key FROM t WHERE key > <last seen key> ORDER BY key}.
+	 *
+	 * <p>
+	 * This mode falls back to {@link #Default} if the table has more than one auto-generated column.
+	 *
+	 * <p>
+	 * <strong>The auto-generated key must be integral and increasing,
+	 * and there should be no other writers to the table during the generation.</strong>
+	 */
+	RangeQuery
+}
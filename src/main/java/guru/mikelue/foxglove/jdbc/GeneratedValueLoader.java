@@ -4,9 +4,7 @@ import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.ArrayList;
-import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.Map;
 import java.util.stream.Stream;
 
 import org.slf4j.Logger;
@@ -42,10 +40,10 @@ class GeneratedValueLoader {
 
 		var rowIndexOfGeneratedKeys = 0;
 		while (rs.next()) {
-			Map<ColumnMeta, Object> rowValues = new LinkedHashMap<ColumnMeta, Object>(metaOfColumns.length);
+			var rowValues = new Object[metaOfColumns.length];
 
 			for (var i = 0; i < metaOfColumns.length; i++) {
-				rowValues.put(metaOfColumns[i], rs.getObject(i + 1));
+				rowValues[i] = rs.getObject(i + 1);
 			}
 
 			var newTuple = tupleSchema.createTupleAccessor(rowValues, 0);
@@ -0,0 +1,164 @@
+package guru.mikelue.foxglove.jdbc;
+
+import java.time.Duration;
+
+import org.apache.commons.lang3.Validate;
+
+/**
+ * Defines the target rate of continuous generation, which is scheduled by a token bucket.
+ *
+ * <p>
+ * The rows are inserted by chunks, every chunk is executed(and committed by {@link CommitPolicy}) as a batch:
+ *
+ * <ul>
+ *   <li>{@link #rowsPerSecond(double)} - a chunk holds about {@code 100ms} of rows, bound by the batch size.</li>
+ *   <li>{@link #batchesPerSecond(double)} - a chunk is a full batch.</li>
+ * </ul>
+ *
+ * <p>
+ * By default, the bucket holds at most one chunk, which keeps the load steady.
+ * {@link #withBurstCapacity(long)} allows the unused rate to be accumulated, and
+ * {@link #withBursts(Duration, Duration, double)} multiplies the rate periodically.
+ *
+ * <pre><code class="java">
+ * // 500 rows per second, tripled for 5 seconds of every minute
+ * var rate = GenerationRate.rowsPerSecond(500)
+ *     .withBursts(Duration.ofMinutes(1), Duration.ofSeconds(5), 3);
+ * </code></pre>
+ *
+ * @see JdbcDataGenerator#generateContinuously(JdbcTableFacet, GenerationRate, Duration)
+ */
+public final class GenerationRate {
+	private final static int CHUNKS_PER_SECOND = 10;
+
+	/**
+	 * Generates rows by the target number of rows per second.
+	 *
+	 * @param rowsPerSecond The number of rows per second
+	 *
+	 * @return The rate
+	 */
+	public static GenerationRate rowsPerSecond(double rowsPerSecond)
+	{
+		Validate.isTrue(rowsPerSecond > 0, "Rows per second must be positive");
+
+		return new GenerationRate(rowsPerSecond, false, 0, 0, 0, 1);
+	}
+
+	/**
+	 * Generates rows by the target number of batches per second.
+	 *
+	 * @param batchesPerSecond The number of batches per second
+	 *
+	 * @return The rate
+	 */
+	public static GenerationRate batchesPerSecond(double batchesPerSecond)
+	{
+		Validate.isTrue(batchesPerSecond > 0, "Batches per second must be positive");
+
+		return new GenerationRate(batchesPerSecond, true, 0, 0, 0, 1);
+	}
+
+	private final double rate;
+	private final boolean perBatch;
+	private final long burstCapacity;
+	private final long burstPeriodNanos;
+	private final long burstLengthNanos;
+	private final double burstFactor;
+
+	private GenerationRate(
+		double rate, boolean perBatch, long burstCapacity,
+		long burstPeriodNanos, long burstLengthNanos, double burstFactor
+	) {
+		this.rate = rate;
+		this.perBatch = perBatch;
+		this.burstCapacity = burstCapacity;
+		this.burstPeriodNanos = burstPeriodNanos;
+		this.burstLengthNanos = burstLengthNanos;
+		this.burstFactor = burstFactor;
+	}
+
+	/**
+	 * Sets the maximum number of rows accumulated by unused rate, which could be inserted at once.
+	 *
+	 * @param rows The maximum number of rows in bucket
+	 *
+	 * @return The new rate
+	 */
+	public GenerationRate withBurstCapacity(long rows)
+	{
+		Validate.isTrue(rows > 0, "Burst capacity must be positive");
+
+		return new GenerationRate(rate, perBatch, rows, burstPeriodNanos, burstLengthNanos, burstFactor);
+	}
+
+	/**
+	 * Multiplies the rate by the factor for a length of time in every period, started from the beginning of a period.
+	 *
+	 * @param period The period of bursts
+	 * @param length The length of a burst, which is shorter than the period
+	 * @param factor The factor multiplied to the rate during bursts
+	 *
+	 * @return The new rate
+	 */
+	public GenerationRate withBursts(Duration period, Duration length, double factor)
+	{
+		Validate.notNull(period, "Period must not be null");
+		Validate.notNull(length, "Length must not be null");
+		Validate.isTrue(!length.isNegative() && !length.isZero(), "Length of burst must be positive");
+		Validate.isTrue(period.compareTo(length) > 0, "Period must be longer than length of burst");
+		Validate.isTrue(factor > 0, "Factor must be positive");
+
+		return new GenerationRate(
+			rate, perBatch, burstCapacity,
+			period.toNanos(), length.toNanos(), factor
+		);
+	}
+
+	/**
+	 * Gets the number of rows per second at the elapsed time.
+	 */
+	double rowsPerSecondAt(int batchSize, long elapsedNanos)
+	{
+		var rowsPerSecond = perBatch ? rate * batchSize : rate;
+
+		if (burstPeriodNanos > 0 && elapsedNanos % burstPeriodNanos < burstLengthNanos) {
+			return rowsPerSecond * burstFactor;
+		}
+
+		return rowsPerSecond;
+	}
+
+	/**
+	 * Gets the number of rows inserted as a batch.
+	 */
+	int chunkSize(int batchSize)
+	{
+		if (perBatch) {
+			return batchSize;
+		}
+
+		return (int)Math.max(1, Math.min(batchSize, Math.ceil(rate / CHUNKS_PER_SECOND)));
+	}
+
+	/**
+	 * Gets the capacity of token bucket, which holds at least one chunk.
+	 */
+	long capacity(int chunkSize)
+	{
+		return Math.max(burstCapacity, chunkSize);
+	}
+
+	@Override
+	public String toString()
+	{
+		return String.format(
+			"%s %s/s%s", rate, perBatch ? "batches" : "rows",
+			burstPeriodNanos > 0 ?
+				String.format(
+					"(x%s for %s every %s)", burstFactor,
+					Duration.ofNanos(burstLengthNanos), Duration.ofNanos(burstPeriodNanos)
+				) : ""
+		);
+	}
+}
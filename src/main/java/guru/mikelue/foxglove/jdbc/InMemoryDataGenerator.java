@@ -0,0 +1,295 @@
+package guru.mikelue.foxglove.jdbc;
+
+import java.math.BigDecimal;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import javax.sql.DataSource;
+
+import org.apache.commons.lang3.Validate;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import guru.mikelue.foxglove.ColumnMeta;
+import guru.mikelue.foxglove.DataGenerator;
+import guru.mikelue.foxglove.TupleAccessor;
+import guru.mikelue.foxglove.setting.DataSetting;
+import guru.mikelue.foxglove.setting.DataSettingInfo;
+import guru.mikelue.foxglove.setting.LayeredDataSetting;
+
+import static guru.mikelue.foxglove.ColumnMeta.Property.AUTO_INCREMENT;
+
+/**
+ * In-memory implementation of {@link DataGenerator}, which keeps the generated rows as {@link InMemoryTable}s.
+ *
+ * <p>
+ * The metadata of tables is given by {@link #withSchema(String, List)},
+ * or read once from a database by {@link #InMemoryDataGenerator(DataSource)}(cached by URL of database).
+ * The referencing, Cartesian products, and values kept for referencing facets work as {@link JdbcDataGenerator}.
+ *
+ * <p>
+ * The columns of {@link ColumnMeta.Property#AUTO_INCREMENT} not generated by Foxglove are assigned
+ * from {@code 1} per table, other columns not generated by Foxglove are {@code null}.
+ *
+ * <pre><code class="java">
+ * var generator = new InMemoryDataGenerator()
+ *     .withSchema("ap_car", columnsOfCar)
+ *     .withSchema("ap_car_feature", columnsOfFeature);
+ *
+ * generator.generate(carFacet, featureFacet);
+ *
+ * var features = generator.getTable("ap_car_feature");
+ * </code></pre>
+ */
+public class InMemoryDataGenerator implements DataGenerator<JdbcTableFacet> {
+	private final Logger logger = LoggerFactory.getLogger(InMemoryDataGenerator.class);
+
+	private final DataSource dataSource;
+	private final Map<String, List<ColumnMeta>> schema = new HashMap<>();
+	private final Map<String, InMemoryTable> tables = new LinkedHashMap<>();
+	private MetaDataCache metaDataCache = null;
+
+	private Optional<DataSettingInfo> dataSetting = Optional.empty();
+
+	/**
+	 * Uses the metadata of tables given by {@link #withSchema(String, List)}.
+	 */
+	public InMemoryDataGenerator()
+	{
+		this.dataSource = null;
+	}
+
+	/**
+	 * Reads the metadata of tables, which are not given by {@link #withSchema(String, List)}, from the database.
+	 *
+	 * <p>
+	 * The metadata is cached by the URL of database, nothing is inserted into the database.
+	 *
+	 * @param dataSource The data source to read metadata
+	 */
+	public InMemoryDataGenerator(DataSource dataSource)
+	{
+		Validate.notNull(dataSource, "Data source must not be null");
+
+		this.dataSource = dataSource;
+	}
+
+	/**
+	 * Sets the metadata of columns for a table.
+	 *
+	 * @param tableName The name of table(case-insensitive)
+	 * @param columns The metadata of columns
+	 *
+	 * @return This instance
+	 */
+	public InMemoryDataGenerator withSchema(String tableName, List<ColumnMeta> columns)
+	{
+		Validate.notBlank(tableName, "Name of table must not be blank");
+		Validate.notEmpty(columns, "At least one column must be given");
+
+		schema.put(tableName.toLowerCase(), List.copyOf(columns));
+
+		return this;
+	}
+
+	/**
+	 * Gets the generated rows of a table.
+	 *
+	 * @param tableName The name of table(case-insensitive)
+	 *
+	 * @return The generated rows
+	 */
+	public InMemoryTable getTable(String tableName)
+	{
+		var table = tables.get(tableName.toLowerCase());
+		Validate.isTrue(table != null, "No rows generated for table [%s]", tableName);
+
+		return table;
+	}
+
+	/**
+	 * Gets the generated tables, in order of first generation.
+	 *
+	 * @return The generated tables
+	 */
+	public List<InMemoryTable> getTables()
+	{
+		return List.copyOf(tables.values());
+	}
+
+	/**
+	 * Removes all of the generated rows, the auto-generated keys are started from {@code 1} again.
+	 *
+	 * @return This instance
+	 */
+	public InMemoryDataGenerator clear()
+	{
+		tables.clear();
+
+		return this;
+	}
+
+	@Override
+	public long generate(List<JdbcTableFacet> tableFacets)
+	{
+		long totalRowsGenerated = 0;
+
+		for (var table: tableFacets) {
+			var layeredDataSetting = new LayeredDataSetting(
+				table.getSetting().orElse(null),
+				dataSetting.orElse(null)
+			);
+
+			totalRowsGenerated += generateTable(table, layeredDataSetting);
+		}
+
+		return totalRowsGenerated;
+	}
+
+	/**
+	 * This object has lower priority than table facet's own setting, yet
+	 * has higher priority than {@link DataSetting#defaults()}.
+	 *
+	 * @param setting The setting to use
+	 *
+	 * @return This instance
+	 */
+	@Override
+	public DataGenerator<JdbcTableFacet> withSetting(DataSettingInfo setting)
+	{
+		dataSetting = Optional.of(setting);
+		return this;
+	}
+
+	private long generateTable(JdbcTableFacet table, DataSettingInfo setting)
+	{
+		var metaOfColumns = getMetaOfColumns(table);
+
+		var targetColumns = MetaUtils.filterColumns(metaOfColumns, setting, table);
+		var targetColumnsSet = new HashSet<>(targetColumns);
+		var autoColumns = metaOfColumns.stream()
+			.filter(meta -> !targetColumnsSet.contains(meta) && meta.properties().contains(AUTO_INCREMENT))
+			.toList();
+
+		var valueTomb = table.getValueTomb();
+		var namesOfAvailableColumns = new ArrayList<String>(targetColumns.size() + autoColumns.size());
+		targetColumns.forEach(meta -> namesOfAvailableColumns.add(meta.name()));
+		autoColumns.forEach(meta -> namesOfAvailableColumns.add(meta.name()));
+		Validate.validState(
+			!valueTomb.isKeepingColumnsOtherThan(namesOfAvailableColumns),
+			"Values generated by database can't be kept in memory: %s", valueTomb
+		);
+
+		var storedTable = tables.computeIfAbsent(
+			table.tableName().toLowerCase(),
+			name -> new InMemoryTable(table.tableName(), metaOfColumns)
+		);
+
+		logger.debug("Generating [{}] rows in memory for table: {}", table.getNumberOfRows(), table.tableName());
+
+		var tupleIterator = new TupleIterator(table, targetColumns, setting, Map.of());
+		Validate.isTrue(
+			storedTable.size() + tupleIterator.getNumberOfRows() <= InMemoryTable.MAX_ROWS,
+			"Number of rows in memory can't exceed [%d]: %s", InMemoryTable.MAX_ROWS, table.tableName()
+		);
+
+		var autoSchema = new TupleAccessorImpl.TupleSchema(autoColumns);
+		var keepingAutoValues = !autoColumns.isEmpty() &&
+			valueTomb.isKeepingColumnsOtherThan(
+				targetColumns.stream().map(ColumnMeta::name).toList()
+			);
+		var autoTuples = new ArrayList<TupleAccessor>(keepingAutoValues ? (int)tupleIterator.getNumberOfRows() : 0);
+
+		/*
+		 * The values are written to the columns of table by ordinals
+		 */
+		var ordinalsOfRow = storedTable.ordinalsOf(targetColumns);
+		var ordinalsOfAuto = storedTable.ordinalsOf(autoColumns);
+		var autoValues = autoColumns.isEmpty() ? null : new Object[autoColumns.size()];
+
+		while (tupleIterator.hasNext()) {
+			var row = tupleIterator.nextRow();
+
+			if (autoValues != null) {
+				// The array is held by the tuple of auto values
+				if (keepingAutoValues) {
+					autoValues = new Object[autoColumns.size()];
+				}
+
+				for (int i = 0; i < autoValues.length; i++) {
+					autoValues[i] = toKeyValue(autoColumns.get(i), storedTable.nextAutoKey());
+				}
+
+				if (keepingAutoValues) {
+					autoTuples.add(autoSchema.createTupleAccessor(autoValues, autoTuples.size()));
+				}
+			}
+
+			storedTable.addRow(row, ordinalsOfRow, autoValues, ordinalsOfAuto);
+		}
+		// :~)
+
+		if (keepingAutoValues) {
+			valueTomb.preserveAfterData(autoTuples);
+		}
+
+		return tupleIterator.getNumberOfRows();
+	}
+
+	private List<ColumnMeta> getMetaOfColumns(JdbcTableFacet table)
+	{
+		var metaOfColumns = schema.get(table.tableName().toLowerCase());
+
+		if (metaOfColumns == null && dataSource != null) {
+			try (var conn = dataSource.getConnection()) {
+				if (metaDataCache == null) {
+					metaDataCache = new MetaDataCache(conn);
+				}
+
+				metaDataCache.loadMetadata(List.of(table), conn);
+				metaOfColumns = metaDataCache.getMetaOfColumns(table.tableName());
+			} catch (SQLException e) {
+				throw new RuntimeJdbcException(e);
+			}
+		}
+
+		Validate.isTrue(
+			metaOfColumns != null && !metaOfColumns.isEmpty(),
+			"No column meta data found: %s", table.tableName()
+		);
+
+		/*
+		 * Checks if all configured columns exist in schema
+		 */
+		var namesOfColumns = new HashSet<String>();
+		metaOfColumns.forEach(meta -> namesOfColumns.add(meta.name().toLowerCase()));
+		for (var checkedName: table.getConfiguredNamesOfColumn()) {
+			Validate.isTrue(
+				namesOfColumns.contains(checkedName),
+				"Configured column not found in table[%s]: \"%s\"",
+				table.tableName(), checkedName
+			);
+		}
+		// :~)
+
+		return metaOfColumns;
+	}
+
+	/**
+	 * Converts the auto-generated key to the Java type of {@link java.sql.ResultSet#getObject(int)}.
+	 */
+	private static Object toKeyValue(ColumnMeta column, long key)
+	{
+		return switch (column.jdbcType()) {
+			case TINYINT, SMALLINT, INTEGER -> (int)key;
+			case DECIMAL, NUMERIC -> BigDecimal.valueOf(key);
+			default -> key;
+		};
+	}
+}
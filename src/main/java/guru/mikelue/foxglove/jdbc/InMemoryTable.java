@@ -0,0 +1,252 @@
+package guru.mikelue.foxglove.jdbc;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Predicate;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import org.apache.commons.lang3.Validate;
+
+import guru.mikelue.foxglove.ColumnMeta;
+import guru.mikelue.foxglove.TupleAccessor;
+
+import static java.util.Collections.unmodifiableList;
+
+/**
+ * The rows of a table generated by {@link InMemoryDataGenerator}, which are stored by columns.
+ *
+ * <p>
+ * Every column is kept as an array of values, a row is assembled only when it is read.
+ * The columns not generated by Foxglove(e.g., excluded columns) are {@code null}.
+ *
+ * <pre><code class="java">
+ * var carTable = generator.getTable("ap_car");
+ *
+ * assertThat(carTable.size()).isEqualTo(10);
+ * assertThat(carTable.count(tuple -> tuple.getValue("cr_year") == null)).isZero();
+ * </code></pre>
+ */
+public final class InMemoryTable {
+	/**
+	 * The maximum number of rows, which is bounded by the length of array.
+	 */
+	final static int MAX_ROWS = Integer.MAX_VALUE - 8;
+
+	private final static int INITIAL_CAPACITY = 16;
+
+	private final String tableName;
+	private final List<ColumnMeta> columns;
+	private final TupleAccessorImpl.TupleSchema tupleSchema;
+	private final Object[][] valuesOfColumns;
+	private int size = 0;
+	private long lastAutoKey = 0;
+
+	InMemoryTable(String tableName, List<ColumnMeta> columns)
+	{
+		this.tableName = tableName;
+		this.columns = unmodifiableList(columns);
+		this.tupleSchema = new TupleAccessorImpl.TupleSchema(columns);
+		this.valuesOfColumns = new Object[columns.size()][INITIAL_CAPACITY];
+	}
+
+	/**
+	 * Gets the name of table.
+	 *
+	 * @return The name of table
+	 */
+	public String tableName()
+	{
+		return tableName;
+	}
+
+	/**
+	 * Gets the metadata of columns, in the order of schema.
+	 *
+	 * @return The metadata of columns
+	 */
+	public List<ColumnMeta> getColumns()
+	{
+		return columns;
+	}
+
+	/**
+	 * Gets the number of rows.
+	 *
+	 * @return The number of rows
+	 */
+	public int size()
+	{
+		return size;
+	}
+
+	/**
+	 * Gets the value of a cell.
+	 *
+	 * @param <T> The type of value
+	 * @param rowIndex The index of row, starting from {@code 0}
+	 * @param columnName The name of column(case-insensitive)
+	 *
+	 * @return The value
+	 */
+	@SuppressWarnings("unchecked")
+	public <T> T getValue(int rowIndex, String columnName)
+	{
+		Validate.isTrue(
+			rowIndex >= 0 && rowIndex < size,
+			"Row index [%d] is out of range [0, %d)", rowIndex, size
+		);
+
+		return (T)valuesOfColumns[indexOfColumn(columnName)][rowIndex];
+	}
+
+	/**
+	 * Gets the values of a column, which is a view backed by this table.
+	 *
+	 * @param <T> The type of values
+	 * @param columnName The name of column(case-insensitive)
+	 *
+	 * @return The values of column
+	 */
+	public <T> List<T> getValues(String columnName)
+	{
+		var columnIndex = indexOfColumn(columnName);
+		var rows = size;
+
+		return new AbstractList<T>() {
+			@SuppressWarnings("unchecked")
+			@Override
+			public T get(int index)
+			{
+				Validate.validIndex(this, index);
+
+				return (T)valuesOfColumns[columnIndex][index];
+			}
+
+			@Override
+			public int size()
+			{
+				return rows;
+			}
+		};
+	}
+
+	/**
+	 * Gets a row as tuple, the changes of values on the tuple are not written back.
+	 *
+	 * @param rowIndex The index of row, starting from {@code 0}
+	 *
+	 * @return The row
+	 */
+	public TupleAccessor getRow(int rowIndex)
+	{
+		Validate.isTrue(
+			rowIndex >= 0 && rowIndex < size,
+			"Row index [%d] is out of range [0, %d)", rowIndex, size
+		);
+
+		var rowValues = new Object[columns.size()];
+		for (int i = 0; i < columns.size(); i++) {
+			rowValues[i] = valuesOfColumns[i][rowIndex];
+		}
+
+		return tupleSchema.createTupleAccessor(rowValues, rowIndex);
+	}
+
+	/**
+	 * Streams the rows as tuples.
+	 *
+	 * @return The stream of rows
+	 *
+	 * @see #getRow(int)
+	 */
+	public Stream<TupleAccessor> rows()
+	{
+		return IntStream.range(0, size)
+			.mapToObj(this::getRow);
+	}
+
+	/**
+	 * Counts the rows matching the predicate.
+	 *
+	 * @param predicate The predicate on rows
+	 *
+	 * @return The number of matched rows
+	 */
+	public int count(Predicate<TupleAccessor> predicate)
+	{
+		return (int)rows().filter(predicate).count();
+	}
+
+	/**
+	 * Gives the ordinals(in this table) of the columns, which are used by {@link #addRow(RowValues, int[], Object[], int[])}.
+	 */
+	int[] ordinalsOf(List<ColumnMeta> columnsOfRow)
+	{
+		return columnsOfRow.stream()
+			.mapToInt(meta -> {
+				var ordinal = columns.indexOf(meta);
+				Validate.isTrue(ordinal >= 0, "Column [%s] is not existing in table [%s]", meta.name(), tableName);
+				return ordinal;
+			})
+			.toArray();
+	}
+
+	/**
+	 * Appends a row by ordinals of columns, the columns absent in the row are {@code null}.
+	 *
+	 * @param row The generated values
+	 * @param ordinalsOfRow The ordinals of the columns of row, see {@link #ordinalsOf(List)}
+	 * @param autoValues The values of auto-generated columns, could be null if there is no such column
+	 * @param ordinalsOfAuto The ordinals of auto-generated columns
+	 */
+	void addRow(RowValues row, int[] ordinalsOfRow, Object[] autoValues, int[] ordinalsOfAuto)
+	{
+		if (size == valuesOfColumns[0].length) {
+			for (int i = 0; i < valuesOfColumns.length; i++) {
+				valuesOfColumns[i] = Arrays.copyOf(valuesOfColumns[i], (int)Math.min((long)size * 2, MAX_ROWS));
+			}
+		}
+
+		/*
+		 * The slots of absent columns are never written, which are kept as null
+		 */
+		for (int i = 0; i < ordinalsOfRow.length; i++) {
+			valuesOfColumns[ordinalsOfRow[i]][size] = row.valueAt(i);
+		}
+		for (int i = 0; i < ordinalsOfAuto.length; i++) {
+			valuesOfColumns[ordinalsOfAuto[i]][size] = autoValues[i];
+		}
+		// :~)
+
+		size++;
+	}
+
+	/**
+	 * Gives the next value of auto-generated key, which is unique in this table.
+	 */
+	long nextAutoKey()
+	{
+		return ++lastAutoKey;
+	}
+
+	private int indexOfColumn(String columnName)
+	{
+		for (int i = 0; i < columns.size(); i++) {
+			if (columns.get(i).name().equalsIgnoreCase(columnName)) {
+				return i;
+			}
+		}
+
+		throw new IllegalArgumentException(String.format(
+			"Column [%s] is not existing in table [%s]", columnName, tableName
+		));
+	}
+
+	@Override
+	public String toString()
+	{
+		return String.format("%s(%d rows)", tableName, size);
+	}
+}
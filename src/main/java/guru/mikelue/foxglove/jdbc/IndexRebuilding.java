@@ -0,0 +1,177 @@
+package guru.mikelue.foxglove.jdbc;
+
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Drops the secondary indexes of tables, which are created again by the restoration.
+ *
+ * @see SessionTuning#rebuildingIndexes()
+ */
+class IndexRebuilding {
+	private final static Logger logger = LoggerFactory.getLogger(IndexRebuilding.class);
+
+	/**
+	 * The definition of index, the columns are sorted by ordinal position.
+	 */
+	record IndexDef(
+		String schema, String tableName, String indexName,
+		List<IndexColumn> columns
+	) {}
+
+	record IndexColumn(String name, boolean descending) {}
+
+	private IndexRebuilding() {}
+
+	static SessionTuning.Restoration apply(Connection conn, List<String> tableNames)
+		throws SQLException
+	{
+		var dbMeta = conn.getMetaData();
+		var quote = dbMeta.getIdentifierQuoteString();
+
+		var droppedIndexes = new ArrayList<IndexDef>();
+		for (var tableName: tableNames) {
+			for (var index: loadSecondaryIndexes(dbMeta, tableName)) {
+				var dropSql = "DROP INDEX " + qualify(index.schema(), index.indexName(), quote);
+
+				try (var stmt = conn.createStatement()) {
+					logger.debug("Dropping index: {}", dropSql);
+					stmt.execute(dropSql);
+
+					droppedIndexes.add(index);
+				} catch (SQLException e) {
+					logger.debug("Keeps index [{}]: {}", index.indexName(), e.getMessage());
+				}
+			}
+		}
+
+		/*
+		 * Every index is rebuilt even if a previous one is failed
+		 */
+		return restoredConn -> {
+			SQLException failure = null;
+
+			for (var index: droppedIndexes) {
+				var createSql = buildCreateSql(index, quote);
+
+				logger.debug("Rebuilding index: {}", createSql);
+				try (var stmt = restoredConn.createStatement()) {
+					stmt.execute(createSql);
+				} catch (SQLException e) {
+					if (failure == null) {
+						failure = e;
+					} else {
+						failure.addSuppressed(e);
+					}
+				}
+			}
+
+			if (failure != null) {
+				throw failure;
+			}
+		};
+		// :~)
+	}
+
+	/**
+	 * Loads the non-unique indexes, the ones of expressions(without name of column) are excluded.
+	 */
+	static List<IndexDef> loadSecondaryIndexes(DatabaseMetaData dbMeta, String tableName)
+		throws SQLException
+	{
+		if (dbMeta.storesUpperCaseIdentifiers()) {
+			tableName = tableName.toUpperCase();
+		} else if (dbMeta.storesLowerCaseIdentifiers()) {
+			tableName = tableName.toLowerCase();
+		}
+
+		var columnsOfIndexes = new LinkedHashMap<String, Map<Integer, IndexColumn>>();
+		var tableOfIndexes = new LinkedHashMap<String, String[]>();
+		var indexesOfExpression = new HashSet<String>();
+
+		try (var rs = dbMeta.getIndexInfo(null, null, tableName, false, true)) {
+			while (rs.next()) {
+				var indexName = rs.getString("INDEX_NAME");
+				if (
+					indexName == null || !rs.getBoolean("NON_UNIQUE") ||
+					rs.getShort("TYPE") == DatabaseMetaData.tableIndexStatistic
+				) {
+					continue;
+				}
+
+				var columnName = rs.getString("COLUMN_NAME");
+				if (columnName == null) {
+					indexesOfExpression.add(indexName);
+					continue;
+				}
+
+				tableOfIndexes.putIfAbsent(
+					indexName,
+					new String[] { rs.getString("TABLE_SCHEM"), rs.getString("TABLE_NAME") }
+				);
+				columnsOfIndexes.computeIfAbsent(indexName, name -> new TreeMap<>())
+					.put(
+						(int)rs.getShort("ORDINAL_POSITION"),
+						new IndexColumn(columnName, "D".equals(rs.getString("ASC_OR_DESC")))
+					);
+			}
+		}
+
+		var indexes = new ArrayList<IndexDef>(columnsOfIndexes.size());
+		columnsOfIndexes.forEach((indexName, columns) -> {
+			if (indexesOfExpression.contains(indexName)) {
+				return;
+			}
+
+			var table = tableOfIndexes.get(indexName);
+			indexes.add(new IndexDef(
+				table[0], table[1], indexName,
+				List.copyOf(columns.values())
+			));
+		});
+
+		return indexes;
+	}
+
+	static String buildCreateSql(IndexDef index, String quote)
+	{
+		return String.format(
+			"CREATE INDEX %s ON %s (%s)",
+			quote(index.indexName(), quote),
+			qualify(index.schema(), index.tableName(), quote),
+			index.columns().stream()
+				.map(column -> quote(column.name(), quote) + (column.descending() ? " DESC" : ""))
+				.collect(Collectors.joining(", "))
+		);
+	}
+
+	private static String qualify(String schema, String name, String quote)
+	{
+		return schema != null && !schema.isEmpty() ?
+			quote(schema, quote) + "." + quote(name, quote) :
+			quote(name, quote);
+	}
+
+	/**
+	 * The names read from metadata are quoted, which keeps the case of them.
+	 */
+	private static String quote(String identifier, String quote)
+	{
+		if (quote == null || quote.isBlank()) {
+			return identifier;
+		}
+
+		return quote + identifier.replace(quote, quote + quote) + quote;
+	}
+}
@@ -1,16 +1,23 @@
 package guru.mikelue.foxglove.jdbc;
 
+import java.io.IOException;
 import java.sql.Connection;
 import java.sql.SQLException;
-import java.util.HashSet;
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Spliterator;
+import java.util.Spliterators;
 import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import javax.sql.DataSource;
 
 import org.apache.commons.lang3.Validate;
-import org.apache.commons.lang3.mutable.MutableInt;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -21,8 +28,6 @@ import guru.mikelue.foxglove.setting.DataSetting;
 import guru.mikelue.foxglove.setting.DataSettingInfo;
 import guru.mikelue.foxglove.setting.LayeredDataSetting;
 
-import static guru.mikelue.foxglove.ColumnMeta.Property.AUTO_INCREMENT;
-
 /**
  * JDBC implementation of {@link DataGenerator}.
  */
@@ -35,6 +40,19 @@ public class JdbcDataGenerator implements DataGenerator<JdbcTableFacet> {
 	private final DataSource dataSource;
 	private final Connection connection;
 	private int batchSize = DEFAULT_BATCH_SIZE;
+	private BatchMode batchMode = BatchMode.Default;
+	private int pipelineCapacity = 0;
+	private int parallelism = 1;
+	private int concurrencyOfFacets = 1;
+	private CommitPolicy commitPolicy = CommitPolicy.defaults();
+	private AdaptiveBatchSize adaptiveBatchSize = null;
+	private boolean preAssigningKeys = false;
+	private GeneratedKeyRetrieval generatedKeyRetrieval = GeneratedKeyRetrieval.Default;
+	private RowSink rowSink = null;
+	private boolean bulkLoading = false;
+	private CheckpointJournal checkpointJournal = null;
+	private SessionTuning sessionTuning = null;
+	private boolean specializingRows = false;
 
 	private Optional<DataSettingInfo> dataSetting = Optional.empty();
 	private final MetaDataCache metaDataCache;
@@ -85,11 +103,447 @@ public class JdbcDataGenerator implements DataGenerator<JdbcTableFacet> {
 		return this;
 	}
 
+	/**
+	 * Sets the batch size adjusted at runtime by measured latency of batches.
+	 *
+	 * <p>
+	 * The batch size set by {@link #setBatchSize(int)} is used as the initial size.
+	 * The batch size set on {@link JdbcTableFacet.Builder#batchSize(int)} or
+	 * {@link JdbcTableFacet.Builder#batchSize(AdaptiveBatchSize)} takes precedence over this setting.
+	 *
+	 * @param adaptiveBatchSize The definition of adaptive batch size, {@code null} to use fixed batch size
+	 *
+	 * @return This instance
+	 */
+	public JdbcDataGenerator setAdaptiveBatchSize(AdaptiveBatchSize adaptiveBatchSize)
+	{
+		this.adaptiveBatchSize = adaptiveBatchSize;
+
+		return this;
+	}
+
+	/**
+	 * Sets whether or not the auto-generated keys are pre-assigned for the drivers
+	 * giving only the last generated key of a batch(Derby, SQLite, MSSQL).
+	 *
+	 * <p>
+	 * If a table facet keeps its auto-generated key(for referencing facets),
+	 * the rows of such drivers are inserted one by one to get every generated key.
+	 * With this setting, a block of keys starting from {@code MAX(key) + 1} is reserved under a lock of table,
+	 * and the keys are bound explicitly, so the rows could be inserted by JDBC batches.
+	 *
+	 * <p>
+	 * The default value is {@code false}.
+	 *
+	 * <p>
+	 * <strong>There should be no other writers to the table during the generation.
+	 * For Derby, the identity column must be {@code GENERATED BY DEFAULT}.</strong>
+	 *
+	 * <p>
+	 * <strong>The lock of table is released by the next commit, so the {@link CommitPolicy} must be
+	 * {@link CommitPolicy#perFacet()} or {@link CommitPolicy#perGeneration()} if this generator doesn't join
+	 * the transaction of {@link Connection}, otherwise {@link #generate(List)} throws {@link IllegalStateException}.</strong>
+	 *
+	 * @param preAssigningKeys Whether or not to pre-assign the keys
+	 *
+	 * @return This instance
+	 */
+	public JdbcDataGenerator setPreAssigningKeys(boolean preAssigningKeys)
+	{
+		this.preAssigningKeys = preAssigningKeys;
+
+		return this;
+	}
+
+	/**
+	 * Sets how the generated keys are retrieved for the drivers giving only the last generated key of a batch(Derby, SQLite, MSSQL).
+	 *
+	 * <p>
+	 * The default value is {@link GeneratedKeyRetrieval#Default}.
+	 * The keys pre-assigned by {@link #setPreAssigningKeys(boolean)} need no retrieval.
+	 *
+	 * @param generatedKeyRetrieval The way to retrieve generated keys
+	 *
+	 * @return This instance
+	 */
+	public JdbcDataGenerator setGeneratedKeyRetrieval(GeneratedKeyRetrieval generatedKeyRetrieval)
+	{
+		Validate.notNull(generatedKeyRetrieval, "Retrieval of generated keys must not be null");
+
+		this.generatedKeyRetrieval = generatedKeyRetrieval;
+
+		return this;
+	}
+
+	/**
+	 * Sets the sink of generated rows, which replaces the insertion of rows by JDBC.
+	 *
+	 * <p>
+	 * The metadata of tables is still read from the database of this generator,
+	 * and the values kept for referencing facets or Cartesian products work as usual.
+	 * The auto-generated key kept for referencing facets is assigned explicitly(starting from {@code MAX(key) + 1}),
+	 * other values generated by database can't be kept.
+	 *
+	 * <p>
+	 * The settings of transaction(batch size, commit policy, parallelism, etc.) are ignored with a sink.
+	 * The sink is not closed by this generator.
+	 *
+	 * @param rowSink The sink of rows, {@code null} to insert rows by JDBC
+	 *
+	 * @return This instance
+	 *
+	 * @see CsvRowSink
+	 * @see SqlScriptRowSink
+	 */
+	public JdbcDataGenerator setRowSink(RowSink rowSink)
+	{
+		this.rowSink = rowSink;
+
+		return this;
+	}
+
+	/**
+	 * Sets whether or not the rows of a table facet are loaded by the import of database in one statement.
+	 *
+	 * <p>
+	 * The rows are written to a staging CSV file(in temporary directory), which is imported by:
+	 *
+	 * <ul>
+	 *   <li>H2 - {@code INSERT INTO ... SELECT ... FROM CSVREAD(...)}</li>
+	 *   <li>Derby - {@code SYSCS_UTIL.SYSCS_IMPORT_DATA}</li>
+	 * </ul>
+	 *
+	 * <p>
+	 * The auto-generated key kept for referencing facets is read back by the range of key after the import,
+	 * so there should be no other writers to the table. The facets keeping other values generated by database,
+	 * the binary columns of H2, and the databases not listed above, are inserted by JDBC batches as usual.
+	 *
+	 * <p>
+	 * The default value is {@code false}.
+	 *
+	 * <p>
+	 * <strong>The staging file must be readable by the database, which is only the case of embedded databases.</strong>
+	 *
+	 * @param bulkLoading Whether or not to load rows by the import of database
+	 *
+	 * @return This instance
+	 */
+	public JdbcDataGenerator setBulkLoading(boolean bulkLoading)
+	{
+		this.bulkLoading = bulkLoading;
+
+		return this;
+	}
+
+	/**
+	 * Sets the policy deciding when the inserted rows are committed.
+	 *
+	 * <p>
+	 * The default policy is {@link CommitPolicy#defaults()}, which commits every batch.
+	 *
+	 * @param commitPolicy The policy of committing
+	 *
+	 * @return This instance
+	 */
+	public JdbcDataGenerator setCommitPolicy(CommitPolicy commitPolicy)
+	{
+		Validate.notNull(commitPolicy, "Commit policy must not be null");
+
+		this.commitPolicy = commitPolicy;
+
+		return this;
+	}
+
+	/**
+	 * Sets the shape of statements for insertion of rows.
+	 *
+	 * <p>
+	 * The default mode is {@link BatchMode#Default}.
+	 *
+	 * @param batchMode The mode of batch
+	 *
+	 * @return This instance
+	 */
+	public JdbcDataGenerator setBatchMode(BatchMode batchMode)
+	{
+		Validate.notNull(batchMode, "Batch mode must not be null");
+
+		this.batchMode = batchMode;
+
+		return this;
+	}
+
+	/**
+	 * Sets the capacity of buffer for pipelined generating of rows.
+	 *
+	 * <p>
+	 * With positive capacity, the rows of a table facet are generated by a producer thread,
+	 * which overlaps with the execution of JDBC batches on the thread of connection.
+	 * The producer is blocked if there are {@code capacity} rows waiting for insertion.
+	 *
+	 * <p>
+	 * The default value is {@code 0}, which disables the pipelining.
+	 *
+	 * <p>
+	 * <strong>Since the {@link Supplier}s and {@link JdbcTableFacet.Builder#onTupleGenerated(Consumer) handler of tuple}
+	 * are called by the producer thread, they should not depend on thread-bound state.</strong>
+	 *
+	 * @param capacity The number of generated rows could be buffered, {@code 0} to disable pipelining
+	 *
+	 * @return This instance
+	 */
+	public JdbcDataGenerator setPipelineCapacity(int capacity)
+	{
+		Validate.isTrue(capacity >= 0, "Capacity of pipeline must not be negative");
+
+		this.pipelineCapacity = capacity;
+
+		return this;
+	}
+
+	/**
+	 * Sets the number of connections used to insert rows of a single table facet.
+	 *
+	 * <p>
+	 * With parallelism greater than {@code 1}, the rows of a table facet(more than batch size)
+	 * are split into chunks of batch size(of the facet, could be adaptive), which are inserted by multiple connections
+	 * got from {@link DataSource}.
+	 * The rows are still generated by the calling thread, so the generated data is
+	 * the same as the one without parallelism.
+	 *
+	 * <p>
+	 * The default value is {@code 1}.
+	 *
+	 * <p>
+	 * <strong>This setting is ignored if this generator joins the transaction of {@link Connection}.
+	 * Every connection commits its rows by {@link CommitPolicy} and once the table facet is finished,
+	 * the failure of a chunk doesn't rollback the committed rows of other connections.</strong>
+	 *
+	 * @param parallelism The number of connections for a table facet
+	 *
+	 * @return This instance
+	 */
+	public JdbcDataGenerator setParallelism(int parallelism)
+	{
+		Validate.isTrue(parallelism >= 1, "Parallelism must be greater than or equal to one");
+
+		this.parallelism = parallelism;
+
+		return this;
+	}
+
+	/**
+	 * Sets the maximum number of table facets inserted at the same time.
+	 *
+	 * <p>
+	 * With concurrency greater than {@code 1}, the facets are inserted by their dependencies
+	 * rather than the order of given list. A facet is started as soon as its referenced facets
+	 * (by {@link JdbcTableFacet.Builder#referencing(String) referencing},
+	 * {@link ColumnSettingSteps.ColumnSimpleStep#from(JdbcTableFacet, String) from},
+	 * or {@link JdbcTableFacet.Builder#cartesianProduct(String) Cartesian product}) are finished.
+	 * Every running facet uses its own connection got from {@link DataSource}, which is committed
+	 * once the facet is finished.
+	 *
+	 * <p>
+	 * The default value is {@code 1}, which inserts facets in order of given list.
+	 *
+	 * <p>
+	 * <strong>This setting is ignored if this generator joins the transaction of {@link Connection}.
+	 * The dependencies by other means(e.g., fixed values of foreign key) are not known by this generator,
+	 * the concurrency should be kept as {@code 1} for such facets.</strong>
+	 *
+	 * @param concurrency The maximum number of facets inserted at the same time
+	 *
+	 * @return This instance
+	 */
+	public JdbcDataGenerator setConcurrencyOfFacets(int concurrency)
+	{
+		Validate.isTrue(concurrency >= 1, "Concurrency of facets must be greater than or equal to one");
+
+		this.concurrencyOfFacets = concurrency;
+
+		return this;
+	}
+
+	/**
+	 * Sets the tuning of database applied before the generation, which is restored afterward.
+	 *
+	 * <p>
+	 * The default value is {@code null}, which keeps the settings of database.
+	 *
+	 * <p>
+	 * <strong>The tuning is not applied if this generator joins the transaction of {@link Connection}.
+	 * Some settings(e.g., referential integrity of H2) are of the database rather than the session,
+	 * which affect other connections during the generation.
+	 * With {@linkplain #setConcurrencyOfFacets(int) concurrency of facets}, the tuning is applied once
+	 * by a dedicated connection around all of the facets, the settings of session(e.g., pragmas of SQLite)
+	 * don't affect the connections inserting rows.</strong>
+	 *
+	 * @param sessionTuning The tuning of database, {@code null} to keep the settings
+	 *
+	 * @return This instance
+	 *
+	 * @see SessionTuning#ofVendor()
+	 * @see SessionTuning#rebuildingIndexes()
+	 */
+	public JdbcDataGenerator setSessionTuning(SessionTuning sessionTuning)
+	{
+		this.sessionTuning = sessionTuning;
+
+		return this;
+	}
+
+	/**
+	 * Sets whether or not to generate the rows of a table facet by the code specialized for its columns.
+	 *
+	 * <p>
+	 * With this option, every column of a table facet is generated by its own hidden class
+	 * (see {@link java.lang.invoke.MethodHandles.Lookup}), which makes the calls to {@link Supplier}s monomorphic and inlinable by JIT.
+	 * It benefits the facets having many columns and rows, at the cost of defining classes per facet.
+	 *
+	 * <p>
+	 * The default value is {@code false}.
+	 * If the hidden classes couldn't be defined, the rows are generated as usual.
+	 *
+	 * @param specializingRows Whether or not to specialize the generating of rows
+	 *
+	 * @return This instance
+	 */
+	public JdbcDataGenerator setSpecializingRows(boolean specializingRows)
+	{
+		this.specializingRows = specializingRows;
+
+		return this;
+	}
+
+	/**
+	 * Sets the journal recording the committed rows of every table facet, which makes a failed generation resumable.
+	 *
+	 * <p>
+	 * On every commit, the number of committed rows per facet is written to the journal.
+	 * A later generation with the same journal(and the same list of facets) skips the committed rows,
+	 * which are generated again(without insertion) to restore the state of suppliers and the values kept for referencing facets.
+	 * The journal is deleted after a successful generation.
+	 *
+	 * <p>
+	 * The default value is {@code null}, which disables the checkpoint.
+	 *
+	 * <p>
+	 * <strong>The journal is only supported by the sequential insertion on {@link DataSource}
+	 * (no parallelism, concurrency of facets, row sink, or pre-assigned keys).
+	 * The skipped rows of a facet keeping values generated by database(e.g., auto-generated keys) can't be restored,
+	 * such facet can't be resumed in the middle. The resumed values are identical only if the suppliers are deterministic.</strong>
+	 *
+	 * @param checkpointJournal The journal of checkpoint, {@code null} to disable the checkpoint
+	 *
+	 * @return This instance
+	 */
+	public JdbcDataGenerator setCheckpointJournal(CheckpointJournal checkpointJournal)
+	{
+		this.checkpointJournal = checkpointJournal;
+
+		return this;
+	}
+
+	/**
+	 * Generates the tuples of a table facet without database.
+	 *
+	 * @param tableFacet The table facet
+	 * @param columns The metadata of columns, which are filtered as the insertion of database
+	 *
+	 * @return The lazy stream of tuples
+	 *
+	 * @see #stream(JdbcTableFacet, List, DataSettingInfo)
+	 */
+	public static Stream<TupleAccessor> stream(JdbcTableFacet tableFacet, List<ColumnMeta> columns)
+	{
+		return stream(tableFacet, columns, null);
+	}
+
+	/**
+	 * Generates the tuples of a table facet without database.
+	 *
+	 * <p>
+	 * The tuples are generated one by one while the stream is consumed,
+	 * so the memory is not growing with the number of rows(except the values kept for referencing facets).
+	 * The {@link JdbcTableFacet.Builder#onTupleGenerated(Consumer) handler of tuple} is called for every generated tuple.
+	 *
+	 * <p>
+	 * The facets referencing to this one could be streamed after this stream is consumed,
+	 * while the values generated by database(e.g., auto-increment keys) are not available.
+	 *
+	 * <pre><code class="java">
+	 * var columns = List.of(
+	 *     new ColumnMeta("cr_brand", EnumSet.noneOf(Property.class), "VARCHAR", JDBCType.VARCHAR, 32, 0),
+	 *     new ColumnMeta("cr_year", EnumSet.noneOf(Property.class), "SMALLINT", JDBCType.SMALLINT, 5, 0)
+	 * );
+	 *
+	 * JdbcDataGenerator.stream(facet, columns)
+	 *     .forEach(tuple -> producer.send(tuple.asMap()));
+	 * </code></pre>
+	 *
+	 * @param tableFacet The table facet
+	 * @param columns The metadata of columns, which are filtered as the insertion of database
+	 * @param setting The setting with lower priority than table facet's own setting, could be {@code null}
+	 *
+	 * @return The lazy stream of tuples
+	 */
+	public static Stream<TupleAccessor> stream(
+		JdbcTableFacet tableFacet, List<ColumnMeta> columns,
+		DataSettingInfo setting
+	) {
+		Validate.notNull(tableFacet, "Table facet must not be null");
+		Validate.notEmpty(columns, "At least one column must be given");
+
+		var layeredDataSetting = new LayeredDataSetting(
+			tableFacet.getSetting().orElse(null), setting
+		);
+		var targetColumns = MetaUtils.filterColumns(columns, layeredDataSetting, tableFacet);
+
+		var tupleIterator = new TupleIterator(
+			tableFacet, targetColumns, layeredDataSetting, Map.of()
+		);
+
+		return StreamSupport.stream(
+			Spliterators.spliterator(
+				tupleIterator, tupleIterator.getNumberOfRows(),
+				Spliterator.ORDERED | Spliterator.NONNULL
+			),
+			false
+		);
+	}
+
 	@Override
-	public int generate(List<JdbcTableFacet> tableFacets)
+	public long generate(List<JdbcTableFacet> tableFacets)
 		throws RuntimeJdbcException
 	{
 		Validate.notEmpty(tableFacets, "At least one table facet must be given");
+		Validate.validState(
+			checkpointJournal == null || (
+				this.dataSource != null && rowSink == null && !preAssigningKeys &&
+				parallelism == 1 && concurrencyOfFacets == 1
+			),
+			"Checkpoint journal is only supported by sequential insertion on DataSource: %s", checkpointJournal
+		);
+		Validate.validState(
+			!preAssigningKeys || rowSink != null || this.connection != null ||
+				commitPolicy.isKeepingTransactionOfFacet(),
+			"Pre-assigned keys need CommitPolicy.perFacet() or perGeneration(), the lock of table is released by commit: %s", commitPolicy
+		);
+
+		if (rowSink != null) {
+			try {
+				if (this.connection != null) {
+					return generateToRowSink(tableFacets, this.connection);
+				}
+
+				try (var currentConn = this.dataSource.getConnection()) {
+					return generateToRowSink(tableFacets, currentConn);
+				}
+			} catch (Exception e) {
+				throw new RuntimeJdbcException(e);
+			}
+		}
 
 		final var joinConn = this.connection != null;
 
@@ -99,10 +553,10 @@ public class JdbcDataGenerator implements DataGenerator<JdbcTableFacet> {
 
 				return new DataGeneratorWorker(
 					tableFacets, metaDataCache, dataSetting,
-					new TransactionGear(
-						this.connection, batchSize, true
-					)
+					buildTransactionGear(this.connection, true)
 				)
+					.withSessionTuning(sessionTuning)
+					.withSpecializingRows(specializingRows)
 					.generate();
 			} catch (Exception e) {
 				try {
@@ -115,27 +569,224 @@ public class JdbcDataGenerator implements DataGenerator<JdbcTableFacet> {
 			}
 		}
 
+		try {
+			if (concurrencyOfFacets > 1 && tableFacets.size() > 1) {
+				return generateFacetsConcurrently(tableFacets);
+			}
+
+			return generateByDataSource(tableFacets, sessionTuning);
+		} catch (Exception e) {
+			throw new RuntimeJdbcException(e);
+		}
+	}
+
+	/**
+	 * Generates rows of a table facet continuously by the target rate, until the thread is interrupted.
+	 *
+	 * @param tableFacet The table facet, whose number of rows is the maximum number of rows
+	 * @param rate The target rate
+	 *
+	 * @return The number of inserted rows
+	 *
+	 * @throws RuntimeJdbcException Any error while generating data
+	 *
+	 * @see #generateContinuously(JdbcTableFacet, GenerationRate, Duration)
+	 */
+	public long generateContinuously(JdbcTableFacet tableFacet, GenerationRate rate)
+		throws RuntimeJdbcException
+	{
+		return generateContinuously(tableFacet, rate, null);
+	}
+
+	/**
+	 * Generates rows of a table facet continuously by the target rate, for steady load of writing.
+	 *
+	 * <p>
+	 * The generation is stopped by any of:
+	 *
+	 * <ul>
+	 *   <li>The duration is elapsed.</li>
+	 *   <li>The {@linkplain JdbcTableFacet#getNumberOfRows() number of rows} of facet is reached,
+	 *   use {@code numberOfRows(Long.MAX_VALUE)} for unbounded generation.</li>
+	 *   <li>The calling thread is interrupted, the interrupted status is kept.</li>
+	 * </ul>
+	 *
+	 * <p>
+	 * The rows are inserted by chunks of {@link GenerationRate}, every chunk is a batch for {@link CommitPolicy}.
+	 * The memory is bound by the size of chunk, so the values of this facet can't be kept for referencing facets.
+	 *
+	 * <p>
+	 * <strong>The row sink, parallelism, bulk loading, and pre-assigned keys are not applied to this method.</strong>
+	 *
+	 * <pre><code class="java">
+	 * var events = JdbcTableFacet.builder("ev_event")
+	 *     .numberOfRows(Long.MAX_VALUE)
+	 *     .build();
+	 *
+	 * generator.generateContinuously(events, GenerationRate.rowsPerSecond(200), Duration.ofMinutes(10));
+	 * </code></pre>
+	 *
+	 * @param tableFacet The table facet, whose number of rows is the maximum number of rows
+	 * @param rate The target rate
+	 * @param duration The duration of generation, {@code null} for no limit on time
+	 *
+	 * @return The number of inserted rows
+	 *
+	 * @throws RuntimeJdbcException Any error while generating data
+	 */
+	public long generateContinuously(JdbcTableFacet tableFacet, GenerationRate rate, Duration duration)
+		throws RuntimeJdbcException
+	{
+		Validate.notNull(tableFacet, "Table facet must not be null");
+		Validate.notNull(rate, "Rate must not be null");
+		Validate.isTrue(
+			duration == null || (!duration.isNegative() && !duration.isZero()),
+			"Duration must be positive"
+		);
+		Validate.validState(rowSink == null, "Row sink is not supported by continuous generation");
+
+		var durationNanos = duration != null ? duration.toNanos() : Long.MAX_VALUE;
+		var tableFacets = List.of(tableFacet);
+
+		if (this.connection != null) {
+			try {
+				metaDataCache.loadMetadata(tableFacets, this.connection);
+
+				return new DataGeneratorWorker(
+					tableFacets, metaDataCache, dataSetting,
+					buildTransactionGear(this.connection, true)
+				)
+					.withSpecializingRows(specializingRows)
+					.generateContinuously(rate, durationNanos);
+			} catch (Exception e) {
+				throw new RuntimeJdbcException(e);
+			}
+		}
+
 		try (var currentConn = this.dataSource.getConnection()) {
 			metaDataCache.loadMetadata(tableFacets, currentConn);
 
 			try {
 				return new DataGeneratorWorker(
 					tableFacets, metaDataCache, dataSetting,
-					new TransactionGear(
-						currentConn, batchSize, false
-					)
-				).generate();
+					buildTransactionGear(currentConn, false)
+				)
+					.withSpecializingRows(specializingRows)
+					.generateContinuously(rate, durationNanos);
 			} catch (Exception e) {
 				if (!currentConn.getAutoCommit()) {
 					currentConn.rollback();
 				}
 				throw e;
 			}
+		} catch (RuntimeJdbcException e) {
+			throw e;
 		} catch (Exception e) {
 			throw new RuntimeJdbcException(e);
 		}
 	}
 
+	private TransactionGear buildTransactionGear(Connection conn, boolean joinConnection)
+	{
+		return TransactionGear.of(conn, batchSize, joinConnection)
+			.withBatchMode(batchMode)
+			.withPipelineCapacity(pipelineCapacity)
+			.withCommitPolicy(commitPolicy)
+			.withAdaptiveBatchSize(adaptiveBatchSize)
+			.withPreAssigningKeys(preAssigningKeys)
+			.withGeneratedKeyRetrieval(generatedKeyRetrieval)
+			.withBulkLoading(bulkLoading);
+	}
+
+	/**
+	 * The tuning of session is applied once around all of the facets(by a dedicated connection),
+	 * since the facets are inserted at the same time and some settings are of the whole database.
+	 */
+	private long generateFacetsConcurrently(List<JdbcTableFacet> tableFacets)
+		throws Exception
+	{
+		var scheduler = new FacetScheduler(tableFacets, concurrencyOfFacets);
+
+		if (sessionTuning == null) {
+			return scheduler.execute(facet -> generateByDataSource(List.of(facet), null));
+		}
+
+		try (var tuningConn = this.dataSource.getConnection()) {
+			var restoration = sessionTuning.apply(
+				tuningConn,
+				tableFacets.stream()
+					.map(JdbcTableFacet::tableName)
+					.distinct()
+					.toList()
+			);
+
+			long totalRowsGenerated;
+			try {
+				totalRowsGenerated = scheduler.execute(facet -> generateByDataSource(List.of(facet), null));
+			} catch (Exception e) {
+				try {
+					restoration.restore(tuningConn);
+				} catch (SQLException | RuntimeException restorationEx) {
+					e.addSuppressed(restorationEx);
+				}
+
+				throw e;
+			}
+
+			restoration.restore(tuningConn);
+
+			return totalRowsGenerated;
+		}
+	}
+
+	/**
+	 * @param tuningOfWorker Could be null, which keeps the settings of database
+	 */
+	private long generateByDataSource(List<JdbcTableFacet> tableFacets, SessionTuning tuningOfWorker)
+		throws Exception
+	{
+		try (var currentConn = this.dataSource.getConnection()) {
+			metaDataCache.loadMetadata(tableFacets, currentConn);
+
+			var txGear = buildTransactionGear(currentConn, false);
+
+			try {
+				return new DataGeneratorWorker(
+					tableFacets, metaDataCache, dataSetting,
+					txGear,
+					parallelism > 1 ?
+						new ParallelFacetInserter(dataSource, txGear, parallelism) : null
+				)
+					.withCheckpointJournal(checkpointJournal)
+					.withSessionTuning(tuningOfWorker)
+					.withSpecializingRows(specializingRows)
+					.generate();
+			} catch (Exception e) {
+				if (!currentConn.getAutoCommit()) {
+					currentConn.rollback();
+				}
+				throw e;
+			}
+		}
+	}
+
+	/**
+	 * The connection is only used to read metadata, its state of transaction is not touched.
+	 */
+	private long generateToRowSink(List<JdbcTableFacet> tableFacets, Connection conn)
+		throws Exception
+	{
+		metaDataCache.loadMetadata(tableFacets, conn);
+
+		return new DataGeneratorWorker(
+			tableFacets, metaDataCache, dataSetting,
+			TransactionGear.of(conn, batchSize, true),
+			rowSink
+		)
+			.withSpecializingRows(specializingRows)
+			.generate();
+	}
+
 	/**
 	 * This object has lower priority than table facet's own setting, yet
 	 * has higher priority than {@link DataSetting#defaults()}.
@@ -159,36 +810,256 @@ class DataGeneratorWorker {
 	private final DataSettingInfo dataSetting;
 	private final TransactionGear transactionGear;
 	private final MetaDataCache metaDataCache;
+	private final ParallelFacetInserter parallelInserter;
+	private final RowSink rowSink;
+	private CheckpointJournal checkpointJournal = null;
+	private SessionTuning sessionTuning = null;
+	private boolean specializingRows = false;
 
 	DataGeneratorWorker(
 		List<JdbcTableFacet> facetOfTables,
 		MetaDataCache metaDataCache,
 		Optional<DataSettingInfo> dataSetting,
 		TransactionGear transactionGear
+	) {
+		this(facetOfTables, metaDataCache, dataSetting, transactionGear, null, null);
+	}
+
+	/**
+	 * @param parallelInserter Could be null, which disables parallel insertion
+	 */
+	DataGeneratorWorker(
+		List<JdbcTableFacet> facetOfTables,
+		MetaDataCache metaDataCache,
+		Optional<DataSettingInfo> dataSetting,
+		TransactionGear transactionGear,
+		ParallelFacetInserter parallelInserter
+	) {
+		this(facetOfTables, metaDataCache, dataSetting, transactionGear, parallelInserter, null);
+	}
+
+	/**
+	 * @param rowSink The rows are written to the sink instead of the connection of {@link TransactionGear}
+	 */
+	DataGeneratorWorker(
+		List<JdbcTableFacet> facetOfTables,
+		MetaDataCache metaDataCache,
+		Optional<DataSettingInfo> dataSetting,
+		TransactionGear transactionGear,
+		RowSink rowSink
+	) {
+		this(facetOfTables, metaDataCache, dataSetting, transactionGear, null, rowSink);
+	}
+
+	private DataGeneratorWorker(
+		List<JdbcTableFacet> facetOfTables,
+		MetaDataCache metaDataCache,
+		Optional<DataSettingInfo> dataSetting,
+		TransactionGear transactionGear,
+		ParallelFacetInserter parallelInserter,
+		RowSink rowSink
 	) {
 		this.facetOfTables = facetOfTables;
 		this.metaDataCache = metaDataCache;
 		this.dataSetting = dataSetting.orElse(null);
 		this.transactionGear = transactionGear;
+		this.parallelInserter = parallelInserter;
+		this.rowSink = rowSink;
+	}
+
+	/**
+	 * @param checkpointJournal Could be null, which disables the checkpoint
+	 */
+	DataGeneratorWorker withCheckpointJournal(CheckpointJournal checkpointJournal)
+	{
+		this.checkpointJournal = checkpointJournal;
+
+		return this;
 	}
 
-	int generate() throws SQLException
+	/**
+	 * @param sessionTuning Could be null, which keeps the settings of database
+	 */
+	DataGeneratorWorker withSessionTuning(SessionTuning sessionTuning)
 	{
-		int totalRowsGenerated = 0;
+		this.sessionTuning = sessionTuning;
 
-		try (var txWorker = new JdbcTxWorker(transactionGear)) {
-			for (var table: facetOfTables) {
-				var layeredDataSetting = new LayeredDataSetting(
-					table.getSetting().orElse(null),
-					dataSetting
+		return this;
+	}
+
+	DataGeneratorWorker withSpecializingRows(boolean specializingRows)
+	{
+		this.specializingRows = specializingRows;
+
+		return this;
+	}
+
+	/**
+	 * With checkpoint journal, the number of rows doesn't include the ones committed by previous generation.
+	 */
+	long generate() throws SQLException, IOException
+	{
+		long totalRowsGenerated = 0;
+
+		/*
+		 * The tuning is applied before the transaction of worker, and restored after it
+		 */
+		SessionTuning.Restoration restoration = null;
+		if (sessionTuning != null) {
+			if (transactionGear.joinConnection()) {
+				logger.debug("Skip tuning of session because of joining existing transaction.");
+			} else {
+				restoration = sessionTuning.apply(
+					transactionGear.connection(),
+					facetOfTables.stream()
+						.map(JdbcTableFacet::tableName)
+						.distinct()
+						.toList()
 				);
+			}
+		}
+		// :~)
+
+		try (var txWorker = new JdbcTxWorker(transactionGear)) {
+			txWorker.setCheckpointJournal(checkpointJournal);
+
+			try {
+				for (int i = 0; i < facetOfTables.size(); i++) {
+					var table = facetOfTables.get(i);
+					var layeredDataSetting = new LayeredDataSetting(
+						table.getSetting().orElse(null),
+						dataSetting
+					);
 
-				totalRowsGenerated += doInsertForTable(
-					txWorker, table, layeredDataSetting
+					totalRowsGenerated += doInsertForTable(
+						txWorker, i, table, layeredDataSetting
+					);
+				}
+			} catch (SQLException | IOException | RuntimeException e) {
+				if (parallelInserter != null) {
+					try {
+						parallelInserter.close();
+					} catch (SQLException | RuntimeException closeEx) {
+						e.addSuppressed(closeEx);
+					}
+				}
+
+				throw e;
+			}
+
+			/*
+			 * The lanes commit their rows before the transaction of worker
+			 */
+			if (parallelInserter != null) {
+				parallelInserter.close();
+			}
+			// :~)
+		} catch (SQLException | IOException | RuntimeException e) {
+			if (restoration != null) {
+				try {
+					restoration.restore(transactionGear.connection());
+				} catch (SQLException | RuntimeException restorationEx) {
+					e.addSuppressed(restorationEx);
+				}
+			}
+
+			throw e;
+		}
+
+		if (restoration != null) {
+			restoration.restore(transactionGear.connection());
+		}
+
+		if (checkpointJournal != null) {
+			checkpointJournal.reset();
+		}
+
+		return totalRowsGenerated;
+	}
+
+	/**
+	 * Inserts the rows of the only facet by chunks, which are scheduled by token bucket.
+	 */
+	long generateContinuously(GenerationRate rate, long durationNanos)
+		throws SQLException
+	{
+		var table = facetOfTables.get(0);
+		var setting = new LayeredDataSetting(
+			table.getSetting().orElse(null),
+			dataSetting
+		);
+
+		var metaOfColumns = metaDataCache.getMetaOfColumns(table.tableName());
+		if (metaOfColumns.isEmpty()) {
+			throw new RuntimeJdbcException("No column meta data found: " + table.tableName());
+		}
+
+		var valueTomb = table.getValueTomb();
+		Validate.validState(
+			!valueTomb.isKeepingColumnsOtherThan(List.of()),
+			"Values of continuous generation can't be kept for referencing facets: %s", valueTomb
+		);
+
+		var targetColumns = MetaUtils.filterColumns(metaOfColumns, setting, table);
+		var sql = metaDataCache.getInsertPlan(
+			transactionGear.connection(), table.tableName(), targetColumns
+		)
+			.sql();
+		var tupleIterator = new TupleIterator(table, targetColumns, setting, Map.of())
+			.withSpecializedRows(specializingRows);
+
+		/*
+		 * Every chunk is a batch, which is bound by the batch size of facet or generator
+		 */
+		var batchSize = table.getBatchSize() > 0 ?
+			table.getBatchSize() : transactionGear.batchSize();
+		var chunkSize = rate.chunkSize(batchSize);
+		var batchSizer = BatchSizer.fixed(chunkSize);
+		var tokenBucket = new TokenBucket(
+			elapsedNanos -> rate.rowsPerSecondAt(batchSize, elapsedNanos),
+			rate.capacity(chunkSize)
+		);
+		// :~)
+
+		logger.info(
+			"Generating rows of table [{}] continuously by [{}], chunk size: {}",
+			table.tableName(), rate, chunkSize
+		);
+
+		long totalRowsGenerated = 0;
+		var startNanos = System.nanoTime();
+
+		try (var txWorker = new JdbcTxWorker(transactionGear)) {
+			while (tupleIterator.hasNext()) {
+				var numberOfRows = Math.min(chunkSize, tupleIterator.getNumberOfRows() - totalRowsGenerated);
+
+				try {
+					tokenBucket.acquire(numberOfRows);
+				} catch (InterruptedException e) {
+					logger.info("Continuous generation of table [{}] is interrupted", table.tableName());
+					Thread.currentThread().interrupt();
+					break;
+				}
+
+				if (System.nanoTime() - startNanos >= durationNanos) {
+					break;
+				}
+
+				totalRowsGenerated += txWorker.performInsert(
+					new JdbcTxWorker.InsertionContext(
+						sql, numberOfRows, new String[0],
+						tupleIterator::nextRow,
+						setting,
+						table.tableName(), targetColumns,
+						false, false, batchSizer
+					),
+					tuples -> {}
 				);
 			}
 		}
 
+		logger.info("Generated [{}] rows of table [{}] continuously", totalRowsGenerated, table.tableName());
+
 		return totalRowsGenerated;
 	}
 
@@ -199,10 +1070,10 @@ class DataGeneratorWorker {
 	 * 2. Building the SQL statement
 	 * 3. Building the row parameter generator
 	 */
-	private int doInsertForTable(
-		JdbcTxWorker txWorker, JdbcTableFacet table,
+	private long doInsertForTable(
+		JdbcTxWorker txWorker, int indexOfFacet, JdbcTableFacet table,
 		DataSettingInfo setting
-	) throws SQLException
+	) throws SQLException, IOException
 	{
 		var metaOfColumns = metaDataCache.getMetaOfColumns(table.tableName());
 		if (metaOfColumns.isEmpty()) {
@@ -212,38 +1083,52 @@ class DataGeneratorWorker {
 		/*
 		 * Determines the target columns for data generation
 		 */
-		var targetColumns = MetaUtils.filterColumns(
+		var filteredColumns = MetaUtils.filterColumns(
 			metaOfColumns, setting, table
 		);
 		// :~)
 
-		var targetColumnsSet = new HashSet<>(targetColumns);
-		var namesOfGeneratedColumns = metaOfColumns.stream()
-			.filter(meta -> {
-				/*
-				 * Excludes the columns should be generated by Foxglove.
-				 */
-				if (targetColumnsSet.contains(meta)) {
-					return false;
-				}
-				// :~)
-
-				var properties = meta.properties();
-				return properties.contains(AUTO_INCREMENT);
-			})
-			.map(ColumnMeta::name)
-			.toArray(String[]::new);
-
-		// Builds the insertion SQL
-		var sql = MetaUtils.buildInsertSql(
-			transactionGear.connection().getMetaData(),
-			table.tableName(), targetColumns
-		);
+		/*
+		 * Pre-assigns the auto-generated key, which is bound explicitly as a target column
+		 */
+		var conn = transactionGear.connection();
+		KeyPreAssigner keyPreAssigner = null;
+		if (rowSink != null) {
+			keyPreAssigner = KeyPreAssigner.ofRowSink(
+				table.tableName(), metaOfColumns, filteredColumns, table.getValueTomb()
+			);
+		} else if (transactionGear.preAssigningKeys()) {
+			keyPreAssigner = KeyPreAssigner.of(
+				metaDataCache.getDriverName(conn), table.tableName(),
+				metaOfColumns, filteredColumns, table.getValueTomb()
+			);
+		}
+
+		var targetColumns = filteredColumns;
+		Map<ColumnMeta, Supplier<Object>> presetSuppliers = Map.of();
+		if (keyPreAssigner != null) {
+			targetColumns = new ArrayList<>(filteredColumns);
+			targetColumns.add(keyPreAssigner.getKeyColumn());
+
+			presetSuppliers = Map.of(
+				keyPreAssigner.getKeyColumn(), keyPreAssigner.reserve(conn)
+			);
+		}
+		// :~)
+
+		/*
+		 * The plan of insertion is cached by the URL of database
+		 */
+		var insertPlan = metaDataCache.getInsertPlan(conn, table.tableName(), targetColumns);
+		var sql = insertPlan.sql();
+		var namesOfGeneratedColumns = insertPlan.namesOfGeneratedColumns();
+		// :~)
 
 		/*
 		 * Builds the row parameter generator
 		 */
-		var rowGenerator = new RowParamsGenerator(table, targetColumns, setting);
+		var tupleIterator = new TupleIterator(table, targetColumns, setting, presetSuppliers)
+			.withSpecializedRows(specializingRows);
 		if (logger.isDebugEnabled()) {
 			logger.debug(
 				"Generating data for table: {}({})",
@@ -255,31 +1140,143 @@ class DataGeneratorWorker {
 		}
 		// :~)
 
-		Consumer<TupleAccessor> tupleHandler = table.getHandlerOfTuple() != null ?
-			table.getHandlerOfTuple() : (t -> {});
-		var numberOfGeneratedRow = new MutableInt(0);
 		var valueTomb = table.getValueTomb();
-		var tupleSchema = new TupleAccessorImpl.TupleSchema(targetColumns);
-
-		return txWorker.performInsert(
-			new JdbcTxWorker.InsertionContext(
-				sql, table.getNumberOfRows(), namesOfGeneratedColumns,
-				() -> {
-					var newRow = rowGenerator.generateRowParams();
-					var newTuple = tupleSchema.createTupleAccessor(
-						newRow, numberOfGeneratedRow.intValue()
-					);
+		var keepingGeneratedValues = valueTomb.isKeepingColumnsOtherThan(
+			targetColumns.stream()
+				.map(ColumnMeta::name)
+				.toList()
+		);
 
-					tupleHandler.accept(newTuple);
+		/*
+		 * Skips the rows committed by previous generation, which are generated again
+		 * for the state of suppliers and the kept values.
+		 */
+		long skippedRows = 0;
+		if (checkpointJournal != null) {
+			skippedRows = checkpointJournal.beginFacet(
+				indexOfFacet, table.tableName(), tupleIterator.getNumberOfRows()
+			);
 
-					numberOfGeneratedRow.increment();
-					valueTomb.preserveProtoData(newTuple);
+			if (skippedRows > 0) {
+				if (keepingGeneratedValues) {
+					throw new RuntimeJdbcException(String.format(
+						"Values generated by database can't be restored for resuming [%d] committed rows: %s",
+						skippedRows, valueTomb
+					));
+				}
 
-					return newTuple.asMap();
-				},
-				setting
-			),
-			valueTomb::preserveAfterData
+				logger.info("Skipping [{}] committed rows of table: {}", skippedRows, table.tableName());
+				tupleIterator.skip(skippedRows);
+			}
+
+			if (!tupleIterator.hasNext()) {
+				return 0;
+			}
+		}
+		// :~)
+
+		var context = new JdbcTxWorker.InsertionContext(
+			sql, tupleIterator.getNumberOfRows() - skippedRows, namesOfGeneratedColumns,
+			tupleIterator::nextRow,
+			setting,
+			table.tableName(), targetColumns,
+			keepingGeneratedValues, insertPlan.integralGeneratedKey(),
+			buildBatchSizer(table)
 		);
+
+		if (rowSink != null) {
+			if (keepingGeneratedValues) {
+				throw new RuntimeJdbcException(String.format(
+					"Values generated by database can't be kept while writing rows to sink: %s", valueTomb
+				));
+			}
+
+			return writeToRowSink(context);
+		}
+
+		var bulkLoader = transactionGear.bulkLoading() ?
+			BulkLoader.of(metaDataCache.getDriverName(conn)) : null;
+		if (
+			bulkLoader != null &&
+			!bulkLoader.isApplicable(targetColumns, keepingGeneratedValues, namesOfGeneratedColumns)
+		) {
+			bulkLoader = null;
+		}
+
+		/*
+		 * The lock and session state of pre-assigned keys are bound to the connection of this worker,
+		 * a failure of releasing doesn't hide the failure of insertion.
+		 */
+		if (keyPreAssigner != null) {
+			long insertedRows;
+			try {
+				insertedRows = bulkLoader != null ?
+					txWorker.performBulkLoad(context, bulkLoader, valueTomb::preserveAfterData) :
+					txWorker.performInsert(context, valueTomb::preserveAfterData);
+			} catch (SQLException | IOException | RuntimeException e) {
+				try {
+					keyPreAssigner.release(conn);
+				} catch (SQLException releaseEx) {
+					e.addSuppressed(releaseEx);
+				}
+
+				throw e;
+			}
+
+			keyPreAssigner.release(conn);
+			return insertedRows;
+		}
+		// :~)
+
+		if (bulkLoader != null) {
+			return txWorker.performBulkLoad(context, bulkLoader, valueTomb::preserveAfterData);
+		}
+
+		if (parallelInserter != null && parallelInserter.isApplicable(context)) {
+			/*
+			 * The rows of previous facets must be visible to lanes
+			 */
+			txWorker.commitIfNeeded();
+			// :~)
+
+			return parallelInserter.performInsert(context, valueTomb::preserveAfterData);
+		}
+
+		return txWorker.performInsert(context, valueTomb::preserveAfterData);
+	}
+
+	private long writeToRowSink(JdbcTxWorker.InsertionContext context)
+		throws IOException
+	{
+		logger.debug("Going to write [{}] rows of [{}] to sink", context.numberOfRows(), context.tableName());
+
+		rowSink.beginTable(context.tableName(), context.targetColumns());
+
+		var rowParamsGenerator = context.rowParamsGenerator();
+		for (long rowIndex = 0; rowIndex < context.numberOfRows(); rowIndex++) {
+			rowSink.writeRow(rowParamsGenerator.get());
+		}
+
+		rowSink.endTable();
+
+		return context.numberOfRows();
+	}
+
+	/**
+	 * The batch size of table facet takes precedence over the one of generator.
+	 */
+	private BatchSizer buildBatchSizer(JdbcTableFacet table)
+	{
+		var initialSize = table.getBatchSize() > 0 ?
+			table.getBatchSize() : transactionGear.batchSize();
+
+		var adaptiveBatchSize = table.getAdaptiveBatchSize();
+		if (adaptiveBatchSize == null && table.getBatchSize() == 0) {
+			adaptiveBatchSize = transactionGear.adaptiveBatchSize();
+		}
+
+		return adaptiveBatchSize != null ?
+			new AdaptiveBatchSizer(adaptiveBatchSize, initialSize) :
+			BatchSizer.fixed(initialSize);
 	}
 }
@@ -2,6 +2,7 @@ package guru.mikelue.foxglove.jdbc;
 
 import java.util.*;
 import java.util.function.Consumer;
+import java.util.function.LongSupplier;
 import java.util.function.Supplier;
 
 import org.apache.commons.lang3.StringUtils;
@@ -62,7 +63,7 @@ public class JdbcTableFacet implements TableFacet, SettingProvider {
 	 * You can only use <strong>one of</strong> following ways to decide the number of rows to be generated:
 	 *
 	 * <ul>
-	 *   <li>Using {@link #numberOfRows(int)} in the builder.</li>
+	 *   <li>Using {@link #numberOfRows(long)} in the builder.</li>
 	 *   <li>Using {@link #keyOfInt(String)} by limit the amount of generated keys.</li>
 	 *   <li>Using {@link #cartesianProduct(String)} on at least one column.</li>
 	 *   <li>Using {@link #referencing(String)} with cardinality(self side) to parent rows.</li>
@@ -74,7 +75,7 @@ public class JdbcTableFacet implements TableFacet, SettingProvider {
 	 *
 	 * <ul>
 	 *   <li>Use {@link #column(String)} to configure value generator for a column.</li>
-	 *   <li>Use {@link #numberOfRows(int)} to configure fixed number of rows to be generated.</li>
+	 *   <li>Use {@link #numberOfRows(long)} to configure fixed number of rows to be generated.</li>
 	 *   <li>Use {@link #includeColumns(String...)} to include those columns only(others are excluded).</li>
 	 *   <li>Use {@link #excludeColumns(String...)} to exclude some columns.</li>
 	 * </ul>
@@ -224,7 +225,7 @@ public class JdbcTableFacet implements TableFacet, SettingProvider {
 		 *
 		 * @return This builder
 		 */
-		public Builder numberOfRows(int numberOfRows)
+		public Builder numberOfRows(long numberOfRows)
 		{
 			validateRowNumberIntegrity(null);
 			Validate.isTrue(numberOfRows > 0, "Number of numberOfRows must be greater than zero");
@@ -403,6 +404,47 @@ public class JdbcTableFacet implements TableFacet, SettingProvider {
 			return this;
 		}
 
+		/**
+		 * Sets the batch size for this table, which takes precedence over
+		 * {@link JdbcDataGenerator#setBatchSize(int)} and {@link JdbcDataGenerator#setAdaptiveBatchSize(AdaptiveBatchSize)}.
+		 *
+		 * <p>
+		 * The rows inserted by multiple connections({@link JdbcDataGenerator#setParallelism(int)})
+		 * are split into chunks of lanes by this batch size as well.
+		 *
+		 * @param batchSize The batch size for this table
+		 *
+		 * @return This builder
+		 */
+		public Builder batchSize(int batchSize)
+		{
+			Validate.isTrue(batchSize > 0, "Batch size must be greater than zero");
+
+			newTableFacet.batchSize = batchSize;
+			newTableFacet.adaptiveBatchSize = null;
+			return this;
+		}
+
+		/**
+		 * Sets the batch size adjusted at runtime for this table, which takes precedence over
+		 * {@link JdbcDataGenerator#setBatchSize(int)} and {@link JdbcDataGenerator#setAdaptiveBatchSize(AdaptiveBatchSize)}.
+		 *
+		 * <p>
+		 * The batch size of generator is used as the initial size.
+		 *
+		 * @param adaptiveBatchSize The definition of adaptive batch size
+		 *
+		 * @return This builder
+		 */
+		public Builder batchSize(AdaptiveBatchSize adaptiveBatchSize)
+		{
+			Validate.notNull(adaptiveBatchSize, "Adaptive batch size must not be null");
+
+			newTableFacet.adaptiveBatchSize = adaptiveBatchSize;
+			newTableFacet.batchSize = 0;
+			return this;
+		}
+
 		/**
 		 * Sets the consumer to handle generated tuple.
 		 *
@@ -462,6 +504,17 @@ public class JdbcTableFacet implements TableFacet, SettingProvider {
 			return newTableFacet;
 		}
 
+		/**
+		 * Records the facet whose kept values are used by this facet,
+		 * which must be generated before this facet.
+		 */
+		void dependOn(JdbcTableFacet referencedTable)
+		{
+			if (referencedTable != newTableFacet) {
+				newTableFacet.referencedFacets.add(referencedTable);
+			}
+		}
+
 		private void validateRowNumberIntegrity(String columnName)
 		{
 			Validate.isTrue(
@@ -500,7 +553,7 @@ public class JdbcTableFacet implements TableFacet, SettingProvider {
 		}
 	}
 
-	private Supplier<Integer> supplierForNumberOfRows = null;
+	private LongSupplier supplierForNumberOfRows = null;
 
 	private String tableName = null;
 	private Optional<DataSettingInfo> dataSetting = Optional.empty();
@@ -521,6 +574,14 @@ public class JdbcTableFacet implements TableFacet, SettingProvider {
 
 	private ValueTomb valueTomb;
 
+	private int batchSize = 0;
+	private AdaptiveBatchSize adaptiveBatchSize = null;
+
+	/*
+	 * The facets referenced by this facet(by reference, "from", or Cartesian product)
+	 */
+	private Set<JdbcTableFacet> referencedFacets = new LinkedHashSet<>(2);
+
 	private JdbcTableFacet() {}
 
 	/**
@@ -536,10 +597,10 @@ public class JdbcTableFacet implements TableFacet, SettingProvider {
 	 * {@inheritDoc}
 	 */
 	@Override
-	public int getNumberOfRows()
+	public long getNumberOfRows()
 	{
 		if (supplierForNumberOfRows != null) {
-			return supplierForNumberOfRows.get();
+			return supplierForNumberOfRows.getAsLong();
 		}
 
 		if (dataSetting.isPresent()) {
@@ -579,11 +640,29 @@ public class JdbcTableFacet implements TableFacet, SettingProvider {
 		return this.dataSetting;
 	}
 
+	/**
+	 * Gives {@code 0} if the batch size of generator is used.
+	 */
+	int getBatchSize()
+	{
+		return batchSize;
+	}
+
+	AdaptiveBatchSize getAdaptiveBatchSize()
+	{
+		return adaptiveBatchSize;
+	}
+
 	ValueTomb getValueTomb()
 	{
 		return valueTomb;
 	}
 
+	Set<JdbcTableFacet> getReferencedFacets()
+	{
+		return referencedFacets;
+	}
+
 	List<String> getConfiguredNamesOfColumn()
 	{
 		var result = new ArrayList<String>(
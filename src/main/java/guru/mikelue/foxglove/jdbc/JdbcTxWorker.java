@@ -3,8 +3,12 @@ package guru.mikelue.foxglove.jdbc;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.IOException;
+import java.nio.file.Files;
 import java.sql.Connection;
+import java.sql.PreparedStatement;
 import java.sql.SQLException;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.function.Consumer;
@@ -12,6 +16,7 @@ import java.util.function.Supplier;
 
 import guru.mikelue.foxglove.ColumnMeta;
 import guru.mikelue.foxglove.TupleAccessor;
+import guru.mikelue.foxglove.jdbc.DriverCapabilities.KeysOfBatch;
 import guru.mikelue.foxglove.setting.DataSettingInfo;
 
 import static java.sql.Statement.RETURN_GENERATED_KEYS;
@@ -22,25 +27,77 @@ import static java.sql.Statement.RETURN_GENERATED_KEYS;
 class JdbcTxWorker implements AutoCloseable {
 	/**
 	 * The context make JdbcTxWorker easier to be tested.
+	 *
+	 * @param integralGeneratedKey Whether or not the values of the only generated column could be queried by range
 	 */
 	record InsertionContext (
-		String sql, int numberOfRows,
+		String sql, long numberOfRows,
 		String[] namesOfGeneratedColumns,
 		Supplier<Map<ColumnMeta, Object>> rowParamsGenerator,
-		DataSettingInfo settingInfo
-	) {}
+		DataSettingInfo settingInfo,
+		String tableName, List<ColumnMeta> targetColumns,
+		boolean keepingGeneratedValues, boolean integralGeneratedKey,
+		BatchSizer batchSizer
+	) {
+		/**
+		 * Uses the batch size of {@link TransactionGear}.
+		 */
+		InsertionContext(
+			String sql, long numberOfRows,
+			String[] namesOfGeneratedColumns,
+			Supplier<Map<ColumnMeta, Object>> rowParamsGenerator,
+			DataSettingInfo settingInfo,
+			String tableName, List<ColumnMeta> targetColumns,
+			boolean keepingGeneratedValues
+		) {
+			this(
+				sql, numberOfRows, namesOfGeneratedColumns,
+				rowParamsGenerator, settingInfo,
+				tableName, targetColumns, keepingGeneratedValues, false,
+				null
+			);
+		}
+
+		/**
+		 * Without information of table(multi-row statement is not supported),
+		 * the generated values are always kept.
+		 */
+		InsertionContext(
+			String sql, long numberOfRows,
+			String[] namesOfGeneratedColumns,
+			Supplier<Map<ColumnMeta, Object>> rowParamsGenerator,
+			DataSettingInfo settingInfo
+		) {
+			this(
+				sql, numberOfRows, namesOfGeneratedColumns,
+				rowParamsGenerator, settingInfo,
+				null, null, true, false, null
+			);
+		}
+	}
 
 	private Logger logger = LoggerFactory.getLogger(JdbcTxWorker.class);
 
 	private final Connection conn;
 	private final TransactionGear txGear;
 	private final boolean oldAutoCommit;
+	private final CommitPolicy commitPolicy;
+	private CheckpointJournal checkpointJournal = null;
+
+	/**
+	 * The statements of insertion are pooled until this worker is closed,
+	 * which are reused by table facets(or chunks of continuous generation) of the same plan.
+	 */
+	private record StatementKey(String sql, boolean askingGeneratedKeys, List<String> namesOfGeneratedColumns) {}
+	private final Map<StatementKey, PreparedStatement> pooledStatements = new HashMap<>();
+	private DriverCapabilities capabilities = null;
 
 	JdbcTxWorker(
 		TransactionGear txGear
 	) throws SQLException {
 		this.txGear = txGear;
 		this.conn = txGear.connection();
+		this.commitPolicy = txGear.commitPolicy();
 
 		oldAutoCommit = conn.getAutoCommit();
 
@@ -49,26 +106,44 @@ class JdbcTxWorker implements AutoCloseable {
 		}
 	}
 
-	private int unCommittedNumberOfRows = 0;
+	private long unCommittedNumberOfRows = 0;
+	private long unCommittedBytes = 0;
+	private long startNanosOfTransaction = System.nanoTime();
 
 	@Override
 	public void close() throws SQLException
 	{
 		logger.debug("Closing JDBC transaction worker");
-		commitIfNeeded();
+
+		try {
+			commitIfNeeded();
+		} finally {
+			closePooledStatements();
+		}
 
 		if (!txGear.joinConnection()) {
 			conn.setAutoCommit(oldAutoCommit);
 		}
 	}
 
+	/**
+	 * With the journal, the pending batch is executed before committing,
+	 * so the committed rows are exactly the ones recorded by the journal.
+	 *
+	 * @param checkpointJournal Could be null, which disables the checkpoint
+	 */
+	void setCheckpointJournal(CheckpointJournal checkpointJournal)
+	{
+		this.checkpointJournal = checkpointJournal;
+	}
+
 	/**
 	 * This is stateful method, which would keep track of uncommitted rows.
 	 *
 	 * The {@link #close()} method would commit remaining uncommitted rows
 	 * if joinConnection is false.
 	 */
-	int performInsert(
+	long performInsert(
 		InsertionContext context,
 		Consumer<List<TupleAccessor>> generatedValuesConsumer
 	) throws SQLException
@@ -81,19 +156,36 @@ class JdbcTxWorker implements AutoCloseable {
 			context.numberOfRows(), insertSql
 		);
 
-		try (var stmt = namesOfGeneratedColumns.length > 0 ?
-			conn.prepareStatement(insertSql, namesOfGeneratedColumns) :
-			conn.prepareStatement(insertSql, RETURN_GENERATED_KEYS)
-		) {
+		var batchSizer = context.batchSizer() != null ?
+			context.batchSizer() : BatchSizer.fixed(txGear.batchSize());
+
+		var capabilities = getCapabilities();
+		var keyRangeQuery = buildKeyRangeQuery(context, capabilities);
+		var preferringRangeQuery = txGear.generatedKeyRetrieval() == GeneratedKeyRetrieval.RangeQuery;
+
+		/*
+		 * The probing of driver needs the generated keys
+		 */
+		var statementKey = buildStatementKey(
+			insertSql, context,
+			keyRangeQuery == null || capabilities.keysOfBatch() == KeysOfBatch.Unknown
+		);
+		// :~)
+		var stmt = acquireStatement(statementKey);
+
+		try (var pipeline = buildPipeline(context);
 			var batchWorker = BatchWorker.newInstance(
-				conn.getMetaData().getDriverName(),
-				stmt, namesOfGeneratedColumns, generatedValuesConsumer,
-				txGear.batchSize(),
-				context.settingInfo()
-			);
-			var rowParamsGenerator = context.rowParamsGenerator();
+				capabilities, txGear.batchMode(),
+				stmt, buildMultiRowPreparer(context), keyRangeQuery, preferringRangeQuery,
+				namesOfGeneratedColumns, generatedValuesConsumer,
+				batchSizer,
+				context.settingInfo(), context.keepingGeneratedValues()
+			)
+		) {
+			var rowParamsGenerator = pipeline != null ?
+				pipeline : context.rowParamsGenerator();
 
-			for (int rowIndex = 0; rowIndex < context.numberOfRows(); rowIndex++) {
+			for (long rowIndex = 0; rowIndex < context.numberOfRows(); rowIndex++) {
 				var valuesOfRow = rowParamsGenerator.get();
 
 				if (logger.isDebugEnabled()) {
@@ -101,10 +193,29 @@ class JdbcTxWorker implements AutoCloseable {
 						rowIndex, valuesOfRow.values());
 				}
 
+				if (commitPolicy.isEstimatingBytes()) {
+					unCommittedBytes += CommitPolicy.estimateBytes(valuesOfRow);
+				}
+
 				batchWorker.addBatch(valuesOfRow);
 
 				unCommittedNumberOfRows++;
-				if (unCommittedNumberOfRows >= txGear.batchSize()) {
+				if (commitPolicy.isReached(
+					unCommittedNumberOfRows, unCommittedBytes,
+					startNanosOfTransaction, batchSizer.size()
+				)) {
+					/*
+					 * The policy(e.g., by bytes or interval) could be reached in the middle of a batch,
+					 * the pending rows must be executed before committing
+					 */
+					if (!txGear.joinConnection() || checkpointJournal != null) {
+						batchWorker.executeBatch();
+					}
+					if (checkpointJournal != null) {
+						checkpointJournal.markExecuted(rowIndex + 1);
+					}
+					// :~)
+
 					commitIfNeeded();
 				}
 			}
@@ -114,13 +225,273 @@ class JdbcTxWorker implements AutoCloseable {
 			 */
 			batchWorker.executeBatch();
 			// :~)
+		} catch (SQLException | RuntimeException e) {
+			/*
+			 * The state of failed statement is unknown, which is not reused
+			 */
+			pooledStatements.remove(statementKey);
+			try {
+				stmt.close();
+			} catch (SQLException closeEx) {
+				e.addSuppressed(closeEx);
+			}
+			// :~)
+
+			throw e;
+		}
+
+		if (checkpointJournal != null) {
+			checkpointJournal.markExecuted(context.numberOfRows());
+		}
+
+		if (commitPolicy.isCommittingPerFacet()) {
+			commitIfNeeded();
+		}
+
+		return context.numberOfRows();
+	}
+
+	/**
+	 * Writes the rows to a staging file, which is loaded by the import of database in one statement.
+	 *
+	 * <p>
+	 * The staged rows are treated as a single batch for {@link CommitPolicy}, with the size of file as the estimated bytes.
+	 */
+	long performBulkLoad(
+		InsertionContext context, BulkLoader bulkLoader,
+		Consumer<List<TupleAccessor>> generatedValuesConsumer
+	) throws SQLException, IOException
+	{
+		var stagingDirectory = Files.createTempDirectory("foxglove-");
+
+		try (var stagingSink = new CsvRowSink(stagingDirectory).setHeader(false)) {
+			var rowParamsGenerator = context.rowParamsGenerator();
+
+			stagingSink.beginTable(context.tableName(), context.targetColumns());
+			for (long rowIndex = 0; rowIndex < context.numberOfRows(); rowIndex++) {
+				stagingSink.writeRow(rowParamsGenerator.get());
+			}
+			stagingSink.endTable();
+
+			var stagingFile = stagingSink.getLastFile();
+			logger.debug(
+				"Going to load [{}] rows from staging file: {}",
+				context.numberOfRows(), stagingFile
+			);
+
+			try (var keyRangeQuery = context.keepingGeneratedValues() ?
+				new KeyRangeQuery(conn, context.tableName(), context.namesOfGeneratedColumns()[0]) :
+				null
+			) {
+				if (keyRangeQuery != null) {
+					keyRangeQuery.markLastSeenKey();
+				}
+
+				bulkLoader.load(conn, context.tableName(), context.targetColumns(), stagingFile);
+
+				if (keyRangeQuery != null) {
+					generatedValuesConsumer.accept(keyRangeQuery.queryNewKeys(
+						new GeneratedValueLoader(context.namesOfGeneratedColumns())::toTuples
+					));
+				}
+			}
+
+			unCommittedNumberOfRows += context.numberOfRows();
+			unCommittedBytes += Files.size(stagingFile);
+
+			if (checkpointJournal != null) {
+				checkpointJournal.markExecuted(context.numberOfRows());
+			}
+		} finally {
+			try (var stagingFiles = Files.list(stagingDirectory)) {
+				for (var file: stagingFiles.toList()) {
+					Files.deleteIfExists(file);
+				}
+			}
+			Files.deleteIfExists(stagingDirectory);
+		}
+
+		if (
+			commitPolicy.isCommittingPerFacet() ||
+			commitPolicy.isReached(
+				unCommittedNumberOfRows, unCommittedBytes,
+				startNanosOfTransaction, (int)Math.min(context.numberOfRows(), Integer.MAX_VALUE)
+			)
+		) {
+			commitIfNeeded();
 		}
 
 		return context.numberOfRows();
 	}
 
-	private void commitIfNeeded() throws SQLException
+	/**
+	 * Gives null if the pipelining is not enabled.
+	 */
+	private RowPipeline<Map<ColumnMeta, Object>> buildPipeline(InsertionContext context)
 	{
+		if (!txGear.isPipelining()) {
+			return null;
+		}
+
+		return new RowPipeline<>(
+			context.rowParamsGenerator(), context.numberOfRows(),
+			txGear.pipelineCapacity(),
+			context.tableName() != null ? context.tableName() : "rows"
+		);
+	}
+
+	/**
+	 * Gives null if the generated keys are not queried by range.
+	 *
+	 * The query is built for the driver giving only the latest key if {@link GeneratedKeyRetrieval#RangeQuery} is set,
+	 * or for the driver giving no key(or not probed yet) if it is viable.
+	 */
+	private KeyRangeQuery buildKeyRangeQuery(InsertionContext context, DriverCapabilities capabilities)
+		throws SQLException
+	{
+		if (
+			!context.keepingGeneratedValues() ||
+			context.tableName() == null ||
+			context.namesOfGeneratedColumns().length != 1
+		) {
+			return null;
+		}
+
+		var viable = switch (capabilities.keysOfBatch()) {
+			case All -> false;
+			case LastOnly -> txGear.generatedKeyRetrieval() == GeneratedKeyRetrieval.RangeQuery;
+			/*
+			 * The range of keys is only meaningful for continuous numbers
+			 */
+			case None, Unknown -> context.integralGeneratedKey();
+			// :~)
+		};
+		if (!viable) {
+			return null;
+		}
+
+		return new KeyRangeQuery(conn, context.tableName(), context.namesOfGeneratedColumns()[0]);
+	}
+
+	private DriverCapabilities getCapabilities() throws SQLException
+	{
+		if (capabilities == null) {
+			capabilities = DriverCapabilities.of(conn);
+		}
+
+		return capabilities;
+	}
+
+	/**
+	 * @param askingGeneratedKeys Whether or not the generated keys are fetched from the statement,
+	 * which are only asked if there is any kept column generated by database
+	 */
+	private StatementKey buildStatementKey(
+		String insertSql, InsertionContext context,
+		boolean askingGeneratedKeys
+	) {
+		var asking = askingGeneratedKeys && context.keepingGeneratedValues();
+
+		return new StatementKey(
+			insertSql, asking,
+			asking ? List.of(context.namesOfGeneratedColumns()) : List.of()
+		);
+	}
+
+	private PreparedStatement acquireStatement(StatementKey key) throws SQLException
+	{
+		var stmt = pooledStatements.get(key);
+
+		if (stmt == null || stmt.isClosed()) {
+			stmt = prepareInsert(key);
+			pooledStatements.put(key, stmt);
+		} else {
+			logger.trace("Reuses pooled statement:\n\t{}", key.sql());
+		}
+
+		return stmt;
+	}
+
+	private void closePooledStatements() throws SQLException
+	{
+		SQLException failure = null;
+
+		for (var stmt: pooledStatements.values()) {
+			try {
+				stmt.close();
+			} catch (SQLException e) {
+				if (failure == null) {
+					failure = e;
+				} else {
+					failure.addSuppressed(e);
+				}
+			}
+		}
+		pooledStatements.clear();
+
+		if (failure != null) {
+			throw failure;
+		}
+	}
+
+	/**
+	 * The generated keys are only asked if there is any kept column generated by database.
+	 */
+	private PreparedStatement prepareInsert(String insertSql, InsertionContext context)
+		throws SQLException
+	{
+		return prepareInsert(buildStatementKey(insertSql, context, true));
+	}
+
+	private PreparedStatement prepareInsert(StatementKey key) throws SQLException
+	{
+		if (!key.askingGeneratedKeys()) {
+			return conn.prepareStatement(key.sql());
+		}
+
+		var namesOfGeneratedColumns = key.namesOfGeneratedColumns();
+		return !namesOfGeneratedColumns.isEmpty() ?
+			conn.prepareStatement(key.sql(), namesOfGeneratedColumns.toArray(String[]::new)) :
+			conn.prepareStatement(key.sql(), RETURN_GENERATED_KEYS);
+	}
+
+	private MultiRowStatementPreparer buildMultiRowPreparer(InsertionContext context)
+	{
+		if (txGear.batchMode() != BatchMode.MultiRowValues || context.tableName() == null) {
+			return null;
+		}
+
+		return new MultiRowStatementPreparer() {
+			@Override
+			public int numberOfColumns()
+			{
+				return context.targetColumns().size();
+			}
+
+			@Override
+			public PreparedStatement prepare(int numberOfRows) throws SQLException
+			{
+				var multiRowSql = MetaUtils.buildInsertSql(
+					conn.getMetaData(), context.tableName(),
+					context.targetColumns(), numberOfRows
+				);
+
+				logger.trace("Prepares multi-row statement:\n\t{}", multiRowSql);
+
+				return prepareInsert(multiRowSql, context);
+			}
+		};
+	}
+
+	/**
+	 * Commits the uncommitted rows(if not joining connection),
+	 * which makes the rows visible to other connections.
+	 */
+	void commitIfNeeded() throws SQLException
+	{
+		unCommittedBytes = 0;
+		startNanosOfTransaction = System.nanoTime();
+
 		if (txGear.joinConnection()) {
 			logger.debug("Skip committing [{}] remaining statements because of joining existing transaction.", unCommittedNumberOfRows);
 			unCommittedNumberOfRows = 0;
@@ -131,6 +502,10 @@ class JdbcTxWorker implements AutoCloseable {
 			logger.debug("Committing [{}] remaining statements of batch[{}].", unCommittedNumberOfRows, txGear.batchSize());
 			conn.commit();
 			unCommittedNumberOfRows = 0;
+
+			if (checkpointJournal != null) {
+				checkpointJournal.markCommitted();
+			}
 		}
 	}
 }
@@ -0,0 +1,239 @@
+package guru.mikelue.foxglove.jdbc;
+
+import java.sql.Connection;
+import java.sql.JDBCType;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Supplier;
+import java.util.regex.Pattern;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import guru.mikelue.foxglove.ColumnMeta;
+
+import static guru.mikelue.foxglove.ColumnMeta.Property.AUTO_INCREMENT;
+
+/**
+ * Reserves a block of values for the auto-generated key of a table,
+ * which are bound explicitly instead of being generated by database.
+ *
+ * <p>
+ * This is only applied to the drivers giving only the last generated key of a batch(Derby, SQLite, MSSQL),
+ * so the rows could be inserted by {@link PluralBatchWorker} rather than {@link SingleBatchWorker}.
+ *
+ * <p>
+ * The block is started from {@code MAX(key) + 1}, which is queried under a lock of table:
+ *
+ * <ul>
+ *   <li>Derby - {@code LOCK TABLE ... IN EXCLUSIVE MODE}, and the identity is restarted after the insertion.
+ *       The identity column must be {@code GENERATED BY DEFAULT}.</li>
+ *   <li>MSSQL - {@code WITH (TABLOCKX, HOLDLOCK)}, and {@code IDENTITY_INSERT} is switched on during the insertion.</li>
+ *   <li>SQLite - {@code DELETE FROM ... WHERE 1 = 0}, which deletes nothing but takes the RESERVED lock of database,
+ *       since the {@code SELECT} of a deferred transaction takes only a SHARED lock(other writers are not blocked).</li>
+ * </ul>
+ *
+ * <p>
+ * The lock is held by the transaction, which is released by the next commit.
+ * Hence the transaction must not be committed until the facet is finished,
+ * i.e., {@link CommitPolicy#perFacet()} or {@link CommitPolicy#perGeneration()}(validated by {@link JdbcDataGenerator}).
+ *
+ * <p>
+ * For rows written to {@link RowSink}, the keys are assigned for any driver, without lock of table.
+ */
+class KeyPreAssigner {
+	private enum Vendor {
+		Derby, SQLite, MSSQL,
+		/**
+		 * For {@link RowSink}, nothing is inserted into database.
+		 */
+		Generic
+	}
+
+	private final static Pattern DRIVER_OF_DERBY = Pattern.compile("(?i).*derby.*");
+	private final static Pattern DRIVER_OF_SQLITE = Pattern.compile("(?i).*sqlite.*");
+	private final static Pattern DRIVER_OF_MSSQL = Pattern.compile("(?i).*microsoft.*");
+
+	/**
+	 * The types of key whose values are continuous numbers.
+	 */
+	final static Set<JDBCType> INTEGRAL_TYPES = EnumSet.of(
+		JDBCType.TINYINT, JDBCType.SMALLINT, JDBCType.INTEGER, JDBCType.BIGINT
+	);
+
+	/**
+	 * Builds the assigner if the key of table is applicable to be pre-assigned.
+	 *
+	 * <p>
+	 * The table must keep only one column which is not generated by Foxglove,
+	 * and the column must be an integral auto-generated one.
+	 *
+	 * @param driverName The name of JDBC driver
+	 * @param metaOfColumns The columns of table
+	 * @param targetColumns The columns generated by Foxglove
+	 * @param valueTomb The tomb of table
+	 *
+	 * @return null if the key is not applicable
+	 */
+	static KeyPreAssigner of(
+		String driverName, String tableName,
+		List<ColumnMeta> metaOfColumns, List<ColumnMeta> targetColumns,
+		ValueTomb valueTomb
+	) {
+		var vendor = resolveVendor(driverName);
+		if (vendor == null) {
+			return null;
+		}
+
+		return of(vendor, tableName, metaOfColumns, targetColumns, valueTomb);
+	}
+
+	/**
+	 * Builds the assigner for the rows written to {@link RowSink}, regardless of the driver.
+	 *
+	 * @return null if the key is not applicable
+	 *
+	 * @see #of(String, String, List, List, ValueTomb)
+	 */
+	static KeyPreAssigner ofRowSink(
+		String tableName,
+		List<ColumnMeta> metaOfColumns, List<ColumnMeta> targetColumns,
+		ValueTomb valueTomb
+	) {
+		return of(Vendor.Generic, tableName, metaOfColumns, targetColumns, valueTomb);
+	}
+
+	private static KeyPreAssigner of(
+		Vendor vendor, String tableName,
+		List<ColumnMeta> metaOfColumns, List<ColumnMeta> targetColumns,
+		ValueTomb valueTomb
+	) {
+		var keyColumn = metaOfColumns.stream()
+			.filter(meta -> !targetColumns.contains(meta))
+			.filter(meta -> meta.properties().contains(AUTO_INCREMENT))
+			.filter(meta -> INTEGRAL_TYPES.contains(meta.jdbcType()))
+			.filter(meta -> valueTomb.isKeeping(meta.name()))
+			.findFirst()
+			.orElse(null);
+		if (keyColumn == null) {
+			return null;
+		}
+
+		var namesOfColumns = new ArrayList<String>(targetColumns.size() + 1);
+		targetColumns.forEach(meta -> namesOfColumns.add(meta.name()));
+		namesOfColumns.add(keyColumn.name());
+
+		if (valueTomb.isKeepingColumnsOtherThan(namesOfColumns)) {
+			return null;
+		}
+
+		return new KeyPreAssigner(vendor, tableName, keyColumn);
+	}
+
+	private static Vendor resolveVendor(String driverName)
+	{
+		if (DRIVER_OF_DERBY.matcher(driverName).matches()) {
+			return Vendor.Derby;
+		}
+		if (DRIVER_OF_SQLITE.matcher(driverName).matches()) {
+			return Vendor.SQLite;
+		}
+		if (DRIVER_OF_MSSQL.matcher(driverName).matches()) {
+			return Vendor.MSSQL;
+		}
+
+		return null;
+	}
+
+	private final Logger logger = LoggerFactory.getLogger(KeyPreAssigner.class);
+
+	private final Vendor vendor;
+	private final String tableName;
+	private final ColumnMeta keyColumn;
+
+	private long nextKey = -1;
+
+	private KeyPreAssigner(Vendor vendor, String tableName, ColumnMeta keyColumn)
+	{
+		this.vendor = vendor;
+		this.tableName = tableName;
+		this.keyColumn = keyColumn;
+	}
+
+	ColumnMeta getKeyColumn()
+	{
+		return keyColumn;
+	}
+
+	/**
+	 * Locks the table and reserves the first value of block.
+	 *
+	 * <p>
+	 * The block is reserved until the transaction of connection is committed.
+	 *
+	 * @return The supplier of keys, which starts from the first value of block
+	 */
+	Supplier<Object> reserve(Connection conn) throws SQLException
+	{
+		var dbMeta = conn.getMetaData();
+		var quotedTable = MetaUtils.quoteIdentifier(dbMeta, tableName);
+		var quotedColumn = MetaUtils.quoteIdentifier(dbMeta, keyColumn.name());
+
+		try (var stmt = conn.createStatement()) {
+			switch (vendor) {
+				case Derby -> stmt.execute(String.format("LOCK TABLE %s IN EXCLUSIVE MODE", quotedTable));
+				case SQLite -> stmt.execute(String.format("DELETE FROM %s WHERE 1 = 0", quotedTable));
+				case MSSQL, Generic -> {}
+			}
+
+			var querySql = String.format(
+				vendor == Vendor.MSSQL ?
+					"SELECT MAX(%s) FROM %s WITH (TABLOCKX, HOLDLOCK)" :
+					"SELECT MAX(%s) FROM %s",
+				quotedColumn, quotedTable
+			);
+
+			try (var rs = stmt.executeQuery(querySql)) {
+				rs.next();
+				nextKey = rs.getLong(1) + 1;
+			}
+
+			if (vendor == Vendor.MSSQL) {
+				stmt.execute(String.format("SET IDENTITY_INSERT %s ON", quotedTable));
+			}
+		}
+
+		logger.debug("Pre-assigns keys of [{}.{}] from [{}]", tableName, keyColumn.name(), nextKey);
+
+		return keyColumn.jdbcType() == JDBCType.BIGINT ?
+			() -> nextKey++ :
+			() -> (int)nextKey++;
+	}
+
+	/**
+	 * Lets the database generate keys after the block of pre-assigned keys.
+	 */
+	void release(Connection conn) throws SQLException
+	{
+		if (nextKey < 0) {
+			return;
+		}
+
+		var dbMeta = conn.getMetaData();
+		var quotedTable = MetaUtils.quoteIdentifier(dbMeta, tableName);
+
+		try (var stmt = conn.createStatement()) {
+			switch (vendor) {
+				case Derby -> stmt.execute(String.format(
+					"ALTER TABLE %s ALTER COLUMN %s RESTART WITH %d",
+					quotedTable, MetaUtils.quoteIdentifier(dbMeta, keyColumn.name()), nextKey
+				));
+				case MSSQL -> stmt.execute(String.format("SET IDENTITY_INSERT %s OFF", quotedTable));
+				case SQLite, Generic -> {}
+			}
+		}
+	}
+}
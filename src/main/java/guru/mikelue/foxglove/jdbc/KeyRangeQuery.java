@@ -0,0 +1,100 @@
+package guru.mikelue.foxglove.jdbc;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.List;
+
+import guru.mikelue.foxglove.TupleAccessor;
+
+/**
+ * Queries the generated keys of a table, which are greater than the last seen key.
+ */
+class KeyRangeQuery implements AutoCloseable {
+	private final Connection conn;
+	private final String keyColumn;
+	private final String sqlOfMax;
+	private final String sqlOfRange;
+
+	private PreparedStatement rangeStmt = null;
+	private Long lastSeenKey = null;
+
+	KeyRangeQuery(Connection conn, String tableName, String keyColumn) throws SQLException
+	{
+		var dbMeta = conn.getMetaData();
+		var quotedTable = MetaUtils.quoteIdentifier(dbMeta, tableName);
+		var quotedKey = MetaUtils.quoteIdentifier(dbMeta, keyColumn);
+
+		this.conn = conn;
+		this.keyColumn = keyColumn;
+		this.sqlOfMax = String.format("SELECT MAX(%s) FROM %s", quotedKey, quotedTable);
+		this.sqlOfRange = String.format(
+			"SELECT %s FROM %s WHERE %s > ? ORDER BY %s",
+			quotedKey, quotedTable, quotedKey, quotedKey
+		);
+	}
+
+	/**
+	 * Keeps the current maximum key, which must be called before the first batch is executed.
+	 */
+	void markLastSeenKey() throws SQLException
+	{
+		if (lastSeenKey != null) {
+			return;
+		}
+
+		try (var stmt = conn.createStatement();
+			var rs = stmt.executeQuery(sqlOfMax)
+		) {
+			rs.next();
+			lastSeenKey = rs.getLong(1);
+
+			if (rs.wasNull()) {
+				lastSeenKey = Long.MIN_VALUE;
+			}
+		}
+	}
+
+	/**
+	 * Queries the keys greater than the last seen key, the last seen key is updated by the result.
+	 *
+	 * @param loader Loads the tuples(in order of key) from the result of query
+	 *
+	 * @return The loaded tuples
+	 */
+	List<TupleAccessor> queryNewKeys(TupleLoader loader) throws SQLException
+	{
+		if (rangeStmt == null) {
+			rangeStmt = conn.prepareStatement(sqlOfRange);
+		}
+
+		rangeStmt.setLong(1, lastSeenKey);
+
+		List<TupleAccessor> tuples;
+		try (var rs = rangeStmt.executeQuery()) {
+			tuples = loader.load(rs);
+		}
+
+		if (!tuples.isEmpty()) {
+			lastSeenKey = ((Number)tuples.get(tuples.size() - 1).getValue(keyColumn))
+				.longValue();
+		}
+
+		return tuples;
+	}
+
+	@Override
+	public void close() throws SQLException
+	{
+		if (rangeStmt != null) {
+			rangeStmt.close();
+			rangeStmt = null;
+		}
+	}
+
+	@FunctionalInterface
+	interface TupleLoader {
+		List<TupleAccessor> load(ResultSet rs) throws SQLException;
+	}
+}
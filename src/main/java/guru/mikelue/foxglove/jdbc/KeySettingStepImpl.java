@@ -33,7 +33,7 @@ class KeySettingStepImpl implements ColumnSettingSteps.KeyOfIntSettingStep {
 	}
 
 	@Override
-	public Builder limit(long start, int number, int step)
+	public Builder limit(long start, long number, int step)
 	{
 		Validate.isTrue(step != 0, "Step must not be zero");
 		Validate.isTrue(number > 0, "Number of values must be greater than zero");
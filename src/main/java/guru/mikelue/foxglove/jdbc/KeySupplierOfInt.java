@@ -2,21 +2,22 @@ package guru.mikelue.foxglove.jdbc;
 
 import java.util.function.LongSupplier;
 
+import guru.mikelue.foxglove.functional.Int8Supplier;
 import guru.mikelue.foxglove.functional.StatefulSupplier;
 
 /**
  * Suppliers integral values with limiting number of generated values;
  */
-final class KeySupplierOfInt implements StatefulSupplier<Long> {
-	private int generatedCounter = 0;
+final class KeySupplierOfInt implements StatefulSupplier<Long>, Int8Supplier {
+	private long generatedCounter = 0;
 
 	private long currentValue;
 	private final long step;
-	private final int limit;
+	private final long limit;
 
 	private long[] domain = null;
 	private final LongSupplier valueGetter;
-	private final int numberOfRows;
+	private final long numberOfRows;
 
 	/**
 	 * Creates the supplier by specifying the range of values.
@@ -29,7 +30,7 @@ final class KeySupplierOfInt implements StatefulSupplier<Long> {
 	 */
 	static KeySupplierOfInt byRange(long currentValue, long end, int step)
 	{
-		return new KeySupplierOfInt(currentValue, (int)((end - currentValue) / step), step);
+		return new KeySupplierOfInt(currentValue, (end - currentValue) / step, step);
 	}
 
 	/**
@@ -41,7 +42,7 @@ final class KeySupplierOfInt implements StatefulSupplier<Long> {
 	 *
 	 * @return The created supplier
 	 */
-	static KeySupplierOfInt byLimit(long currentValue, int limit, int step)
+	static KeySupplierOfInt byLimit(long currentValue, long limit, int step)
 	{
 		return new KeySupplierOfInt(currentValue, limit, step);
 	}
@@ -58,7 +59,7 @@ final class KeySupplierOfInt implements StatefulSupplier<Long> {
 		return new KeySupplierOfInt(domain);
 	}
 
-	private KeySupplierOfInt(long currentValue, int limit, int step)
+	private KeySupplierOfInt(long currentValue, long limit, int step)
 	{
 		this.currentValue = currentValue;
 		this.limit = limit;
@@ -79,7 +80,7 @@ final class KeySupplierOfInt implements StatefulSupplier<Long> {
 		this.numberOfRows = domain.length;
 	}
 
-	int getNumberOfRows()
+	long getNumberOfRows()
 	{
 		return numberOfRows;
 	}
@@ -95,18 +96,24 @@ final class KeySupplierOfInt implements StatefulSupplier<Long> {
 	}
 
 	@Override
-	public Long get()
+	public long getAsLong()
 	{
 		return valueGetter.getAsLong();
 	}
 
+	@Override
+	public Long get()
+	{
+		return getAsLong();
+	}
+
 	private long nextValueByDomain()
 	{
 		if (generatedCounter >= domain.length) {
 			throw new IllegalStateException("Exceeds maximum amount[" + domain.length + "] of keys");
 		}
 
-		long nextValue = domain[generatedCounter];
+		long nextValue = domain[(int)generatedCounter];
 		generatedCounter++;
 
 		return nextValue;
@@ -2,6 +2,7 @@ package guru.mikelue.foxglove.jdbc;
 
 import java.sql.Connection;
 import java.sql.SQLException;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
@@ -10,13 +11,28 @@ import org.apache.commons.lang3.Validate;
 
 import guru.mikelue.foxglove.ColumnMeta;
 
+import static guru.mikelue.foxglove.ColumnMeta.Property.AUTO_INCREMENT;
 import static java.util.stream.Collectors.toSet;
 
 class MetaDataCache {
+	/**
+	 * The compiled plan of insertion for a table and its target columns.
+	 *
+	 * @param sql The insertion SQL of single row
+	 * @param namesOfGeneratedColumns The auto-generated columns not generated by Foxglove
+	 * @param integralGeneratedKey Whether or not the only auto-generated column is integral({@link KeyPreAssigner#INTEGRAL_TYPES})
+	 */
+	record InsertPlan(String sql, String[] namesOfGeneratedColumns, boolean integralGeneratedKey) {}
+
+	private record PlanKey(String tableName, List<ColumnMeta> targetColumns) {}
+
 	private final static Map<String, Map<String, List<ColumnMeta>>> globalCache =
 		new ConcurrentHashMap<>();
+	private final static Map<String, Map<PlanKey, InsertPlan>> globalPlans =
+		new ConcurrentHashMap<>();
 
 	private final Map<String, List<ColumnMeta>> cacheByInstance;
+	private final Map<PlanKey, InsertPlan> plansByInstance;
 	private final String connUrl;
 
 	MetaDataCache(Connection conn)
@@ -29,11 +45,16 @@ class MetaDataCache {
 
 		if (connUrl == null) {
 			cacheByInstance = new ConcurrentHashMap<>();
+			plansByInstance = new ConcurrentHashMap<>();
 		} else {
 			cacheByInstance = globalCache.computeIfAbsent(
 				connUrl,
 				key -> new ConcurrentHashMap<>()
 			);
+			plansByInstance = globalPlans.computeIfAbsent(
+				connUrl,
+				key -> new ConcurrentHashMap<>()
+			);
 		}
 	}
 
@@ -73,4 +94,51 @@ class MetaDataCache {
 	{
 		return cacheByInstance.get(tableName);
 	}
+
+	/**
+	 * Gets the name of JDBC driver, which is cached by the URL of database.
+	 *
+	 * @see DriverCapabilities#of(Connection)
+	 */
+	String getDriverName(Connection conn) throws SQLException
+	{
+		return DriverCapabilities.of(conn).driverName();
+	}
+
+	/**
+	 * Gets the plan of insertion, which is built once for the table(loaded by {@link #loadMetadata(List, Connection)})
+	 * and the target columns.
+	 *
+	 * @param targetColumns The columns generated by Foxglove
+	 */
+	InsertPlan getInsertPlan(Connection conn, String tableName, List<ColumnMeta> targetColumns)
+	{
+		return plansByInstance.computeIfAbsent(
+			new PlanKey(tableName, List.copyOf(targetColumns)),
+			key -> {
+				var targetColumnsSet = new HashSet<>(targetColumns);
+				var generatedColumns = getMetaOfColumns(tableName).stream()
+					/*
+					 * Excludes the columns should be generated by Foxglove.
+					 */
+					.filter(meta -> !targetColumnsSet.contains(meta))
+					// :~)
+					.filter(meta -> meta.properties().contains(AUTO_INCREMENT))
+					.toList();
+
+				try {
+					return new InsertPlan(
+						MetaUtils.buildInsertSql(conn.getMetaData(), tableName, targetColumns),
+						generatedColumns.stream()
+							.map(ColumnMeta::name)
+							.toArray(String[]::new),
+						generatedColumns.size() == 1 &&
+							KeyPreAssigner.INTEGRAL_TYPES.contains(generatedColumns.get(0).jdbcType())
+					);
+				} catch (SQLException e) {
+					throw new RuntimeJdbcException(e);
+				}
+			}
+		);
+	}
 }
@@ -7,6 +7,7 @@ import java.sql.SQLException;
 import java.util.*;
 import java.util.regex.Pattern;
 
+import org.apache.commons.lang3.Validate;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -70,6 +71,20 @@ final class MetaUtils {
 
 	static String buildInsertSql(DatabaseMetaData dbMetaData, String tableName, List<ColumnMeta> columnMetaList)
 	{
+		return buildInsertSql(dbMetaData, tableName, columnMetaList, 1);
+	}
+
+	/**
+	 * Builds the insertion SQL with multiple rows of {@code VALUES}.
+	 *
+	 * @param numberOfRows The number of rows(placeholders of parameters) in {@code VALUES}
+	 */
+	static String buildInsertSql(
+		DatabaseMetaData dbMetaData, String tableName,
+		List<ColumnMeta> columnMetaList, int numberOfRows
+	) {
+		Validate.isTrue(numberOfRows > 0, "Number of rows must be greater than zero");
+
 		String quote;
 
 		try {
@@ -82,14 +97,86 @@ final class MetaUtils {
 			.map(columnMeta -> quoteIdentifier(columnMeta.name(), quote))
 			.toList();
 
+		var placeholdersOfRow = "(" +
+			String.join(", ", Collections.nCopies(columnNames.size(), "?")) +
+			")";
+
 		return String.format(
-			"INSERT INTO %s (%s)\nVALUES (%s)",
+			"INSERT INTO %s (%s)\nVALUES %s",
 			quoteIdentifier(tableName, quote),
 			String.join(", ", columnNames),
-			String.join(", ", Collections.nCopies(columnNames.size(), "?"))
+			String.join(",\n\t", Collections.nCopies(numberOfRows, placeholdersOfRow))
 		);
 	}
 
+	/**
+	 * Maximum number of parameters in a statement, by vendor(matched with name of JDBC driver).
+	 *
+	 * <ul>
+	 *   <li>SQLite - 999 for SQLITE_MAX_VARIABLE_NUMBER(before 3.32.0)</li>
+	 *   <li>MSSQL - 2100 parameters of a RPC request</li>
+	 *   <li>PostgreSQL - 32767 of protocol(before 42.4.0 of the driver)</li>
+	 *   <li>MySQL - 65535 of prepared statement</li>
+	 *   <li>Derby - by experiment, the generated code of a statement can't exceed 64KB</li>
+	 * </ul>
+	 */
+	private final static Map<Pattern, Integer> MAX_PARAMETERS_OF_DRIVERS = Map.of(
+		Pattern.compile("(?i).*sqlite.*"), 999,
+		Pattern.compile("(?i).*microsoft.*"), 2099,
+		Pattern.compile("(?i).*postgresql.*"), 32767,
+		Pattern.compile("(?i).*(mysql|mariadb).*"), 65535,
+		Pattern.compile("(?i).*derby.*"), 2000,
+		Pattern.compile("(?i).*(h2|hsql).*"), 32767
+	);
+	private final static int DEFAULT_MAX_PARAMETERS = 999;
+
+	/**
+	 * MSSQL limits number of rows to 1000 for table value constructor.
+	 */
+	private final static Pattern DRIVER_WITH_LIMITED_VALUES = Pattern.compile("(?i).*microsoft.*");
+	private final static int MAX_ROWS_OF_LIMITED_VALUES = 1000;
+
+	/**
+	 * Oracle(before 23ai) doesn't support multiple rows of {@code VALUES}.
+	 */
+	private final static Pattern DRIVER_WITHOUT_MULTI_ROW_VALUES = Pattern.compile("(?i).*oracle.*");
+
+	static boolean supportsMultiRowValues(String driverName)
+	{
+		return !DRIVER_WITHOUT_MULTI_ROW_VALUES.matcher(driverName).matches();
+	}
+
+	/**
+	 * Computes the number of rows of a multi-row {@code VALUES} statement,
+	 * which is bound by batch size and the limitation on parameters of the driver.
+	 *
+	 * @param driverName The name of JDBC driver
+	 * @param numberOfColumns The number of columns in a row
+	 * @param batchSize The batch size
+	 *
+	 * @return The number of rows for a statement, at least {@code 1}
+	 */
+	static int rowsPerMultiRowStatement(String driverName, int numberOfColumns, int batchSize)
+	{
+		if (numberOfColumns == 0) {
+			return 1;
+		}
+
+		var maxParameters = MAX_PARAMETERS_OF_DRIVERS.entrySet().stream()
+			.filter(entry -> entry.getKey().matcher(driverName).matches())
+			.mapToInt(Map.Entry::getValue)
+			.findFirst()
+			.orElse(DEFAULT_MAX_PARAMETERS);
+
+		var numberOfRows = Math.min(batchSize, maxParameters / numberOfColumns);
+
+		if (DRIVER_WITH_LIMITED_VALUES.matcher(driverName).matches()) {
+			numberOfRows = Math.min(numberOfRows, MAX_ROWS_OF_LIMITED_VALUES);
+		}
+
+		return Math.max(1, numberOfRows);
+	}
+
 	private static List<ColumnMeta> fetchColumnMetaListImpl(ResultSetMetaData rsMeta)
 		throws SQLException
 	{
@@ -206,10 +293,22 @@ final class MetaUtils {
 	);
 	private final static Pattern IDENTIFIER_PATTERN = Pattern.compile(".*[-\\s].*");
 
+	/**
+	 * Quotes the identifier by the quote string of database(only if it is needed).
+	 */
+	static String quoteIdentifier(DatabaseMetaData dbMetaData, String identifier)
+	{
+		try {
+			return quoteIdentifier(identifier, dbMetaData.getIdentifierQuoteString());
+		} catch (SQLException e) {
+			throw new RuntimeJdbcException(e);
+		}
+	}
+
 	/**
 	 * Only quote the identifier when it is a reserved keyword or contains special characters.
 	 */
-	private static String quoteIdentifier(String identifier, String quote)
+	static String quoteIdentifier(String identifier, String quote)
 	{
 		if (
 			!RESERVED_KEYWORDS.contains(identifier.toUpperCase()) &&
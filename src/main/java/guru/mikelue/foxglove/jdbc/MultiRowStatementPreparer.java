@@ -0,0 +1,12 @@
+package guru.mikelue.foxglove.jdbc;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+
+/**
+ * Prepares the statement with certain number of rows in {@code VALUES}.
+ */
+interface MultiRowStatementPreparer {
+	int numberOfColumns();
+	PreparedStatement prepare(int numberOfRows) throws SQLException;
+}
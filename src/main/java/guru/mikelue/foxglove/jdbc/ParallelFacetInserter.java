@@ -0,0 +1,450 @@
+package guru.mikelue.foxglove.jdbc;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+
+import javax.sql.DataSource;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import guru.mikelue.foxglove.ColumnMeta;
+import guru.mikelue.foxglove.TupleAccessor;
+
+/**
+ * Inserts the rows of a table facet by multiple connections(lanes) from {@link DataSource}.
+ *
+ * <p>
+ * The rows are still generated by the calling thread(in order of rows),
+ * which are split into chunks by the {@link BatchSizer} of facet(shared by lanes).
+ * The chunks are dispatched to lanes in round-robin manner,
+ * every lane has its own connection, {@link JdbcTxWorker}, and {@link BatchWorker}.
+ *
+ * <p>
+ * A lane commits its rows by {@link CommitPolicy} and once the facet is finished,
+ * so the rows are visible to the following facets.
+ * For {@link CommitPolicy#perFacet()} and {@link CommitPolicy#perGeneration()},
+ * the lane only commits when the facet is finished.
+ *
+ * <p>
+ * The generated values(by database) of chunks are merged in order of chunks,
+ * so the kept values of {@link ValueTomb} are in order of rows.
+ *
+ * <p>
+ * The lanes are opened lazily, and are kept until {@link #close()}.
+ */
+class ParallelFacetInserter implements AutoCloseable {
+	/**
+	 * The number of chunks could be waiting for a lane.
+	 */
+	private final static int CHUNKS_PER_LANE = 2;
+	/**
+	 * The interval of checking failure while the calling thread is waiting for lanes.
+	 */
+	private final static long POLLING_MILLIS = 100;
+
+	private final Logger logger = LoggerFactory.getLogger(ParallelFacetInserter.class);
+
+	private final DataSource dataSource;
+	private final TransactionGear templateGear;
+	private final int parallelism;
+	private final List<Lane> lanes;
+
+	private final AtomicReference<Throwable> failure = new AtomicReference<>(null);
+
+	/**
+	 * @param dataSource The source of connections for lanes
+	 * @param templateGear The setting of transaction for every lane(the connection is ignored)
+	 * @param parallelism The number of lanes
+	 */
+	ParallelFacetInserter(
+		DataSource dataSource, TransactionGear templateGear,
+		int parallelism
+	) {
+		this.dataSource = dataSource;
+		this.templateGear = templateGear;
+		this.parallelism = parallelism;
+		this.lanes = new ArrayList<>(parallelism);
+	}
+
+	/**
+	 * Whether or not the rows of facet are worth to be inserted by multiple lanes.
+	 *
+	 * @param context The context of insertion, whose {@link BatchSizer} gives the size of chunk
+	 */
+	boolean isApplicable(JdbcTxWorker.InsertionContext context)
+	{
+		return context.numberOfRows() > batchSizerOf(context).size();
+	}
+
+	/**
+	 * Generates rows by calling thread and inserts them by lanes.
+	 *
+	 * @param context The context of insertion
+	 * @param generatedValuesConsumer Receives the generated values in order of rows
+	 *
+	 * @return The number of inserted rows
+	 */
+	long performInsert(
+		JdbcTxWorker.InsertionContext context,
+		Consumer<List<TupleAccessor>> generatedValuesConsumer
+	) throws SQLException {
+		openLanes();
+
+		var numberOfRows = context.numberOfRows();
+
+		logger.debug(
+			"Going to insert [{}] rows over [{}] lanes",
+			numberOfRows, lanes.size()
+		);
+
+		var job = new FacetJob(context, BatchSizer.synchronizedOf(batchSizerOf(context)), lanes.size());
+		var rowParamsGenerator = context.rowParamsGenerator();
+
+		/*
+		 * Generates rows of chunks and dispatches them to lanes,
+		 * the size of chunk follows the current size of batch sizer(which could be adapted by lanes)
+		 */
+		try {
+			var chunkIndex = 0;
+			for (long insertedRows = 0; insertedRows < numberOfRows; chunkIndex++) {
+				checkFailure();
+
+				var rowsOfChunk = (int)Math.min(job.batchSizer.size(), numberOfRows - insertedRows);
+				var rows = new ArrayList<Map<ColumnMeta, Object>>(rowsOfChunk);
+
+				for (int i = 0; i < rowsOfChunk; i++) {
+					rows.add(rowParamsGenerator.get());
+				}
+				insertedRows += rowsOfChunk;
+
+				lanes.get(chunkIndex % lanes.size())
+					.dispatch(job.newChunk(rows));
+			}
+
+			logger.debug("[{}] chunks are dispatched", chunkIndex);
+
+			for (var lane: lanes) {
+				lane.dispatch(job.endOfFacet);
+			}
+		} catch (SQLException | RuntimeException e) {
+			// Lets lanes rollback their transactions
+			failure.compareAndSet(null, e);
+			throw e;
+		}
+		// :~)
+
+		awaitLanes(job);
+		checkFailure();
+
+		/*
+		 * Merges generated values in order of chunks
+		 */
+		for (var generatedValues: job.generatedValuesOfChunks) {
+			if (!generatedValues.isEmpty()) {
+				generatedValuesConsumer.accept(generatedValues);
+			}
+		}
+		// :~)
+
+		return numberOfRows;
+	}
+
+	/**
+	 * Stops the lanes, the transactions of lanes are committed if there is no failure.
+	 */
+	@Override
+	public void close() throws SQLException
+	{
+		for (var lane: lanes) {
+			lane.dispatch(Chunk.END);
+		}
+
+		for (var lane: lanes) {
+			lane.join();
+		}
+
+		lanes.clear();
+		checkFailure();
+	}
+
+	private void openLanes() throws SQLException
+	{
+		if (!lanes.isEmpty()) {
+			return;
+		}
+
+		for (int i = 0; i < parallelism; i++) {
+			lanes.add(new Lane(i, dataSource.getConnection()));
+		}
+	}
+
+	private BatchSizer batchSizerOf(JdbcTxWorker.InsertionContext context)
+	{
+		return Objects.requireNonNullElseGet(
+			context.batchSizer(),
+			() -> BatchSizer.fixed(templateGear.batchSize())
+		);
+	}
+
+	/**
+	 * Waits for the end of facet on every lane, or any failure of lanes.
+	 *
+	 * <p>
+	 * A lane died abnormally would never count down the latch, so the failure is checked periodically.
+	 */
+	private void awaitLanes(FacetJob job)
+	{
+		try {
+			while (!job.doneOfLanes.await(POLLING_MILLIS, TimeUnit.MILLISECONDS)) {
+				if (failure.get() != null) {
+					return;
+				}
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException("Interrupted while waiting for lanes", e);
+		}
+	}
+
+	private void checkFailure() throws SQLException
+	{
+		var currentFailure = failure.get();
+
+		if (currentFailure == null) {
+			return;
+		}
+
+		if (currentFailure instanceof SQLException sqlException) {
+			throw sqlException;
+		}
+		if (currentFailure instanceof RuntimeException runtimeException) {
+			throw runtimeException;
+		}
+		if (currentFailure instanceof Error error) {
+			throw error;
+		}
+
+		throw new RuntimeJdbcException((Exception)currentFailure);
+	}
+
+	private static class FacetJob {
+		private final JdbcTxWorker.InsertionContext context;
+		private final BatchSizer batchSizer;
+		private final List<List<TupleAccessor>> generatedValuesOfChunks = new ArrayList<>();
+		private final CountDownLatch doneOfLanes;
+		private final Chunk endOfFacet;
+
+		private FacetJob(JdbcTxWorker.InsertionContext context, BatchSizer batchSizer, int numberOfLanes)
+		{
+			this.context = context;
+			this.batchSizer = batchSizer;
+			this.doneOfLanes = new CountDownLatch(numberOfLanes);
+			this.endOfFacet = new Chunk(this, List.of(), null);
+		}
+
+		/**
+		 * The list of generated values is only appended by the lane processing the chunk,
+		 * which is visible to the calling thread after the counting down of latch.
+		 */
+		private Chunk newChunk(List<Map<ColumnMeta, Object>> rows)
+		{
+			var generatedValues = new ArrayList<TupleAccessor>(0);
+			generatedValuesOfChunks.add(generatedValues);
+
+			return new Chunk(this, rows, generatedValues);
+		}
+	}
+
+	/**
+	 * The chunk without generated values is the end of facet for a lane.
+	 */
+	private record Chunk(
+		FacetJob job,
+		List<Map<ColumnMeta, Object>> rows,
+		List<TupleAccessor> generatedValues
+	) {
+		private final static Chunk END = new Chunk(null, List.of(), null);
+
+		private boolean isEndOfFacet()
+		{
+			return generatedValues == null;
+		}
+	}
+
+	private class Lane {
+		private final Connection conn;
+		private final BlockingQueue<Chunk> chunks = new ArrayBlockingQueue<>(CHUNKS_PER_LANE);
+		private final Thread thread;
+		/**
+		 * Set when the thread of lane is exiting(normally or not), which takes no more chunks.
+		 */
+		private volatile boolean stopped = false;
+
+		private Lane(int laneIndex, Connection conn)
+		{
+			this.conn = conn;
+
+			thread = new Thread(this::run, "foxglove-lane-" + laneIndex);
+			thread.setDaemon(true);
+			thread.start();
+		}
+
+		/**
+		 * The chunk is dropped if the lane is stopped, the end of facet is counted down by the calling thread.
+		 */
+		private void dispatch(Chunk chunk)
+		{
+			try {
+				while (!chunks.offer(chunk, POLLING_MILLIS, TimeUnit.MILLISECONDS)) {
+					if (stopped) {
+						break;
+					}
+				}
+
+				if (stopped) {
+					drainChunks();
+				}
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new IllegalStateException("Interrupted while dispatching chunk", e);
+			}
+		}
+
+		private void join()
+		{
+			try {
+				thread.join();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+		}
+
+		private void run()
+		{
+			/*
+			 * The rows are generated by calling thread, which are not pipelined by lanes.
+			 *
+			 * A lane commits per facet for perFacet() and perGeneration(), see endOfFacet()
+			 */
+			var laneGear = templateGear
+				.withConnection(conn)
+				.withPipelineCapacity(0);
+			if (laneGear.commitPolicy().isCommittingPerFacet()) {
+				laneGear = laneGear.withCommitPolicy(CommitPolicy.perGeneration());
+			}
+			// :~)
+
+			try (conn) {
+				var txWorker = new JdbcTxWorker(laneGear);
+
+				try {
+					processChunks(txWorker);
+				} catch (Throwable e) {
+					failure.compareAndSet(null, e);
+				}
+
+				/*
+				 * Commits the remaining rows only if every lane is fine
+				 */
+				if (failure.get() == null) {
+					txWorker.close();
+				} else {
+					conn.rollback();
+				}
+				// :~)
+			} catch (Throwable e) {
+				failure.compareAndSet(null, e);
+			} finally {
+				/*
+				 * The waiting chunks of a dead lane must not block the calling thread
+				 */
+				stopped = true;
+				drainChunks();
+				// :~)
+			}
+		}
+
+		/**
+		 * Drops the waiting chunks, and counts down the ends of facets among them.
+		 */
+		private void drainChunks()
+		{
+			Chunk chunk;
+			while ((chunk = chunks.poll()) != null) {
+				if (chunk != Chunk.END && chunk.isEndOfFacet()) {
+					chunk.job().doneOfLanes.countDown();
+				}
+			}
+		}
+
+		private void processChunks(JdbcTxWorker txWorker) throws SQLException, InterruptedException
+		{
+			while (true) {
+				var chunk = chunks.take();
+				if (chunk == Chunk.END) {
+					return;
+				}
+
+				if (chunk.isEndOfFacet()) {
+					endOfFacet(txWorker, chunk.job());
+					continue;
+				}
+
+				/*
+				 * Skips the chunk if there is failure on any lane
+				 */
+				if (failure.get() != null) {
+					continue;
+				}
+				// :~)
+
+				try {
+					var context = chunk.job().context;
+					var rowIterator = chunk.rows().iterator();
+
+					txWorker.performInsert(
+						new JdbcTxWorker.InsertionContext(
+							context.sql(), chunk.rows().size(),
+							context.namesOfGeneratedColumns(),
+							rowIterator::next,
+							context.settingInfo(),
+							context.tableName(), context.targetColumns(),
+							context.keepingGeneratedValues(), context.integralGeneratedKey(),
+							chunk.job().batchSizer
+						),
+						chunk.generatedValues()::addAll
+					);
+				} catch (SQLException | RuntimeException e) {
+					failure.compareAndSet(null, e);
+				}
+			}
+		}
+
+		/**
+		 * The rows of lane must be visible to other connections once the facet is finished.
+		 */
+		private void endOfFacet(JdbcTxWorker txWorker, FacetJob job)
+		{
+			try {
+				if (failure.get() == null) {
+					txWorker.commitIfNeeded();
+				}
+			} catch (SQLException | RuntimeException e) {
+				failure.compareAndSet(null, e);
+			} finally {
+				job.doneOfLanes.countDown();
+			}
+		}
+	}
+}
@@ -0,0 +1,171 @@
+package guru.mikelue.foxglove.jdbc;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.sql.Savepoint;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import guru.mikelue.foxglove.ColumnMeta;
+import guru.mikelue.foxglove.jdbc.DriverCapabilities.KeysOfBatch;
+
+/**
+ * Probes whether or not the driver gives the generated keys of all rows in a batch, by the first rows.
+ *
+ * <p>
+ * The probed rows are executed as a batch in a savepoint, which is rolled back after the generated keys are counted.
+ * Then the rows are added again to the worker chosen by the probed result, which is kept by {@link DriverCapabilities}.
+ *
+ * <p>
+ * If the probing is not viable(e.g., the connection is in auto-commit mode), the rows are inserted by
+ * {@link SingleBatchWorker} and the probing is tried again by next worker.
+ */
+class ProbingBatchWorker implements BatchWorker {
+	private final static int PROBED_ROWS = 2;
+
+	private Logger logger = LoggerFactory.getLogger(ProbingBatchWorker.class);
+
+	private final PreparedStatement stmt;
+	private final DriverCapabilities capabilities;
+	private final WorkerAssistance assistance;
+	private final Function<KeysOfBatch, BatchWorker> workerByKeys;
+	private final List<Map<ColumnMeta, Object>> pendingRows = new ArrayList<>(PROBED_ROWS);
+
+	private BatchWorker chosenWorker = null;
+
+	ProbingBatchWorker(
+		PreparedStatement stmt, DriverCapabilities capabilities,
+		WorkerAssistance assistance,
+		Function<KeysOfBatch, BatchWorker> workerByKeys
+	) {
+		this.stmt = stmt;
+		this.capabilities = capabilities;
+		this.assistance = assistance;
+		this.workerByKeys = workerByKeys;
+	}
+
+	@Override
+	public void addBatch(Map<ColumnMeta, Object> paramSet) throws SQLException
+	{
+		if (chosenWorker != null) {
+			chosenWorker.addBatch(paramSet);
+			return;
+		}
+
+		pendingRows.add(paramSet);
+		if (pendingRows.size() < PROBED_ROWS) {
+			return;
+		}
+
+		var probedKeys = probe();
+		if (probedKeys == null) {
+			chosenWorker = new SingleBatchWorker(stmt, assistance);
+		} else {
+			capabilities.probedKeysOfBatch(probedKeys);
+			chosenWorker = workerByKeys.apply(probedKeys);
+		}
+
+		replayPendingRows(chosenWorker);
+	}
+
+	/**
+	 * The pending rows(less than the probed ones) are inserted individually.
+	 */
+	@Override
+	public void executeBatch() throws SQLException
+	{
+		if (chosenWorker != null) {
+			chosenWorker.executeBatch();
+			return;
+		}
+
+		replayPendingRows(new SingleBatchWorker(stmt, assistance));
+	}
+
+	@Override
+	public void close() throws SQLException
+	{
+		if (chosenWorker != null) {
+			chosenWorker.close();
+		}
+	}
+
+	/**
+	 * Gives null if the result couldn't be concluded.
+	 */
+	private KeysOfBatch probe() throws SQLException
+	{
+		var conn = stmt.getConnection();
+
+		/*
+		 * The probed rows couldn't be rolled back in auto-commit mode
+		 */
+		if (conn.getAutoCommit()) {
+			logger.debug("Unable to probe generated keys of batch in auto-commit mode");
+			return null;
+		}
+		// :~)
+
+		Savepoint savepoint;
+		try {
+			savepoint = conn.setSavepoint();
+		} catch (SQLException e) {
+			logger.debug("Unable to probe generated keys of batch: {}", e.getMessage());
+			return null;
+		}
+
+		try {
+			for (var row: pendingRows) {
+				assistance.setParams(row);
+				stmt.addBatch();
+			}
+			assistance.executeBatch(stmt);
+
+			int numberOfKeys = 0;
+			try (var rs = stmt.getGeneratedKeys()) {
+				while (rs.next()) {
+					numberOfKeys++;
+				}
+			}
+
+			if (numberOfKeys >= PROBED_ROWS) {
+				return KeysOfBatch.All;
+			}
+
+			return numberOfKeys == 0 ? KeysOfBatch.None : KeysOfBatch.LastOnly;
+		} catch (SQLFeatureNotSupportedException e) {
+			return KeysOfBatch.None;
+		} catch (SQLException e) {
+			/*
+			 * The failure could be caused by the rows,
+			 * which is raised again by inserting them individually.
+			 */
+			logger.debug("Probing generated keys of batch is failed: {}", e.getMessage());
+			stmt.clearBatch();
+			return null;
+			// :~)
+		} finally {
+			conn.rollback(savepoint);
+
+			try {
+				conn.releaseSavepoint(savepoint);
+			} catch (SQLException e) {
+				logger.debug("Unable to release savepoint: {}", e.getMessage());
+			}
+		}
+	}
+
+	private void replayPendingRows(BatchWorker worker) throws SQLException
+	{
+		for (var row: pendingRows) {
+			worker.addBatch(row);
+		}
+		pendingRows.clear();
+	}
+}
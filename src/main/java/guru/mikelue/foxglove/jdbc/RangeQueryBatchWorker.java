@@ -0,0 +1,79 @@
+package guru.mikelue.foxglove.jdbc;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.Map;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import guru.mikelue.foxglove.ColumnMeta;
+
+/**
+ * Executes rows by JDBC batch, then queries the generated keys by {@link KeyRangeQuery}.
+ *
+ * This worker is used by the drivers giving only the last generated key of a batch.
+ */
+class RangeQueryBatchWorker implements BatchWorker {
+	private Logger logger = LoggerFactory.getLogger(RangeQueryBatchWorker.class);
+
+	private final WorkerAssistance assistance;
+	private final PreparedStatement stmt;
+	private final KeyRangeQuery keyRangeQuery;
+	private final BatchSizer batchSizer;
+	private int unExecutedNumberOfRows = 0;
+
+	RangeQueryBatchWorker(
+		PreparedStatement stmt, KeyRangeQuery keyRangeQuery,
+		BatchSizer batchSizer, WorkerAssistance assistance
+	) {
+		this.stmt = stmt;
+		this.keyRangeQuery = keyRangeQuery;
+		this.batchSizer = batchSizer;
+		this.assistance = assistance;
+	}
+
+	@Override
+	public void addBatch(Map<ColumnMeta, Object> paramSet) throws SQLException
+	{
+		if (unExecutedNumberOfRows == 0) {
+			keyRangeQuery.markLastSeenKey();
+		}
+
+		batchSizer.onRowAdded(paramSet);
+		assistance.setParams(paramSet);
+
+		stmt.addBatch();
+		unExecutedNumberOfRows++;
+
+		if (unExecutedNumberOfRows >= batchSizer.size()) {
+			executeBatch();
+		}
+	}
+
+	@Override
+	public void executeBatch() throws SQLException
+	{
+		if (unExecutedNumberOfRows == 0) {
+			return;
+		}
+
+		logger.debug("Executing for [{}] statements of batch[{}], keys are queried by range", unExecutedNumberOfRows, batchSizer.size());
+
+		var startNanos = System.nanoTime();
+		assistance.executeBatch(stmt);
+		batchSizer.onBatchExecuted(unExecutedNumberOfRows, System.nanoTime() - startNanos);
+
+		unExecutedNumberOfRows = 0;
+
+		assistance.consumeTuples(
+			keyRangeQuery.queryNewKeys(assistance::loadValues)
+		);
+	}
+
+	@Override
+	public void close() throws SQLException
+	{
+		keyRangeQuery.close();
+	}
+}
@@ -65,6 +65,7 @@ class ReferenceSettingStepImpl<T> implements ReferenceSettingStep<T> {
 		Validate.notEmpty(safeReferencedColumn, "Referenced column must not be empty");
 
 		parentTable.getValueTomb().keepColumn(safeReferencedColumn);
+		baseBuilder.dependOn(parentTable);
 		return new CardinalityStepImpl(parentTable, safeReferencedColumn);
 	}
 }
@@ -1,10 +1,11 @@
 package guru.mikelue.foxglove.jdbc;
 
 import java.sql.PreparedStatement;
-import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.function.Supplier;
+import java.util.stream.Stream;
 
 import org.apache.commons.lang3.Validate;
 import org.slf4j.Logger;
@@ -20,17 +21,35 @@ import guru.mikelue.foxglove.setting.DataSettingInfo;
 class RowParamsGenerator {
 	private Logger logger = LoggerFactory.getLogger(RowParamsGenerator.class);
 
-	private final Map<ColumnMeta, Supplier<Object>> supplierOfColumns;
+	private final List<ColumnMeta> columns;
+	private final Supplier<?>[] suppliers;
+	private final RowValues.PrimitiveType[] primitiveTypes;
+	private SpecializedRowGenerator specializedGenerator = null;
 
 	RowParamsGenerator(
 		JdbcTableFacet table,
 		List<ColumnMeta> metaOfColumns,
 		DataSettingInfo setting
 	) {
-		this.supplierOfColumns = new LinkedHashMap<>(metaOfColumns.size());
+		this(table, metaOfColumns, setting, Map.of());
+	}
+
+	/**
+	 * @param presetSuppliers The suppliers take precedence over the ones of table and setting
+	 */
+	RowParamsGenerator(
+		JdbcTableFacet table,
+		List<ColumnMeta> metaOfColumns,
+		DataSettingInfo setting,
+		Map<ColumnMeta, Supplier<Object>> presetSuppliers
+	) {
+		this.columns = List.copyOf(metaOfColumns);
+		this.suppliers = new Supplier<?>[metaOfColumns.size()];
 
-		for (ColumnMeta columnMeta : metaOfColumns) {
-			var supplierOpt = table.resolveSupplier(columnMeta)
+		for (int i = 0; i < columns.size(); i++) {
+			var columnMeta = columns.get(i);
+			var supplierOpt = Optional.ofNullable(presetSuppliers.get(columnMeta))
+				.or(() -> table.resolveSupplier(columnMeta))
 				.or(() -> setting.resolveSupplier(columnMeta));
 
 			Validate.isTrue(
@@ -47,21 +66,44 @@ class RowParamsGenerator {
 				);
 			}
 
-			this.supplierOfColumns.put(columnMeta, supplier);
+			this.suppliers[i] = supplier;
 		}
+
+		this.primitiveTypes = Stream.of(suppliers).anyMatch(supplier -> RowValues.PrimitiveType.of(supplier) != null) ?
+			Stream.of(suppliers).map(RowValues.PrimitiveType::of).toArray(RowValues.PrimitiveType[]::new) :
+			null;
 	}
 
-	Map<ColumnMeta, Object> generateRowParams()
+	/**
+	 * Generates the rows by {@link SpecializedRowGenerator}, which keeps the loop of suppliers if the slots couldn't be defined.
+	 *
+	 * @return true if the rows are generated by the specialized generator
+	 */
+	boolean specialize()
 	{
-		var resultRow = new LinkedHashMap<ColumnMeta, Object>(supplierOfColumns.size());
+		if (specializedGenerator == null) {
+			specializedGenerator = SpecializedRowGenerator.compile(columns, primitiveTypes, suppliers);
+		}
 
-		for (var columnMeta: supplierOfColumns.keySet()) {
-			var value = supplierOfColumns.get(columnMeta)
-				.get();
+		return specializedGenerator != null;
+	}
 
-			resultRow.put(columnMeta, value);
+	Map<ColumnMeta, Object> generateRowParams()
+	{
+		return generateRowValues();
+	}
+
+	/**
+	 * Generates the values of a row in ordinal of columns.
+	 *
+	 * The values of primitive suppliers(e.g., {@link guru.mikelue.foxglove.functional.Int8Supplier}) are not boxed.
+	 */
+	RowValues generateRowValues()
+	{
+		if (specializedGenerator != null) {
+			return specializedGenerator.generate();
 		}
 
-		return resultRow;
+		return RowValues.generate(columns, primitiveTypes, suppliers);
 	}
 }
@@ -0,0 +1,135 @@
+package guru.mikelue.foxglove.jdbc;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.function.Supplier;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Generates rows by a producer thread, which fills a bounded buffer of generated rows.
+ *
+ * <p>
+ * The consumer(the thread of JDBC connection) takes rows by {@link #get()},
+ * which overlaps the generating of rows with the execution of batches.
+ *
+ * <ul>
+ *   <li>Backpressure - the producer is blocked when the buffer is full.</li>
+ *   <li>Exception of producer - is re-thrown by {@link #get()} of consumer.</li>
+ *   <li>Exception of consumer - {@link #close()} stops the producer.</li>
+ * </ul>
+ *
+ * @param <T> The type of generated row
+ */
+class RowPipeline<T> implements Supplier<T>, AutoCloseable {
+	private final static Object END_OF_FAILURE = new Object();
+
+	private final Logger logger = LoggerFactory.getLogger(RowPipeline.class);
+
+	private final Supplier<T> sourceOfRows;
+	private final long numberOfRows;
+	private final BlockingQueue<Object> bufferOfRows;
+	private final Thread producer;
+
+	private volatile Throwable failureOfProducer = null;
+	private volatile boolean closed = false;
+
+	/**
+	 * Starts the producer thread.
+	 *
+	 * @param sourceOfRows The source of rows, which is called by producer thread only
+	 * @param numberOfRows The number of rows to be generated
+	 * @param capacity The capacity of buffer
+	 * @param name The name used by producer thread
+	 */
+	RowPipeline(
+		Supplier<T> sourceOfRows, long numberOfRows,
+		int capacity, String name
+	) {
+		this.sourceOfRows = sourceOfRows;
+		this.numberOfRows = numberOfRows;
+		this.bufferOfRows = new ArrayBlockingQueue<>(capacity);
+
+		producer = new Thread(this::produce, "foxglove-producer-" + name);
+		producer.setDaemon(true);
+		producer.start();
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public T get()
+	{
+		Object row;
+
+		try {
+			row = bufferOfRows.take();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException("Interrupted while waiting for generated row", e);
+		}
+
+		if (row == END_OF_FAILURE) {
+			var failure = failureOfProducer;
+
+			if (failure instanceof RuntimeException runtimeException) {
+				throw runtimeException;
+			}
+			if (failure instanceof Error error) {
+				throw error;
+			}
+
+			throw new IllegalStateException("Failed to generate row", failure);
+		}
+
+		return (T)row;
+	}
+
+	/**
+	 * Stops the producer(if it is still running) and waits for its termination.
+	 */
+	@Override
+	public void close()
+	{
+		closed = true;
+
+		if (producer.isAlive()) {
+			producer.interrupt();
+		}
+
+		try {
+			producer.join();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+
+		bufferOfRows.clear();
+	}
+
+	private void produce()
+	{
+		logger.debug("Producing [{}] rows with buffer[{}]", numberOfRows, bufferOfRows.remainingCapacity());
+
+		try {
+			for (long rowIndex = 0; rowIndex < numberOfRows && !closed; rowIndex++) {
+				bufferOfRows.put(sourceOfRows.get());
+			}
+		} catch (InterruptedException e) {
+			logger.debug("Producer is interrupted");
+		} catch (Throwable e) {
+			logger.debug("Producer has failed", e);
+			failureOfProducer = e;
+
+			/*
+			 * Puts the marker after generated rows,
+			 * the put is interrupted if the consumer has closed this pipeline.
+			 */
+			try {
+				bufferOfRows.put(END_OF_FAILURE);
+			} catch (InterruptedException ie) {
+				logger.debug("Producer is interrupted while putting failure");
+			}
+			// :~)
+		}
+	}
+}
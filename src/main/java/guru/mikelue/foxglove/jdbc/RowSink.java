@@ -0,0 +1,72 @@
+package guru.mikelue.foxglove.jdbc;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+
+import guru.mikelue.foxglove.ColumnMeta;
+
+/**
+ * The destination of generated rows other than the database of {@link JdbcDataGenerator}.
+ *
+ * <p>
+ * With a sink set by {@link JdbcDataGenerator#setRowSink(RowSink)}, the metadata of tables is still
+ * read from database, yet the rows are written to this sink instead of being inserted by JDBC.
+ * The sink is called by the generating thread, in order of table facets:
+ *
+ * <ol>
+ *   <li>{@link #beginTable(String, List)} - once per table facet</li>
+ *   <li>{@link #writeRow(Map)} - for every generated row</li>
+ *   <li>{@link #endTable()} - after the last row of the table facet</li>
+ * </ol>
+ *
+ * <p>
+ * Since there is no value generated by database, the auto-generated key kept for
+ * {@linkplain JdbcTableFacet.Builder#referencing(String) referencing} facets is assigned
+ * explicitly(starting from {@code MAX(key) + 1} of the database) and written as a column of rows.
+ *
+ * <p>
+ * The built-in sinks:
+ *
+ * <ul>
+ *   <li>{@link CsvRowSink} - a CSV file per table facet</li>
+ *   <li>{@link SqlScriptRowSink} - a SQL script(of multi-row {@code INSERT}s) per table facet</li>
+ * </ul>
+ *
+ * @see JdbcDataGenerator#setRowSink(RowSink)
+ */
+public interface RowSink extends AutoCloseable {
+	/**
+	 * Starts the rows of a table facet.
+	 *
+	 * @param tableName The name of table
+	 * @param columns The columns of rows, in the order of values
+	 *
+	 * @throws IOException The failure of output
+	 */
+	void beginTable(String tableName, List<ColumnMeta> columns) throws IOException;
+
+	/**
+	 * Writes a generated row.
+	 *
+	 * @param row The values of row, keyed by the columns given by {@link #beginTable(String, List)}
+	 *
+	 * @throws IOException The failure of output
+	 */
+	void writeRow(Map<ColumnMeta, Object> row) throws IOException;
+
+	/**
+	 * Finishes the rows of current table facet, the written rows should be durable after this method.
+	 *
+	 * @throws IOException The failure of output
+	 */
+	void endTable() throws IOException;
+
+	/**
+	 * Releases the resources of this sink, including the unfinished table.
+	 *
+	 * @throws IOException The failure of output
+	 */
+	@Override
+	void close() throws IOException;
+}
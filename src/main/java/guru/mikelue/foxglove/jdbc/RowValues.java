@@ -0,0 +1,312 @@
+package guru.mikelue.foxglove.jdbc;
+
+import java.util.AbstractList;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.function.Supplier;
+
+import guru.mikelue.foxglove.ColumnMeta;
+import guru.mikelue.foxglove.functional.Float8Supplier;
+import guru.mikelue.foxglove.functional.Int4Supplier;
+import guru.mikelue.foxglove.functional.Int8Supplier;
+
+/**
+ * The read-only values of a row indexed by the ordinal of columns, which is viewed as a {@link java.util.Map}.
+ *
+ * <p>
+ * The columns are shared by all of the rows of a table facet, only the array of values is allocated for a row.
+ * The workers of batch iterate the row by ordinal({@link #columnAt(int)} and {@link #valueAt(int)}),
+ * without the lookups of hash.
+ *
+ * <p>
+ * The values of columns supplied by {@link Int4Supplier}, {@link Int8Supplier}, or {@link Float8Supplier}
+ * are kept in a primitive lane, which are boxed only if they are accessed as objects.
+ */
+final class RowValues extends AbstractMap<ColumnMeta, Object> {
+	/**
+	 * The type of value kept in primitive lane.
+	 */
+	enum PrimitiveType {
+		Int4(int.class), Int8(long.class), Float8(double.class);
+
+		private final Class<?> javaType;
+
+		PrimitiveType(Class<?> javaType)
+		{
+			this.javaType = javaType;
+		}
+
+		Class<?> javaType()
+		{
+			return javaType;
+		}
+
+		/**
+		 * Gives null if the supplier doesn't generate primitive values.
+		 */
+		static PrimitiveType of(Object supplier)
+		{
+			if (supplier instanceof Int4Supplier) {
+				return Int4;
+			}
+			if (supplier instanceof Int8Supplier) {
+				return Int8;
+			}
+			if (supplier instanceof Float8Supplier) {
+				return Float8;
+			}
+
+			return null;
+		}
+	}
+
+	/**
+	 * Marks the value of a column is kept in primitive lane.
+	 */
+	final static Object IN_PRIMITIVE_LANE = new Object();
+
+	private final List<ColumnMeta> columns;
+	private final PrimitiveType[] primitiveTypes;
+	private final Object[] values;
+	private final long[] primitives;
+
+	/**
+	 * @param columns The columns shared by rows
+	 * @param values The values by ordinal of columns, which is not copied
+	 */
+	RowValues(List<ColumnMeta> columns, Object[] values)
+	{
+		this(columns, null, values, null);
+	}
+
+	/**
+	 * @param primitiveTypes The types of primitive lane shared by rows, could be null if there is no primitive lane
+	 * @param primitives The primitive lane by ordinal of columns, which could be null if there is no primitive lane
+	 */
+	RowValues(
+		List<ColumnMeta> columns, PrimitiveType[] primitiveTypes,
+		Object[] values, long[] primitives
+	) {
+		this.columns = columns;
+		this.primitiveTypes = primitiveTypes;
+		this.values = values;
+		this.primitives = primitives;
+	}
+
+	/**
+	 * Generates a row by the suppliers of columns.
+	 *
+	 * @param primitiveTypes The types of primitive lane by {@link PrimitiveType#of(Object)}, could be null
+	 * if none of the suppliers generates primitive values
+	 */
+	static RowValues generate(
+		List<ColumnMeta> columns, PrimitiveType[] primitiveTypes,
+		Supplier<?>[] suppliers
+	) {
+		var values = new Object[suppliers.length];
+
+		if (primitiveTypes == null) {
+			for (int i = 0; i < suppliers.length; i++) {
+				values[i] = suppliers[i].get();
+			}
+
+			return new RowValues(columns, values);
+		}
+
+		var primitives = new long[suppliers.length];
+		for (int i = 0; i < suppliers.length; i++) {
+			var primitiveType = primitiveTypes[i];
+			if (primitiveType == null) {
+				values[i] = suppliers[i].get();
+				continue;
+			}
+
+			values[i] = IN_PRIMITIVE_LANE;
+			primitives[i] = switch (primitiveType) {
+				case Int4 -> ((Int4Supplier)suppliers[i]).getAsInt();
+				case Int8 -> ((Int8Supplier)suppliers[i]).getAsLong();
+				case Float8 -> Double.doubleToRawLongBits(((Float8Supplier)suppliers[i]).getAsDouble());
+			};
+		}
+
+		return new RowValues(columns, primitiveTypes, values, primitives);
+	}
+
+	/**
+	 * Gets the columns, which are shared by the rows of a table facet.
+	 */
+	List<ColumnMeta> columns()
+	{
+		return columns;
+	}
+
+	ColumnMeta columnAt(int ordinal)
+	{
+		return columns.get(ordinal);
+	}
+
+	/**
+	 * Gets the value of column, the one in primitive lane is boxed.
+	 */
+	Object valueAt(int ordinal)
+	{
+		var value = values[ordinal];
+		if (value != IN_PRIMITIVE_LANE) {
+			return value;
+		}
+
+		return switch (primitiveTypes[ordinal]) {
+			case Int4 -> (int)primitives[ordinal];
+			case Int8 -> primitives[ordinal];
+			case Float8 -> Double.longBitsToDouble(primitives[ordinal]);
+		};
+	}
+
+	/**
+	 * Gives null if the value of column is not in primitive lane.
+	 */
+	PrimitiveType primitiveTypeAt(int ordinal)
+	{
+		return values[ordinal] == IN_PRIMITIVE_LANE ? primitiveTypes[ordinal] : null;
+	}
+
+	int intAt(int ordinal)
+	{
+		return (int)primitives[ordinal];
+	}
+
+	long longAt(int ordinal)
+	{
+		return primitives[ordinal];
+	}
+
+	double doubleAt(int ordinal)
+	{
+		return Double.longBitsToDouble(primitives[ordinal]);
+	}
+
+	/**
+	 * Replaces the value of column, which is taken out of primitive lane.
+	 */
+	void setValueAt(int ordinal, Object value)
+	{
+		values[ordinal] = value;
+	}
+
+	/**
+	 * Copies the values, the ones in primitive lane are boxed.
+	 */
+	RowValues copy()
+	{
+		var copiedValues = new Object[values.length];
+		for (int i = 0; i < values.length; i++) {
+			copiedValues[i] = valueAt(i);
+		}
+
+		return new RowValues(columns, copiedValues);
+	}
+
+	@Override
+	public int size()
+	{
+		return values.length;
+	}
+
+	@Override
+	public boolean containsKey(Object key)
+	{
+		return ordinalOf(key) >= 0;
+	}
+
+	@Override
+	public Object get(Object key)
+	{
+		var ordinal = ordinalOf(key);
+		return ordinal >= 0 ? valueAt(ordinal) : null;
+	}
+
+	@Override
+	public Collection<Object> values()
+	{
+		return new AbstractList<>() {
+			@Override
+			public Object get(int index)
+			{
+				return valueAt(index);
+			}
+
+			@Override
+			public int size()
+			{
+				return values.length;
+			}
+		};
+	}
+
+	@Override
+	public void forEach(BiConsumer<? super ColumnMeta, ? super Object> action)
+	{
+		for (int i = 0; i < values.length; i++) {
+			action.accept(columns.get(i), valueAt(i));
+		}
+	}
+
+	@Override
+	public Set<Entry<ColumnMeta, Object>> entrySet()
+	{
+		return new AbstractSet<>() {
+			@Override
+			public int size()
+			{
+				return values.length;
+			}
+
+			@Override
+			public Iterator<Entry<ColumnMeta, Object>> iterator()
+			{
+				return new Iterator<>() {
+					private int ordinal = 0;
+
+					@Override
+					public boolean hasNext()
+					{
+						return ordinal < values.length;
+					}
+
+					@Override
+					public Entry<ColumnMeta, Object> next()
+					{
+						if (!hasNext()) {
+							throw new NoSuchElementException();
+						}
+
+						var entry = new SimpleImmutableEntry<>(columns.get(ordinal), valueAt(ordinal));
+						ordinal++;
+
+						return entry;
+					}
+				};
+			}
+		};
+	}
+
+	/**
+	 * The columns are compared by identity first, since they are shared by rows.
+	 */
+	private int ordinalOf(Object key)
+	{
+		for (int i = 0; i < values.length; i++) {
+			if (columns.get(i) == key) {
+				return i;
+			}
+		}
+
+		return columns.indexOf(key);
+	}
+}
@@ -0,0 +1,125 @@
+package guru.mikelue.foxglove.jdbc;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.List;
+
+import org.apache.commons.lang3.Validate;
+
+/**
+ * The settings of database applied for loading of rows, which are restored after the generation.
+ *
+ * <p>
+ * The tuning is applied to the connection of {@link JdbcDataGenerator} before the first table facet,
+ * and the restoration is called after the last one(even if the generation is failed).
+ * If the generator joins the transaction of {@link Connection}, the tuning is not applied.
+ *
+ * <p>
+ * The built-in tunings:
+ *
+ * <ul>
+ *   <li>{@link #ofVendor()} - the settings of session/database by the vendor of database</li>
+ *   <li>{@link #rebuildingIndexes()} - drops and rebuilds the secondary indexes of tables</li>
+ * </ul>
+ *
+ * <pre><code class="java">
+ * generator.setSessionTuning(
+ *     SessionTuning.ofVendor().andThen(SessionTuning.rebuildingIndexes())
+ * );
+ * </code></pre>
+ *
+ * @see JdbcDataGenerator#setSessionTuning(SessionTuning)
+ */
+@FunctionalInterface
+public interface SessionTuning {
+	/**
+	 * Restores the settings changed by {@link SessionTuning#apply(Connection, List)}.
+	 */
+	@FunctionalInterface
+	interface Restoration {
+		/**
+		 * Restores the settings.
+		 *
+		 * @param conn The connection of generation, which is in auto-commit mode
+		 *
+		 * @throws SQLException The failure of database
+		 */
+		void restore(Connection conn) throws SQLException;
+	}
+
+	/**
+	 * Applies the settings optimized for loading, by the vendor of database:
+	 *
+	 * <ul>
+	 *   <li>H2 - {@code SET REFERENTIAL_INTEGRITY FALSE}(of the database)</li>
+	 *   <li>SQLite - {@code PRAGMA synchronous = OFF}, {@code PRAGMA journal_mode = MEMORY}</li>
+	 *   <li>HSQLDB - {@code SET FILES LOG FALSE}(of the database)</li>
+	 * </ul>
+	 *
+	 * <p>
+	 * Nothing is applied to other databases. A setting failed to be applied(e.g., lack of privilege) is skipped.
+	 *
+	 * @return The tuning
+	 */
+	static SessionTuning ofVendor()
+	{
+		return VendorSessionTuning::apply;
+	}
+
+	/**
+	 * Drops the secondary indexes(non-unique) of tables before generation, which are created again afterward.
+	 *
+	 * <p>
+	 * The indexes used by constraints(e.g., foreign keys), which couldn't be dropped, are kept.
+	 *
+	 * @return The tuning
+	 */
+	static SessionTuning rebuildingIndexes()
+	{
+		return IndexRebuilding::apply;
+	}
+
+	/**
+	 * Applies the settings.
+	 *
+	 * @param conn The connection of generation, which is in auto-commit mode
+	 * @param tableNames The tables of facets, without duplicates
+	 *
+	 * @return The restoration of settings
+	 *
+	 * @throws SQLException The failure of database
+	 */
+	Restoration apply(Connection conn, List<String> tableNames) throws SQLException;
+
+	/**
+	 * Applies this tuning then the other one, the restorations are called in reverse order.
+	 *
+	 * @param other The other tuning
+	 *
+	 * @return The combined tuning
+	 */
+	default SessionTuning andThen(SessionTuning other)
+	{
+		Validate.notNull(other, "Other tuning must not be null");
+
+		return (conn, tableNames) -> {
+			var firstRestoration = apply(conn, tableNames);
+
+			Restoration secondRestoration;
+			try {
+				secondRestoration = other.apply(conn, tableNames);
+			} catch (SQLException | RuntimeException e) {
+				firstRestoration.restore(conn);
+				throw e;
+			}
+
+			return restoredConn -> {
+				try {
+					secondRestoration.restore(restoredConn);
+				} finally {
+					firstRestoration.restore(restoredConn);
+				}
+			};
+		};
+	}
+}
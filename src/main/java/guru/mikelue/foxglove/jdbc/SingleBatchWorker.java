@@ -0,0 +1,43 @@
+package guru.mikelue.foxglove.jdbc;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.Map;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import guru.mikelue.foxglove.ColumnMeta;
+
+class SingleBatchWorker implements BatchWorker {
+	private Logger logger = LoggerFactory.getLogger(SingleBatchWorker.class);
+
+	private final WorkerAssistance assistance;
+	private final PreparedStatement stmt;
+	private int counter = 0;
+
+	SingleBatchWorker(
+		PreparedStatement stmt, WorkerAssistance assistance
+	) {
+		this.stmt = stmt;
+		this.assistance = assistance;
+	}
+
+	@Override
+	public void addBatch(Map<ColumnMeta, Object> paramSet) throws SQLException
+	{
+		assistance.setParams(paramSet);
+
+		stmt.executeUpdate();
+		counter++;
+
+		assistance.consumeGeneratedValues(stmt);
+	}
+
+	@Override
+	public void executeBatch() throws SQLException
+	{
+		logger.debug("Have executed [{}] statements individually", counter);
+		counter = 0;
+	}
+}
@@ -0,0 +1,62 @@
+package guru.mikelue.foxglove.jdbc;
+
+import java.util.List;
+import java.util.Map;
+
+import guru.mikelue.foxglove.ColumnMeta;
+
+/**
+ * Reads the values of rows in the order of columns of a table, for {@link RowSink}s of files.
+ *
+ * <p>
+ * The row of {@link RowValues} whose columns are in the same order is read by ordinal
+ * instead of the lookup of column.
+ */
+final class SinkRowReader {
+	private final List<ColumnMeta> columns;
+	/**
+	 * The columns of {@link RowValues} known to be in the order of columns of table.
+	 */
+	private List<ColumnMeta> ordinalColumns = null;
+
+	/**
+	 * @param columns The columns of table
+	 */
+	SinkRowReader(List<ColumnMeta> columns)
+	{
+		this.columns = columns;
+	}
+
+	/**
+	 * Gives the row as {@link RowValues} if its columns are in the order of columns of table.
+	 *
+	 * @return null if the row is not such {@link RowValues}
+	 */
+	RowValues ordinalRowOf(Map<ColumnMeta, Object> row)
+	{
+		if (!(row instanceof RowValues rowValues)) {
+			return null;
+		}
+
+		if (rowValues.columns() != ordinalColumns) {
+			if (!rowValues.columns().equals(columns)) {
+				return null;
+			}
+
+			ordinalColumns = rowValues.columns();
+		}
+
+		return rowValues;
+	}
+
+	/**
+	 * Gets the value of column at the index of columns of table.
+	 *
+	 * @param ordinalRow The row given by {@link #ordinalRowOf(Map)}, could be null
+	 */
+	Object valueAt(Map<ColumnMeta, Object> row, RowValues ordinalRow, int index)
+	{
+		return ordinalRow != null ?
+			ordinalRow.valueAt(index) : row.get(columns.get(index));
+	}
+}
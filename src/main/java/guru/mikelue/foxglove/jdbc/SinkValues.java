@@ -0,0 +1,145 @@
+package guru.mikelue.foxglove.jdbc;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeFormatterBuilder;
+
+import org.apache.commons.lang3.Validate;
+
+import static java.time.format.DateTimeFormatter.ISO_LOCAL_DATE;
+import static java.time.format.DateTimeFormatter.ISO_LOCAL_TIME;
+
+/**
+ * Formats the generated values as text for {@link RowSink}s of files.
+ *
+ * <p>
+ * The temporal values are formatted as {@code yyyy-MM-dd HH:mm:ss[.fraction][offset]},
+ * which are accepted by bulk loaders and implicit casting of most databases.
+ */
+final class SinkValues {
+	private final static char[] HEX_DIGITS = "0123456789ABCDEF".toCharArray();
+
+	private final static DateTimeFormatter LOCAL_DATE_TIME = new DateTimeFormatterBuilder()
+		.append(ISO_LOCAL_DATE)
+		.appendLiteral(' ')
+		.append(ISO_LOCAL_TIME)
+		.toFormatter();
+	private final static DateTimeFormatter OFFSET_DATE_TIME = new DateTimeFormatterBuilder()
+		.append(LOCAL_DATE_TIME)
+		.appendOffsetId()
+		.toFormatter();
+
+	private SinkValues() {}
+
+	/**
+	 * Formats the non-null value as text.
+	 *
+	 * <p>
+	 * The {@code byte[]} is formatted as hexadecimal digits.
+	 */
+	static String toText(Object value)
+	{
+		if (value instanceof CharSequence text) {
+			return text.toString();
+		}
+		if (value instanceof BigDecimal decimal) {
+			return decimal.toPlainString();
+		}
+		if (value instanceof byte[] bytes) {
+			return toHex(bytes);
+		}
+
+		/*
+		 * Temporal values
+		 */
+		if (value instanceof LocalDateTime dateTime) {
+			return LOCAL_DATE_TIME.format(dateTime);
+		}
+		if (value instanceof OffsetDateTime dateTime) {
+			return OFFSET_DATE_TIME.format(dateTime);
+		}
+		if (value instanceof ZonedDateTime dateTime) {
+			return OFFSET_DATE_TIME.format(dateTime.toOffsetDateTime());
+		}
+		if (value instanceof Instant instant) {
+			return OFFSET_DATE_TIME.format(instant.atOffset(ZoneOffset.UTC));
+		}
+		if (value instanceof java.util.Date date &&
+			!(date instanceof java.sql.Timestamp) &&
+			!(date instanceof java.sql.Date) &&
+			!(date instanceof java.sql.Time)
+		) {
+			return new java.sql.Timestamp(date.getTime()).toString();
+		}
+		// :~)
+
+		return value.toString();
+	}
+
+	/**
+	 * Appends the value as SQL literal.
+	 *
+	 * <ul>
+	 *   <li>{@code null} - {@code NULL}</li>
+	 *   <li>{@link Number} - unquoted, the NaN or infinity of {@link Double} and {@link Float} are rejected</li>
+	 *   <li>{@link Boolean} - {@code TRUE} or {@code FALSE}</li>
+	 *   <li>{@code byte[]} - {@code X'<hex digits>'}</li>
+	 *   <li>Others - quoted text of {@link #toText(Object)}</li>
+	 * </ul>
+	 *
+	 * @throws IllegalArgumentException If the number is not finite, which has no portable literal
+	 */
+	static void appendSqlLiteral(StringBuilder builder, Object value)
+	{
+		if (value == null) {
+			builder.append("NULL");
+			return;
+		}
+		if (value instanceof Boolean bool) {
+			builder.append(bool ? "TRUE" : "FALSE");
+			return;
+		}
+		if (value instanceof Number number) {
+			Validate.isTrue(
+				!(number instanceof Double doubleValue && !Double.isFinite(doubleValue)) &&
+				!(number instanceof Float floatValue && !Float.isFinite(floatValue)),
+				"Non-finite number couldn't be written as SQL literal: %s", number
+			);
+
+			builder.append(toText(number));
+			return;
+		}
+		if (value instanceof byte[] bytes) {
+			builder.append("X'").append(toHex(bytes)).append('\'');
+			return;
+		}
+
+		var text = toText(value);
+
+		builder.append('\'');
+		for (int i = 0; i < text.length(); i++) {
+			var c = text.charAt(i);
+			if (c == '\'') {
+				builder.append('\'');
+			}
+			builder.append(c);
+		}
+		builder.append('\'');
+	}
+
+	private static String toHex(byte[] bytes)
+	{
+		var hex = new char[bytes.length * 2];
+		for (int i = 0; i < bytes.length; i++) {
+			hex[i * 2] = HEX_DIGITS[(bytes[i] >> 4) & 0x0f];
+			hex[i * 2 + 1] = HEX_DIGITS[bytes[i] & 0x0f];
+		}
+
+		return new String(hex);
+	}
+}
@@ -0,0 +1,169 @@
+package guru.mikelue.foxglove.jdbc;
+
+import java.io.IOException;
+import java.lang.invoke.MethodHandles;
+import java.util.List;
+import java.util.function.Supplier;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import guru.mikelue.foxglove.ColumnMeta;
+import guru.mikelue.foxglove.functional.Float8Supplier;
+import guru.mikelue.foxglove.functional.Int4Supplier;
+import guru.mikelue.foxglove.functional.Int8Supplier;
+
+/**
+ * Generates the values of a row by a chain of slots, every column has its own hidden class cloned from {@link ChainedColumnSlot}.
+ *
+ * <p>
+ * In the loop of {@link RowValues#generate(List, RowValues.PrimitiveType[], Supplier[])},
+ * the call of {@link Supplier#get()} is shared by all of the columns(megamorphic), which couldn't be inlined by JIT.
+ * Since a cloned class is used by a single column, its calls to the supplier and to the next slot are monomorphic.
+ *
+ * <p>
+ * The cloning is not viable if the bytes of {@link ChainedColumnSlot} are not readable or
+ * the hidden class is not allowed to be defined, which falls back to the loop of {@link RowValues}.
+ */
+final class SpecializedRowGenerator {
+	/**
+	 * The slot of a column, which generates the value and calls the slot of next column.
+	 */
+	interface ColumnSlot {
+		void generate(Object[] values, long[] primitives);
+	}
+
+	private final static Logger logger = LoggerFactory.getLogger(SpecializedRowGenerator.class);
+
+	private final static byte[] BYTES_OF_SLOT = loadBytesOfSlot();
+
+	/**
+	 * Compiles the chain of slots for the suppliers of columns.
+	 *
+	 * @param primitiveTypes The types of primitive lane by {@link RowValues.PrimitiveType#of(Object)}, could be null
+	 *
+	 * @return null if the hidden classes couldn't be defined
+	 */
+	static SpecializedRowGenerator compile(
+		List<ColumnMeta> columns, RowValues.PrimitiveType[] primitiveTypes,
+		Supplier<?>[] suppliers
+	) {
+		if (BYTES_OF_SLOT == null || suppliers.length == 0) {
+			return null;
+		}
+
+		var lookup = MethodHandles.lookup();
+		ColumnSlot nextSlot = null;
+
+		try {
+			for (int i = suppliers.length - 1; i >= 0; i--) {
+				var classOfSlot = lookup.defineHiddenClass(BYTES_OF_SLOT, true)
+					.lookupClass();
+
+				nextSlot = (ColumnSlot)classOfSlot.getDeclaredConstructor(
+					int.class, Supplier.class, RowValues.PrimitiveType.class, ColumnSlot.class
+				)
+					.newInstance(
+						i, suppliers[i],
+						primitiveTypes != null ? primitiveTypes[i] : null,
+						nextSlot
+					);
+			}
+		} catch (ReflectiveOperationException | LinkageError | RuntimeException e) {
+			logger.warn("Unable to define slots of columns, falls back to the loop of suppliers", e);
+			return null;
+		}
+
+		return new SpecializedRowGenerator(columns, primitiveTypes, nextSlot);
+	}
+
+	private static byte[] loadBytesOfSlot()
+	{
+		try (var bytesStream = ChainedColumnSlot.class.getResourceAsStream(
+			ChainedColumnSlot.class.getSimpleName() + ".class"
+		)) {
+			if (bytesStream == null) {
+				logger.debug("Bytes of [{}] are not readable", ChainedColumnSlot.class.getName());
+				return null;
+			}
+
+			return bytesStream.readAllBytes();
+		} catch (IOException e) {
+			logger.debug("Bytes of [{}] are not readable", ChainedColumnSlot.class.getName(), e);
+			return null;
+		}
+	}
+
+	private final List<ColumnMeta> columns;
+	private final RowValues.PrimitiveType[] primitiveTypes;
+	private final ColumnSlot headSlot;
+
+	private SpecializedRowGenerator(
+		List<ColumnMeta> columns, RowValues.PrimitiveType[] primitiveTypes,
+		ColumnSlot headSlot
+	) {
+		this.columns = columns;
+		this.primitiveTypes = primitiveTypes;
+		this.headSlot = headSlot;
+	}
+
+	RowValues generate()
+	{
+		var values = new Object[columns.size()];
+		var primitives = primitiveTypes != null ? new long[values.length] : null;
+
+		headSlot.generate(values, primitives);
+
+		return new RowValues(columns, primitiveTypes, values, primitives);
+	}
+}
+
+/**
+ * The template of slot, whose bytes are defined as a hidden class for every column.
+ *
+ * <p>
+ * <strong>This class is kept top-level and without lambda or switch on enum,
+ * which needs no nest-mate or synthetic class while it is cloned.</strong>
+ */
+final class ChainedColumnSlot implements SpecializedRowGenerator.ColumnSlot {
+	private final int ordinal;
+	private final Supplier<?> supplier;
+	private final RowValues.PrimitiveType primitiveType;
+	private final SpecializedRowGenerator.ColumnSlot nextSlot;
+
+	/**
+	 * @param primitiveType Could be null if the value is not kept in primitive lane
+	 * @param nextSlot Could be null for the last column
+	 */
+	ChainedColumnSlot(
+		int ordinal, Supplier<?> supplier,
+		RowValues.PrimitiveType primitiveType,
+		SpecializedRowGenerator.ColumnSlot nextSlot
+	) {
+		this.ordinal = ordinal;
+		this.supplier = supplier;
+		this.primitiveType = primitiveType;
+		this.nextSlot = nextSlot;
+	}
+
+	@Override
+	public void generate(Object[] values, long[] primitives)
+	{
+		if (primitiveType == null) {
+			values[ordinal] = supplier.get();
+		} else if (primitiveType == RowValues.PrimitiveType.Int4) {
+			values[ordinal] = RowValues.IN_PRIMITIVE_LANE;
+			primitives[ordinal] = ((Int4Supplier)supplier).getAsInt();
+		} else if (primitiveType == RowValues.PrimitiveType.Int8) {
+			values[ordinal] = RowValues.IN_PRIMITIVE_LANE;
+			primitives[ordinal] = ((Int8Supplier)supplier).getAsLong();
+		} else {
+			values[ordinal] = RowValues.IN_PRIMITIVE_LANE;
+			primitives[ordinal] = Double.doubleToRawLongBits(((Float8Supplier)supplier).getAsDouble());
+		}
+
+		if (nextSlot != null) {
+			nextSlot.generate(values, primitives);
+		}
+	}
+}
@@ -0,0 +1,232 @@
+package guru.mikelue.foxglove.jdbc;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.commons.lang3.Validate;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import guru.mikelue.foxglove.ColumnMeta;
+
+/**
+ * Writes the rows of every table facet to a SQL script of multi-row {@code INSERT}s in a directory.
+ *
+ * <p>
+ * The files are named as {@code <sequence>-<table>.sql}(or {@code .sql.gz} for GZIP), the sequence
+ * is the order of table facets, which should be executed in the same order.
+ *
+ * <p>
+ * The values are written as SQL literals:
+ *
+ * <ul>
+ *   <li>{@code null} - {@code NULL}</li>
+ *   <li>{@link Boolean} - {@code TRUE} or {@code FALSE}</li>
+ *   <li>{@code byte[]} - {@code X'<hex digits>'}</li>
+ *   <li>Temporal values - {@code 'yyyy-MM-dd HH:mm:ss[.fraction][offset]'}</li>
+ * </ul>
+ *
+ * <pre><code class="java">
+ * try (var sink = new SqlScriptRowSink(Path.of("target/dataset")).setRowsPerStatement(500)) {
+ *     new JdbcDataGenerator(dataSource)
+ *         .setRowSink(sink)
+ *         .generate(facets);
+ * }
+ * </code></pre>
+ *
+ * @see JdbcDataGenerator#setRowSink(RowSink)
+ */
+public final class SqlScriptRowSink implements RowSink {
+	/**
+	 * The default number of rows in an {@code INSERT} statement.
+	 */
+	public final static int DEFAULT_ROWS_PER_STATEMENT = 1000;
+
+	private final Logger logger = LoggerFactory.getLogger(SqlScriptRowSink.class);
+
+	private final Path directory;
+	private boolean gzip = false;
+	private int rowsPerStatement = DEFAULT_ROWS_PER_STATEMENT;
+	private String identifierQuote = "\"";
+	private int bufferSize = ChannelTextWriter.DEFAULT_BUFFER_SIZE;
+
+	private int sequenceOfTables = 0;
+	private ChannelTextWriter currentWriter;
+	private List<ColumnMeta> currentColumns;
+	private SinkRowReader rowReader;
+	private String currentInsertClause;
+	private int rowsOfCurrentStatement = 0;
+	private final StringBuilder text = new StringBuilder(256);
+
+	/**
+	 * Writes the files to the given directory, which is created if absent.
+	 *
+	 * @param directory The directory of files
+	 */
+	public SqlScriptRowSink(Path directory)
+	{
+		Validate.notNull(directory, "Directory must not be null");
+
+		this.directory = directory;
+	}
+
+	/**
+	 * Sets whether or not the files are compressed as GZIP format.
+	 *
+	 * <p>
+	 * The default value is {@code false}.
+	 *
+	 * @param gzip Whether or not to compress the files
+	 *
+	 * @return This instance
+	 */
+	public SqlScriptRowSink setGzip(boolean gzip)
+	{
+		this.gzip = gzip;
+
+		return this;
+	}
+
+	/**
+	 * Sets the maximum number of rows in an {@code INSERT} statement.
+	 *
+	 * <p>
+	 * The default value is {@link #DEFAULT_ROWS_PER_STATEMENT}, which is the limit of MSSQL.
+	 *
+	 * @param rowsPerStatement The maximum number of rows in a statement
+	 *
+	 * @return This instance
+	 */
+	public SqlScriptRowSink setRowsPerStatement(int rowsPerStatement)
+	{
+		Validate.isTrue(rowsPerStatement > 0, "Rows per statement must be greater than zero");
+
+		this.rowsPerStatement = rowsPerStatement;
+
+		return this;
+	}
+
+	/**
+	 * Sets the quote of identifiers, which is only applied to the reserved keywords or names with special characters.
+	 *
+	 * <p>
+	 * The default value is {@code "}.
+	 *
+	 * @param identifierQuote The quote of identifiers(e.g., {@code `} for MySQL)
+	 *
+	 * @return This instance
+	 */
+	public SqlScriptRowSink setIdentifierQuote(String identifierQuote)
+	{
+		Validate.notEmpty(identifierQuote, "Quote of identifiers must not be empty");
+
+		this.identifierQuote = identifierQuote;
+
+		return this;
+	}
+
+	/**
+	 * Sets the capacity(in bytes) of direct buffer for writing a file.
+	 *
+	 * <p>
+	 * The default value is 4 MB.
+	 *
+	 * @param bufferSize The capacity of buffer
+	 *
+	 * @return This instance
+	 */
+	public SqlScriptRowSink setBufferSize(int bufferSize)
+	{
+		Validate.isTrue(bufferSize >= 1024, "Buffer size must be greater than or equal to 1024");
+
+		this.bufferSize = bufferSize;
+
+		return this;
+	}
+
+	@Override
+	public void beginTable(String tableName, List<ColumnMeta> columns) throws IOException
+	{
+		Validate.validState(currentWriter == null, "The rows of previous table are not ended");
+
+		Files.createDirectories(directory);
+
+		var file = directory.resolve(String.format(
+			"%03d-%s.sql%s", ++sequenceOfTables, tableName, gzip ? ".gz" : ""
+		));
+		logger.debug("Writing rows of [{}] to: {}", tableName, file);
+
+		currentWriter = new ChannelTextWriter(file, gzip, bufferSize);
+		currentColumns = columns;
+		rowReader = new SinkRowReader(columns);
+		currentInsertClause = String.format(
+			"INSERT INTO %s (%s)\nVALUES ",
+			MetaUtils.quoteIdentifier(tableName, identifierQuote),
+			String.join(
+				", ",
+				columns.stream()
+					.map(meta -> MetaUtils.quoteIdentifier(meta.name(), identifierQuote))
+					.toList()
+			)
+		);
+		rowsOfCurrentStatement = 0;
+	}
+
+	@Override
+	public void writeRow(Map<ColumnMeta, Object> row) throws IOException
+	{
+		text.setLength(0);
+
+		if (rowsOfCurrentStatement == 0) {
+			text.append(currentInsertClause);
+		} else {
+			text.append(",\n\t");
+		}
+
+		var ordinalRow = rowReader.ordinalRowOf(row);
+
+		text.append('(');
+		for (int i = 0; i < currentColumns.size(); i++) {
+			if (i > 0) {
+				text.append(", ");
+			}
+			SinkValues.appendSqlLiteral(text, rowReader.valueAt(row, ordinalRow, i));
+		}
+		text.append(')');
+
+		if (++rowsOfCurrentStatement == rowsPerStatement) {
+			text.append(";\n");
+			rowsOfCurrentStatement = 0;
+		}
+
+		currentWriter.write(text);
+	}
+
+	@Override
+	public void endTable() throws IOException
+	{
+		if (currentWriter == null) {
+			return;
+		}
+
+		try (var writer = currentWriter) {
+			if (rowsOfCurrentStatement > 0) {
+				writer.write(";\n");
+			}
+		} finally {
+			currentWriter = null;
+			currentColumns = null;
+			rowReader = null;
+			rowsOfCurrentStatement = 0;
+		}
+	}
+
+	@Override
+	public void close() throws IOException
+	{
+		endTable();
+	}
+}
@@ -0,0 +1,81 @@
+package guru.mikelue.foxglove.jdbc;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+import java.util.function.LongToDoubleFunction;
+
+/**
+ * The scheduler of token bucket, which blocks the caller until the permits are available.
+ *
+ * <p>
+ * The bucket is refilled by the rate at the elapsed time since creation, and bound by its capacity.
+ * The permits could be acquired before they are refilled(the bucket goes into debt),
+ * in which case the caller sleeps until the debt is paid off.
+ */
+class TokenBucket {
+	/**
+	 * Sleeps for the nanoseconds, which could be replaced for testing.
+	 */
+	@FunctionalInterface
+	interface Sleeper {
+		void sleep(long nanos) throws InterruptedException;
+	}
+
+	private final static double NANOS_PER_SECOND = 1_000_000_000d;
+
+	private final LongToDoubleFunction permitsPerSecondAt;
+	private final long capacity;
+	private final LongSupplier nanoClock;
+	private final Sleeper sleeper;
+
+	private final long startNanos;
+	private long lastNanos;
+	private double tokens;
+
+	/**
+	 * @param permitsPerSecondAt The rate by nanoseconds elapsed since creation
+	 * @param capacity The maximum number of tokens, which is initially full
+	 */
+	TokenBucket(LongToDoubleFunction permitsPerSecondAt, long capacity)
+	{
+		this(permitsPerSecondAt, capacity, System::nanoTime, TimeUnit.NANOSECONDS::sleep);
+	}
+
+	TokenBucket(
+		LongToDoubleFunction permitsPerSecondAt, long capacity,
+		LongSupplier nanoClock, Sleeper sleeper
+	) {
+		this.permitsPerSecondAt = permitsPerSecondAt;
+		this.capacity = capacity;
+		this.nanoClock = nanoClock;
+		this.sleeper = sleeper;
+
+		this.startNanos = nanoClock.getAsLong();
+		this.lastNanos = startNanos;
+		this.tokens = capacity;
+	}
+
+	/**
+	 * Blocks until the permits are available.
+	 *
+	 * @param permits The number of permits
+	 *
+	 * @throws InterruptedException The waiting is interrupted
+	 */
+	void acquire(long permits) throws InterruptedException
+	{
+		var now = nanoClock.getAsLong();
+		var permitsPerSecond = permitsPerSecondAt.applyAsDouble(now - startNanos);
+
+		tokens = Math.min(
+			capacity,
+			tokens + (now - lastNanos) * permitsPerSecond / NANOS_PER_SECOND
+		);
+		lastNanos = now;
+
+		tokens -= permits;
+		if (tokens < 0) {
+			sleeper.sleep((long)Math.ceil(-tokens * NANOS_PER_SECOND / permitsPerSecond));
+		}
+	}
+}
@@ -4,9 +4,101 @@ import java.sql.Connection;
 
 /**
  * Keeps the need information for transaction processing.
+ *
+ * <p>
+ * The gear is built by {@link #of(Connection, int, boolean)} with default settings,
+ * every other setting is given by the {@code with...} methods, which copy all of the components.
  */
 record TransactionGear(
 	Connection connection,
 	int batchSize,
-	boolean joinConnection
-) {}
+	boolean joinConnection,
+	BatchMode batchMode,
+	int pipelineCapacity,
+	CommitPolicy commitPolicy,
+	AdaptiveBatchSize adaptiveBatchSize,
+	boolean preAssigningKeys,
+	GeneratedKeyRetrieval generatedKeyRetrieval,
+	boolean bulkLoading
+) {
+	static TransactionGear of(Connection connection, int batchSize, boolean joinConnection)
+	{
+		return new TransactionGear(
+			connection, batchSize, joinConnection,
+			BatchMode.Default, 0, CommitPolicy.defaults(),
+			null, false, GeneratedKeyRetrieval.Default, false
+		);
+	}
+
+	TransactionGear withConnection(Connection connection)
+	{
+		return new TransactionGear(
+			connection, batchSize, joinConnection, batchMode, pipelineCapacity, commitPolicy,
+			adaptiveBatchSize, preAssigningKeys, generatedKeyRetrieval, bulkLoading
+		);
+	}
+
+	TransactionGear withBatchMode(BatchMode batchMode)
+	{
+		return new TransactionGear(
+			connection, batchSize, joinConnection, batchMode, pipelineCapacity, commitPolicy,
+			adaptiveBatchSize, preAssigningKeys, generatedKeyRetrieval, bulkLoading
+		);
+	}
+
+	TransactionGear withPipelineCapacity(int pipelineCapacity)
+	{
+		return new TransactionGear(
+			connection, batchSize, joinConnection, batchMode, pipelineCapacity, commitPolicy,
+			adaptiveBatchSize, preAssigningKeys, generatedKeyRetrieval, bulkLoading
+		);
+	}
+
+	TransactionGear withCommitPolicy(CommitPolicy commitPolicy)
+	{
+		return new TransactionGear(
+			connection, batchSize, joinConnection, batchMode, pipelineCapacity, commitPolicy,
+			adaptiveBatchSize, preAssigningKeys, generatedKeyRetrieval, bulkLoading
+		);
+	}
+
+	/**
+	 * @param adaptiveBatchSize Could be null, which keeps the batch size fixed
+	 */
+	TransactionGear withAdaptiveBatchSize(AdaptiveBatchSize adaptiveBatchSize)
+	{
+		return new TransactionGear(
+			connection, batchSize, joinConnection, batchMode, pipelineCapacity, commitPolicy,
+			adaptiveBatchSize, preAssigningKeys, generatedKeyRetrieval, bulkLoading
+		);
+	}
+
+	TransactionGear withPreAssigningKeys(boolean preAssigningKeys)
+	{
+		return new TransactionGear(
+			connection, batchSize, joinConnection, batchMode, pipelineCapacity, commitPolicy,
+			adaptiveBatchSize, preAssigningKeys, generatedKeyRetrieval, bulkLoading
+		);
+	}
+
+	TransactionGear withGeneratedKeyRetrieval(GeneratedKeyRetrieval generatedKeyRetrieval)
+	{
+		return new TransactionGear(
+			connection, batchSize, joinConnection, batchMode, pipelineCapacity, commitPolicy,
+			adaptiveBatchSize, preAssigningKeys, generatedKeyRetrieval, bulkLoading
+		);
+	}
+
+	TransactionGear withBulkLoading(boolean bulkLoading)
+	{
+		return new TransactionGear(
+			connection, batchSize, joinConnection, batchMode, pipelineCapacity, commitPolicy,
+			adaptiveBatchSize, preAssigningKeys, generatedKeyRetrieval, bulkLoading
+		);
+	}
+
+	boolean isPipelining()
+	{
+		return pipelineCapacity > 0;
+	}
+}
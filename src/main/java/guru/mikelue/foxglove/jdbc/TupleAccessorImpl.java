@@ -1,6 +1,7 @@
 package guru.mikelue.foxglove.jdbc;
 
 import java.util.*;
+import java.util.stream.IntStream;
 
 import org.apache.commons.lang3.Validate;
 import org.apache.commons.lang3.builder.ToStringBuilder;
@@ -14,104 +15,129 @@ import static org.apache.commons.lang3.builder.ToStringStyle.NO_CLASS_NAME_STYLE
 
 class TupleAccessorImpl implements TupleAccessor {
 	/**
-	 * Cached mapping between column name and its metadata.
+	 * Cached mapping between column name and its ordinal, which is shared by the tuples of a table.
 	 */
 	static class TupleSchema {
-		private final Map<String, ColumnMeta> nameMappingOfColumns;
+		private final List<ColumnMeta> columns;
+		private final Map<String, Integer> ordinalOfNames;
 
 		TupleSchema(Collection<ColumnMeta> columns)
 		{
-			var newMap = new HashMap<String, ColumnMeta>(columns.size());
+			this.columns = List.copyOf(columns);
 
-			for (var columnMeta: columns) {
-				newMap.put(columnMeta.name().toLowerCase(), columnMeta);
+			var newMap = new HashMap<String, Integer>(columns.size() * 2);
+			for (int i = 0; i < this.columns.size(); i++) {
+				newMap.put(this.columns.get(i).name().toLowerCase(), i);
 			}
 
-			nameMappingOfColumns = unmodifiableMap(newMap);
+			ordinalOfNames = unmodifiableMap(newMap);
 		}
 
+		List<ColumnMeta> columns()
+		{
+			return columns;
+		}
+
+		/**
+		 * Builds the tuple by values of columns, which must be the columns of this schema.
+		 */
 		TupleAccessorImpl createTupleAccessor(
 			Map<ColumnMeta, Object> tuple,
-			int tupleIndex
+			long tupleIndex
+		) {
+			var values = new Object[columns.size()];
+
+			for (var entry: tuple.entrySet()) {
+				var ordinal = ordinalOfNames.get(entry.getKey().name().toLowerCase());
+				Validate.isTrue(ordinal != null, "Column [%s] is not in the schema", entry.getKey().name());
+
+				values[ordinal] = entry.getValue();
+			}
+
+			return createTupleAccessor(values, tupleIndex);
+		}
+
+		/**
+		 * Builds the tuple by values in ordinal of columns, the array is not copied.
+		 */
+		TupleAccessorImpl createTupleAccessor(
+			Object[] values,
+			long tupleIndex
 		) {
-			return new TupleAccessorImpl(this, tuple, tupleIndex);
+			return new TupleAccessorImpl(this, new RowValues(columns, values), tupleIndex);
+		}
+
+		/**
+		 * Builds the tuple by the generated row, which must be of the columns of this schema.
+		 */
+		TupleAccessorImpl createTupleAccessor(
+			RowValues row,
+			long tupleIndex
+		) {
+			return new TupleAccessorImpl(this, row, tupleIndex);
+		}
+
+		private int ordinalOf(String name)
+		{
+			var safeName = trimToEmpty(name).toLowerCase();
+			Validate.notEmpty(safeName, "Column name cannot be null or empty");
+
+			var ordinal = ordinalOfNames.get(safeName);
+			return ordinal != null ? ordinal : -1;
 		}
 	}
 
-	private final Map<String, Object> nameMappingOfValues;
-	private final Map<String, ColumnMeta> nameMappingOfColumns;
-	private final int tupleIndex;
+	private final TupleSchema tupleSchema;
+	private final RowValues row;
+	private final long tupleIndex;
 
 	private TupleAccessorImpl(
-		TupleSchema tupleSchema, Map<ColumnMeta, Object> tuple,
-		int tupleIndex
+		TupleSchema tupleSchema, RowValues row,
+		long tupleIndex
 	) {
+		this.tupleSchema = tupleSchema;
+		this.row = row;
 		this.tupleIndex = tupleIndex;
-
-		nameMappingOfValues = new LinkedHashMap<String, Object>(tuple.size());
-		nameMappingOfColumns = tupleSchema.nameMappingOfColumns;
-
-		for (var entry: tuple.entrySet()) {
-			nameMappingOfValues.put(
-				entry.getKey().name().toLowerCase(),
-				entry.getValue()
-			);
-		}
 	}
 
 	@SuppressWarnings("unchecked")
 	@Override
 	public <T> T getValue(String name)
 	{
-		var safeName = trimToEmpty(name).toLowerCase();
-
-		Validate.notEmpty(safeName, "Column name cannot be null or empty");
-		Validate.isTrue(
-			nameMappingOfValues.containsKey(safeName),
-			"Column name [%s] is not existing", safeName
-		);
-
-		return (T)nameMappingOfValues.get(safeName);
+		return (T)row.valueAt(existingOrdinalOf(name));
 	}
 
 	@Override
 	public <T> void setValue(String name, T value)
 	{
-		var safeName = trimToEmpty(name).toLowerCase();
-
-		Validate.notEmpty(safeName, "Column name cannot be null or empty");
-		Validate.isTrue(
-			nameMappingOfValues.containsKey(safeName),
-			"Column name [%s] is not existing", safeName
-		);
-
-		nameMappingOfValues.put(safeName, value);
+		row.setValueAt(existingOrdinalOf(name), value);
 	}
 
 	@Override
 	public List<ColumnMeta> getMetaOfColumns()
 	{
-		return Collections.unmodifiableList(
-			new ArrayList<>(nameMappingOfColumns.values())
-		);
+		return tupleSchema.columns;
 	}
 
+	/**
+	 * The values are copied, which are not affected by following {@link #setValue(String, Object)}.
+	 */
 	@Override
 	public Map<ColumnMeta, Object> asMap()
 	{
-		var newMap = new LinkedHashMap<ColumnMeta, Object>(nameMappingOfValues.size());
-		for (var columnMeta: nameMappingOfValues.keySet()) {
-			newMap.put(
-				nameMappingOfColumns.get(columnMeta),
-				nameMappingOfValues.get(columnMeta)
-			);
-		}
+		return row.copy();
+	}
 
-		return unmodifiableMap(newMap);
+	/**
+	 * Views the values of this tuple as row of insertion, the values are not copied.
+	 */
+	RowValues asRowValues()
+	{
+		return row;
 	}
 
 	@Override
-	public int index()
+	public long index()
 	{
 		return tupleIndex;
 	}
@@ -119,23 +145,29 @@ class TupleAccessorImpl implements TupleAccessor {
 	@Override
 	public boolean hasColumn(String name)
 	{
-		var safeName = trimToEmpty(name).toLowerCase();
+		return tupleSchema.ordinalOf(name) >= 0;
+	}
 
-		Validate.notEmpty(safeName, "Column name cannot be null or empty");
-		return nameMappingOfColumns.containsKey(safeName);
+	private int existingOrdinalOf(String name)
+	{
+		var ordinal = tupleSchema.ordinalOf(name);
+		Validate.isTrue(
+			ordinal >= 0,
+			"Column name [%s] is not existing", trimToEmpty(name).toLowerCase()
+		);
+
+		return ordinal;
 	}
 
 	@Override
 	public String toString()
 	{
+		var columns = tupleSchema.columns;
+
 		return new ToStringBuilder(this, NO_CLASS_NAME_STYLE)
 			.append("columns",
-				nameMappingOfValues.keySet().stream()
-					.map(columnName -> {
-						var value = nameMappingOfValues.get(columnName);
-						var meta = nameMappingOfColumns.get(columnName);
-						return "\"" + meta.name() + "\": " + (value != null ? value.toString() : "null");
-					})
+				IntStream.range(0, row.size())
+					.mapToObj(i -> "\"" + columns.get(i).name() + "\": " + Objects.toString(row.valueAt(i)))
 					.toList()
 			)
 			.append("index", tupleIndex)
@@ -0,0 +1,149 @@
+package guru.mikelue.foxglove.jdbc;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+import guru.mikelue.foxglove.ColumnMeta;
+import guru.mikelue.foxglove.TupleAccessor;
+import guru.mikelue.foxglove.setting.DataSettingInfo;
+
+/**
+ * Generates the tuples of a table facet one by one.
+ *
+ * <p>
+ * Every generated tuple is given to {@link JdbcTableFacet.Builder#onTupleGenerated(Consumer) handler of tuple},
+ * and the kept values are preserved into {@link ValueTomb} of the facet.
+ *
+ * <p>
+ * If the facet has no handler of tuple, {@link #nextRow()} doesn't build the {@link TupleAccessor},
+ * and only the values of kept columns(by ordinal) are preserved.
+ */
+class TupleIterator implements Iterator<TupleAccessor> {
+	private final RowParamsGenerator rowGenerator;
+	private final TupleAccessorImpl.TupleSchema tupleSchema;
+	private final Consumer<TupleAccessor> tupleHandler;
+	private final ValueTomb valueTomb;
+	private final String[] keptColumnNames;
+	private final long numberOfRows;
+
+	private long rowIndex = 0;
+
+	/**
+	 * @param targetColumns The columns generated by Foxglove
+	 * @param presetSuppliers The suppliers take precedence over the ones of table and setting
+	 */
+	TupleIterator(
+		JdbcTableFacet table, List<ColumnMeta> targetColumns,
+		DataSettingInfo setting,
+		Map<ColumnMeta, Supplier<Object>> presetSuppliers
+	) {
+		this.rowGenerator = new RowParamsGenerator(table, targetColumns, setting, presetSuppliers);
+		this.tupleSchema = new TupleAccessorImpl.TupleSchema(targetColumns);
+		this.tupleHandler = table.getHandlerOfTuple();
+		this.valueTomb = table.getValueTomb();
+		this.keptColumnNames = valueTomb.keptColumnNamesOf(targetColumns);
+		this.numberOfRows = table.getNumberOfRows();
+	}
+
+	/**
+	 * Generates the rows by the slots specialized for the columns, see {@link SpecializedRowGenerator}.
+	 *
+	 * @param specializing Whether or not to specialize the generating of rows
+	 *
+	 * @return This instance
+	 */
+	TupleIterator withSpecializedRows(boolean specializing)
+	{
+		if (specializing) {
+			rowGenerator.specialize();
+		}
+
+		return this;
+	}
+
+	long getNumberOfRows()
+	{
+		return numberOfRows;
+	}
+
+	/**
+	 * Generates and discards the tuples, the handler of tuple and {@link ValueTomb} are still applied.
+	 *
+	 * @param numberOfSkipped The number of skipped tuples
+	 */
+	void skip(long numberOfSkipped)
+	{
+		for (long i = 0; i < numberOfSkipped; i++) {
+			nextRow();
+		}
+	}
+
+	@Override
+	public boolean hasNext()
+	{
+		return rowIndex < numberOfRows;
+	}
+
+	@Override
+	public TupleAccessor next()
+	{
+		return nextTuple();
+	}
+
+	/**
+	 * Generates the next row for insertion, which is viewed from the values of tuple without copying.
+	 *
+	 * @return The values of row, which are changed by the handler of tuple
+	 */
+	RowValues nextRow()
+	{
+		if (tupleHandler != null) {
+			return nextTuple().asRowValues();
+		}
+
+		checkHasNext();
+
+		var row = rowGenerator.generateRowValues();
+
+		rowIndex++;
+		preserveKeptValues(row);
+
+		return row;
+	}
+
+	private TupleAccessorImpl nextTuple()
+	{
+		checkHasNext();
+
+		var newTuple = tupleSchema.createTupleAccessor(
+			rowGenerator.generateRowValues(), rowIndex
+		);
+
+		if (tupleHandler != null) {
+			tupleHandler.accept(newTuple);
+		}
+
+		rowIndex++;
+		preserveKeptValues(newTuple.asRowValues());
+
+		return newTuple;
+	}
+
+	private void checkHasNext()
+	{
+		if (!hasNext()) {
+			throw new NoSuchElementException("All of the [" + numberOfRows + "] rows are generated");
+		}
+	}
+
+	private void preserveKeptValues(RowValues row)
+	{
+		if (keptColumnNames != null) {
+			valueTomb.preserveProtoData(keptColumnNames, row);
+		}
+	}
+}
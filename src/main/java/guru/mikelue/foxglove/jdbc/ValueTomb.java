@@ -8,12 +8,17 @@ import org.apache.commons.lang3.builder.ToStringStyle;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import guru.mikelue.foxglove.ColumnMeta;
 import guru.mikelue.foxglove.TupleAccessor;
 
 import static java.util.Collections.unmodifiableList;
 
 /**
  * Keeps the generated values defined by {@link JdbcTableFacet}.
+ *
+ * <p>
+ * Since the proto-data could be preserved by producer thread of {@link RowPipeline},
+ * the accessing on kept values is synchronized.
  */
 class ValueTomb {
 	private final Logger logger = LoggerFactory.getLogger(ValueTomb.class);
@@ -26,7 +31,7 @@ class ValueTomb {
 		this.tableName = tableName;
 	}
 
-	void keepColumn(String columnName)
+	synchronized void keepColumn(String columnName)
 	{
 		logger.debug("Keep column: \"{}\"", columnName);
 
@@ -34,28 +39,90 @@ class ValueTomb {
 	}
 
 	/**
-	 * Preserves the proto-data from the given tuple.
+	 * Checks whether or not the column is kept(case-insensitive).
+	 */
+	synchronized boolean isKeeping(String columnName)
+	{
+		for (var keptColumnName: keptColumnValues.keySet()) {
+			if (keptColumnName.equalsIgnoreCase(columnName)) {
+				return true;
+			}
+		}
+
+		return false;
+	}
+
+	/**
+	 * Checks whether or not there is any kept column which is not in the given names,
+	 * which means the values of kept columns are generated by database.
 	 *
-	 * @param tuple The tuple to be preserved
+	 * @param columnNames The names of columns generated by Foxglove
 	 *
-	 * @return The column names being preserved
+	 * @return true if there is any kept column not in the given names
 	 */
-	Set<String> preserveProtoData(TupleAccessor tuple)
+	boolean isKeepingColumnsOtherThan(Collection<String> columnNames)
 	{
-		var preservedColumnNames = new HashSet<String>();
+		var lowerCaseNames = new HashSet<String>(columnNames.size());
+		for (var columnName: columnNames) {
+			lowerCaseNames.add(columnName.toLowerCase());
+		}
 
-		for (var columnName : keptColumnValues.keySet()) {
-			if (!tuple.hasColumn(columnName)) {
-				continue;
+		for (var keptColumnName: keptColumnValues.keySet()) {
+			if (!lowerCaseNames.contains(keptColumnName.toLowerCase())) {
+				return true;
 			}
+		}
 
-			preservedColumnNames.add(columnName);
-			havePreserved.add(columnName);
+		return false;
+	}
+
+	/**
+	 * Matches the kept columns(case-insensitive) to the ordinals of given columns,
+	 * which is resolved once for the rows preserved by {@link #preserveProtoData(String[], RowValues)}.
+	 *
+	 * @param columns The columns generated by Foxglove
+	 *
+	 * @return The names of kept columns by ordinal(null for a column not kept),
+	 * or null if none of the columns is kept
+	 */
+	synchronized String[] keptColumnNamesOf(List<ColumnMeta> columns)
+	{
+		String[] keptNames = null;
+
+		for (var keptColumnName : keptColumnValues.keySet()) {
+			for (int i = 0; i < columns.size(); i++) {
+				if (!columns.get(i).name().equalsIgnoreCase(keptColumnName)) {
+					continue;
+				}
 
-			keptColumnValues.get(columnName).add(tuple.getValue(columnName));
+				if (keptNames == null) {
+					keptNames = new String[columns.size()];
+				}
+				keptNames[i] = keptColumnName;
+				break;
+			}
 		}
 
-		return preservedColumnNames;
+		return keptNames;
+	}
+
+	/**
+	 * Preserves the proto-data from the given row, without the lookups of columns by names.
+	 *
+	 * @param keptNames The names of kept columns by ordinal, which is given by {@link #keptColumnNamesOf(List)}
+	 * @param row The row to be preserved
+	 */
+	synchronized void preserveProtoData(String[] keptNames, RowValues row)
+	{
+		for (int i = 0; i < keptNames.length; i++) {
+			var columnName = keptNames[i];
+			if (columnName == null) {
+				continue;
+			}
+
+			havePreserved.add(columnName);
+			keptColumnValues.get(columnName).add(row.valueAt(i));
+		}
 	}
 
 	/**
@@ -65,7 +132,7 @@ class ValueTomb {
 	 *
 	 * @return The column names being preserved
 	 */
-	Set<String> preserveAfterData(List<TupleAccessor> tuples)
+	synchronized Set<String> preserveAfterData(List<TupleAccessor> tuples)
 	{
 		var preservedColumnNames = new HashSet<String>();
 
@@ -85,7 +152,7 @@ class ValueTomb {
 	}
 
 	@SuppressWarnings("unchecked")
-	<T> List<T> getValues(String columnName)
+	synchronized <T> List<T> getValues(String columnName)
 	{
 		Validate.isTrue(
 			keptColumnValues.containsKey(columnName),
@@ -0,0 +1,147 @@
+package guru.mikelue.foxglove.jdbc;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Pattern;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The settings of session/database optimized for loading, by the vendor of database.
+ *
+ * @see SessionTuning#ofVendor()
+ */
+class VendorSessionTuning {
+	private final static Logger logger = LoggerFactory.getLogger(VendorSessionTuning.class);
+
+	private final static Pattern DRIVER_OF_H2 = Pattern.compile("(?i).*h2.*");
+	private final static Pattern DRIVER_OF_SQLITE = Pattern.compile("(?i).*sqlite.*");
+	private final static Pattern DRIVER_OF_HSQLDB = Pattern.compile("(?i).*hsql.*");
+
+	private VendorSessionTuning() {}
+
+	static SessionTuning.Restoration apply(Connection conn, List<String> tableNames)
+		throws SQLException
+	{
+		var driverName = conn.getMetaData().getDriverName();
+
+		List<String> appliedSqls;
+		List<String> restoringSqls;
+
+		if (DRIVER_OF_H2.matcher(driverName).matches()) {
+			appliedSqls = List.of("SET REFERENTIAL_INTEGRITY FALSE");
+			restoringSqls = List.of("SET REFERENTIAL_INTEGRITY " + probeReferentialIntegrityOfH2(conn));
+		} else if (DRIVER_OF_SQLITE.matcher(driverName).matches()) {
+			appliedSqls = List.of("PRAGMA synchronous = OFF", "PRAGMA journal_mode = MEMORY");
+			restoringSqls = List.of(
+				"PRAGMA synchronous = " + queryPragma(conn, "synchronous"),
+				"PRAGMA journal_mode = " + queryPragma(conn, "journal_mode")
+			);
+		} else if (DRIVER_OF_HSQLDB.matcher(driverName).matches()) {
+			appliedSqls = List.of("SET FILES LOG FALSE");
+			restoringSqls = List.of("SET FILES LOG " + querySetting(
+				conn, "SELECT PROPERTY_VALUE FROM INFORMATION_SCHEMA.SYSTEM_PROPERTIES WHERE PROPERTY_NAME = ?",
+				"hsqldb.log_data", "TRUE"
+			).toUpperCase());
+		} else {
+			logger.debug("No tuning of session for driver: {}", driverName);
+			return restoredConn -> {};
+		}
+
+		/*
+		 * Only the applied settings are restored
+		 */
+		var appliedRestoringSqls = new ArrayList<String>(restoringSqls.size());
+		for (int i = 0; i < appliedSqls.size(); i++) {
+			if (executeQuietly(conn, appliedSqls.get(i))) {
+				appliedRestoringSqls.add(restoringSqls.get(i));
+			}
+		}
+		// :~)
+
+		return restoredConn -> {
+			for (var sql: appliedRestoringSqls) {
+				executeQuietly(restoredConn, sql);
+			}
+		};
+	}
+
+	private static String queryPragma(Connection conn, String name)
+		throws SQLException
+	{
+		try (var stmt = conn.createStatement();
+			var rs = stmt.executeQuery("PRAGMA " + name)
+		) {
+			rs.next();
+			return rs.getString(1);
+		}
+	}
+
+	/**
+	 * The referential integrity of H2 is not listed in {@code INFORMATION_SCHEMA.SETTINGS},
+	 * which is probed by an orphan row inserted into temporary tables of the session.
+	 *
+	 * @return {@code "TRUE"} if the probing is failed
+	 */
+	private static String probeReferentialIntegrityOfH2(Connection conn)
+	{
+		try (var stmt = conn.createStatement()) {
+			try {
+				stmt.execute("CREATE LOCAL TEMPORARY TABLE fg_probe_parent(pp_id INT PRIMARY KEY)");
+				stmt.execute("CREATE LOCAL TEMPORARY TABLE fg_probe_child(pc_pp_id INT REFERENCES fg_probe_parent(pp_id))");
+
+				try {
+					stmt.execute("INSERT INTO fg_probe_child VALUES(1)");
+					return "FALSE";
+				} catch (SQLException e) {
+					return "TRUE";
+				}
+			} finally {
+				stmt.execute("DROP TABLE IF EXISTS fg_probe_child");
+				stmt.execute("DROP TABLE IF EXISTS fg_probe_parent");
+			}
+		} catch (SQLException e) {
+			logger.warn("Failed to probe referential integrity, restores it to \"TRUE\": {}", e.getMessage());
+			return "TRUE";
+		}
+	}
+
+	/**
+	 * Queries the current value of a setting, which is restored after the generation.
+	 *
+	 * @return The default value if the setting is not listed or couldn't be queried
+	 */
+	private static String querySetting(Connection conn, String sql, String name, String defaultValue)
+	{
+		try (var stmt = conn.prepareStatement(sql)) {
+			stmt.setString(1, name);
+
+			try (var rs = stmt.executeQuery()) {
+				return rs.next() ? rs.getString(1) : defaultValue;
+			}
+		} catch (SQLException e) {
+			logger.warn("Failed to query setting [{}], restores it to \"{}\": {}", name, defaultValue, e.getMessage());
+			return defaultValue;
+		}
+	}
+
+	/**
+	 * The failure of a setting doesn't fail the generation.
+	 *
+	 * @return Whether or not the setting is applied
+	 */
+	private static boolean executeQuietly(Connection conn, String sql)
+	{
+		try (var stmt = conn.createStatement()) {
+			logger.debug("Tuning session: {}", sql);
+			stmt.execute(sql);
+			return true;
+		} catch (SQLException e) {
+			logger.warn("Failed to tune session by \"{}\": {}", sql, e.getMessage());
+			return false;
+		}
+	}
+}
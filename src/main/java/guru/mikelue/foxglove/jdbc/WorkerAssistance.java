@@ -0,0 +1,177 @@
+package guru.mikelue.foxglove.jdbc;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+import guru.mikelue.foxglove.ColumnMeta;
+import guru.mikelue.foxglove.TupleAccessor;
+import guru.mikelue.foxglove.setting.DataSettingInfo;
+
+class WorkerAssistance {
+	private final PreparedStatement stmt;
+	private final Consumer<List<TupleAccessor>> generatedValuesConsumer;
+	private final GeneratedValueLoader generatedValueLoader;
+	private final Map<SetParameterIndex, CustomStatementSetter<?>> paramSetterCache = new HashMap<>(32);
+	private final CustomStatementSetterProvider paramSetterProvider;
+	private final boolean fetchingGeneratedValues;
+	private boolean supportingLargeBatch = true;
+
+	private List<ColumnMeta> compiledColumns = null;
+	private ColumnBinder[] compiledBinders = null;
+
+	WorkerAssistance(
+		PreparedStatement stmt,
+		GeneratedValueLoader generatedValueLoader,
+		Consumer<List<TupleAccessor>> generatedValuesConsumer,
+		DataSettingInfo dataSettingInfo
+	) {
+		this(
+			stmt, generatedValueLoader, generatedValuesConsumer,
+			dataSettingInfo, true
+		);
+	}
+
+	WorkerAssistance(
+		PreparedStatement stmt,
+		GeneratedValueLoader generatedValueLoader,
+		Consumer<List<TupleAccessor>> generatedValuesConsumer,
+		DataSettingInfo dataSettingInfo,
+		boolean fetchingGeneratedValues
+	) {
+		this.stmt = stmt;
+		this.generatedValuesConsumer = generatedValuesConsumer;
+		this.generatedValueLoader = generatedValueLoader;
+		this.paramSetterProvider = dataSettingInfo::getStatementSetter;
+		this.fetchingGeneratedValues = fetchingGeneratedValues;
+	}
+
+	final protected void setParams(Map<ColumnMeta, Object> paramSet) throws SQLException
+	{
+		setParams(stmt, 1, paramSet, paramSetterCache);
+	}
+
+	/**
+	 * Sets the parameters of a row to another statement, starts with the given index of parameter.
+	 */
+	final protected void setParams(
+		PreparedStatement targetStmt, int startIndex,
+		Map<ColumnMeta, Object> paramSet
+	) throws SQLException {
+		setParams(targetStmt, startIndex, paramSet, paramSetterCache);
+	}
+
+	/**
+	 * Fetches the generated values of executed statement, if they are needed.
+	 */
+	final protected void consumeGeneratedValues(PreparedStatement executedStmt) throws SQLException
+	{
+		if (!fetchingGeneratedValues) {
+			return;
+		}
+
+		try (var rs = executedStmt.getGeneratedKeys()) {
+			consumeValues(rs);
+		}
+	}
+
+	/**
+	 * Executes the batch by {@link PreparedStatement#executeLargeBatch()}, whose counts of rows are not overflowed.
+	 *
+	 * The drivers not implementing it(e.g., SQLite) are fallen back to {@link PreparedStatement#executeBatch()}.
+	 */
+	final protected void executeBatch(PreparedStatement batchStmt) throws SQLException
+	{
+		if (supportingLargeBatch) {
+			try {
+				batchStmt.executeLargeBatch();
+				return;
+			} catch (UnsupportedOperationException | SQLFeatureNotSupportedException e) {
+				supportingLargeBatch = false;
+			}
+		}
+
+		batchStmt.executeBatch();
+	}
+
+	final protected void consumeValues(ResultSet rs) throws SQLException
+	{
+		consumeTuples(loadValues(rs));
+	}
+
+	final protected List<TupleAccessor> loadValues(ResultSet rs) throws SQLException
+	{
+		return generatedValueLoader.toTuples(rs);
+	}
+
+	final protected void consumeTuples(List<TupleAccessor> tuples)
+	{
+		generatedValuesConsumer.accept(tuples);
+	}
+
+	/**
+	 * The row of {@link RowValues} is bound by the {@link ColumnBinder}s compiled for its columns.
+	 */
+	private void setParams(
+		PreparedStatement stmt, int startIndex,
+		Map<ColumnMeta, Object> paramSet,
+		Map<SetParameterIndex, CustomStatementSetter<?>> setterCache
+	) throws SQLException {
+		var paramIndex = startIndex;
+
+		if (paramSet instanceof RowValues rowValues) {
+			var binders = bindersOf(rowValues);
+
+			for (int i = 0; i < binders.length; i++) {
+				binders[i].bind(stmt, paramIndex++, rowValues, i);
+			}
+			return;
+		}
+
+		for (var entry: paramSet.entrySet()) {
+			setParam(stmt, paramIndex++, entry.getKey(), entry.getValue(), setterCache);
+		}
+	}
+
+	/**
+	 * The columns are shared by the rows of a table facet, so the binders are compiled once.
+	 */
+	private ColumnBinder[] bindersOf(RowValues rowValues)
+	{
+		if (rowValues.columns() != compiledColumns) {
+			compiledColumns = rowValues.columns();
+			compiledBinders = ColumnBinder.compile(compiledColumns, paramSetterProvider);
+		}
+
+		return compiledBinders;
+	}
+
+	@SuppressWarnings("unchecked")
+	private void setParam(
+		PreparedStatement stmt, int paramIndex,
+		ColumnMeta columnMeta, Object value,
+		Map<SetParameterIndex, CustomStatementSetter<?>> setterCache
+	) throws SQLException {
+		if (value == null) {
+			stmt.setNull(paramIndex, columnMeta.jdbcType().getVendorTypeNumber());
+			return;
+		}
+
+		var setParamFunc = (CustomStatementSetter<Object>)setterCache.computeIfAbsent(
+			new SetParameterIndex(columnMeta, value.getClass()),
+			index -> paramSetterProvider.apply(columnMeta)
+				.orElseGet(
+					() -> {
+						return ParameterSetterFactory.smartSetterImpl(index);
+					}
+				)
+		);
+
+		setParamFunc.setParameter(stmt, paramIndex, columnMeta, value);
+	}
+}
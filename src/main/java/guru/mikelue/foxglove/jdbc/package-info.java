@@ -4,6 +4,9 @@
  * <ul>
  *   <li>{@link JdbcTableFacet} is the main class to configure a table facet.</li>
  *   <li>{@link JdbcDataGenerator} the working for insertion from {@link JdbcTableFacet}s.</li>
+ *   <li>{@link InMemoryDataGenerator} keeps generated rows in memory({@link InMemoryTable}) for tests without database.</li>
+ *   <li>{@link CheckpointJournal} records committed rows, which makes a failed generation resumable.</li>
+ *   <li>{@link RowSink} writes generated rows to files({@link CsvRowSink}, {@link SqlScriptRowSink}) instead of database.</li>
  * </ul>
  *
  * <h2>Examples</h2>
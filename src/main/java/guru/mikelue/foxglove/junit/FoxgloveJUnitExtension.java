@@ -77,7 +77,7 @@ public class FoxgloveJUnitExtension implements BeforeAllCallback, BeforeEachCall
 			.performGenerating();
 	}
 
-	private Integer doOnClassLevel(Object testingInstance, Supplier<DataGenContext<TableFacet>> dataGenContextSupplier)
+	private Long doOnClassLevel(Object testingInstance, Supplier<DataGenContext<TableFacet>> dataGenContextSupplier)
 	{
 		var processor = new GenDataProcessor(
 			testingInstance, testingInstance.getClass(), dataGenContextSupplier,
@@ -85,7 +85,7 @@ public class FoxgloveJUnitExtension implements BeforeAllCallback, BeforeEachCall
 		);
 
 		if (!processor.hasDataGenerating()) {
-			return -1;
+			return -1L;
 		}
 
 		logger.debug("Performing data generation on class level: \"{}\"",
@@ -9,12 +9,18 @@ import java.util.UUID;
 
 import org.instancio.Instancio;
 import org.instancio.generator.specs.BooleanSpec;
+import org.instancio.generator.specs.DoubleSpec;
 import org.instancio.generator.specs.FloatSpec;
+import org.instancio.generator.specs.IntegerSpec;
+import org.instancio.generator.specs.LongSpec;
 import org.instancio.generator.specs.StringSpec;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import guru.mikelue.foxglove.ColumnMeta;
+import guru.mikelue.foxglove.functional.Float8Supplier;
+import guru.mikelue.foxglove.functional.Int4Supplier;
+import guru.mikelue.foxglove.functional.Int8Supplier;
 import guru.mikelue.foxglove.functional.SupplierDecider;
 import guru.mikelue.foxglove.instancio.ByteArraySpec;
 
@@ -59,6 +65,19 @@ class DefaultSetting {
 
 	private final static FloatSpec DEFAULT_FLOAT_SPEC =
 		Instancio.gen().floats().min(0.0f).max(Float.MAX_VALUE);
+	/*
+	 * The numeric values are bound by setInt/setLong/setDouble(see Int4Supplier, etc.)
+	 */
+	private final static IntegerSpec DEFAULT_INT4_SPEC =
+		Instancio.gen().ints().min(0).max(Integer.MAX_VALUE);
+	private final static Int4Supplier DEFAULT_INT4_SUPPLIER = () -> DEFAULT_INT4_SPEC.get();
+	private final static LongSpec DEFAULT_INT8_SPEC =
+		Instancio.gen().longs().min(0L).max(Long.MAX_VALUE);
+	private final static Int8Supplier DEFAULT_INT8_SUPPLIER = () -> DEFAULT_INT8_SPEC.get();
+	private final static DoubleSpec DEFAULT_FLOAT8_SPEC =
+		Instancio.gen().doubles().min(0.0).max(Double.MAX_VALUE);
+	private final static Float8Supplier DEFAULT_FLOAT8_SUPPLIER = () -> DEFAULT_FLOAT8_SPEC.get();
+	// :~)
 	private final static BooleanSpec DEFAULT_BOOLEAN_SPEC =
 		Instancio.gen().booleans();
 	private final static StringSpec LARGE_TEXT_SPEC =
@@ -124,8 +143,8 @@ class DefaultSetting {
 		.<Boolean>givenType(BOOLEAN).useSupplier(DEFAULT_BOOLEAN_SPEC)
 		.<Byte>givenType(TINYINT).useSupplier(Instancio.gen().bytes().min((byte) 0).max(Byte.MAX_VALUE))
 		.<Short>givenType(SMALLINT).useSupplier(Instancio.gen().shorts().min((short) 0).max(Short.MAX_VALUE))
-		.<Integer>givenType(INTEGER).useSupplier(Instancio.gen().ints().min(0).max(Integer.MAX_VALUE))
-		.<Long>givenType(BIGINT).useSupplier(Instancio.gen().longs().min(0L).max(Long.MAX_VALUE))
+		.<Integer>givenType(INTEGER).useSupplier(DEFAULT_INT4_SUPPLIER)
+		.<Long>givenType(BIGINT).useSupplier(DEFAULT_INT8_SUPPLIER)
 		// :~)
 		/*
 		 * Binary types
@@ -144,7 +163,7 @@ class DefaultSetting {
 		 */
 		.<Float>givenType(FLOAT).useSupplier(DEFAULT_FLOAT_SPEC)
 		.<Float>givenType(REAL).useSupplier(DEFAULT_FLOAT_SPEC)
-		.<Double>givenType(DOUBLE).useSupplier(Instancio.gen().doubles().min(0.0).max(Double.MAX_VALUE))
+		.<Double>givenType(DOUBLE).useSupplier(DEFAULT_FLOAT8_SUPPLIER)
 		.<BigDecimal>givenType(DECIMAL).decideSupplier(BIG_DECIMAL_SUPPLIER_DECIDER)
 		.<BigDecimal>givenType(NUMERIC).decideSupplier(BIG_DECIMAL_SUPPLIER_DECIDER)
 		// :~)
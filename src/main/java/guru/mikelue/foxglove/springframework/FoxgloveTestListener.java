@@ -137,7 +137,7 @@ public class FoxgloveTestListener extends AbstractTestExecutionListener {
 			.performGenerating();
     }
 
-	private Integer doOnClassLevel(
+	private Long doOnClassLevel(
 		TestContext testContext, Supplier<DataGenContext<TableFacet>> dataGenContextSupplier
 	) {
 		var testingInstance = testContext.getTestInstance();
@@ -150,7 +150,7 @@ public class FoxgloveTestListener extends AbstractTestExecutionListener {
 		);
 
 		if (!processor.hasDataGenerating()) {
-			return -1;
+			return -1L;
 		}
 
 		logger.debug("Performing data generation on class level: \"{}\"",
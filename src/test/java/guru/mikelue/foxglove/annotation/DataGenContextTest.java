@@ -197,7 +197,7 @@ class DataGeneratorWarehouse {
 		}
 
 		@Override
-		public int generate(List<TableFacet> tables)
+		public long generate(List<TableFacet> tables)
 		{
 			return -1;
 		}
@@ -256,7 +256,7 @@ class FakeDataGenerator implements DataGenerator<TableFacet> {
 	}
 
 	@Override
-	public int generate(List<TableFacet> tables)
+	public long generate(List<TableFacet> tables)
 	{
 		throw new UnsupportedOperationException("Unimplemented method 'generate'");
 	}
@@ -0,0 +1,76 @@
+package guru.mikelue.foxglove.jdbc;
+
+import java.sql.JDBCType;
+import java.time.Duration;
+import java.util.Map;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import guru.mikelue.misc.testlib.AbstractTestBase;
+
+import static guru.mikelue.foxglove.ColumnMetaTestUtils.newColumnMeta;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class AdaptiveBatchSizerTest extends AbstractTestBase {
+	public AdaptiveBatchSizerTest() {}
+
+	@BeforeEach
+	void setup() {}
+
+	@AfterEach
+	void tearDown() {}
+
+	/**
+	 * Tests the adjusting of size by latency, which is bound by doubling/halving and min/max.
+	 */
+	@ParameterizedTest
+	@CsvSource({
+		// Fast batch, doubled
+		"100,1000,200",
+		// Fast batch, bound by max size
+		"400,1000,500",
+		// Slow batch, halved
+		"100,100000000,50",
+		// Slow batch, bound by min size
+		"12,100000000,10",
+		// On target
+		"100,10000000,100",
+	})
+	void onBatchExecuted(
+		int initialSize, long elapsedNanos, int expectedSize
+	) {
+		var testedSizer = new AdaptiveBatchSizer(
+			AdaptiveBatchSize.of(Duration.ofMillis(10), 10, 500),
+			initialSize
+		);
+
+		testedSizer.onBatchExecuted(initialSize, elapsedNanos);
+
+		assertThat(testedSizer.size())
+			.isEqualTo(expectedSize);
+	}
+
+	/**
+	 * Tests the size bound by estimated width of rows.
+	 */
+	@Test
+	void onRowAdded()
+	{
+		var testedSizer = new AdaptiveBatchSizer(
+			AdaptiveBatchSize.of(Duration.ofMillis(10), 1, 1000)
+				.withMaxBytesPerBatch(2000),
+			500
+		);
+
+		testedSizer.onRowAdded(Map.of(
+			newColumnMeta("col1", JDBCType.VARCHAR), "a".repeat(100)
+		));
+
+		assertThat(testedSizer.size())
+			.isEqualTo(20);
+	}
+}
@@ -0,0 +1,60 @@
+package guru.mikelue.foxglove.jdbc;
+
+import java.sql.JDBCType;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import guru.mikelue.misc.testlib.AbstractTestBase;
+
+import static guru.mikelue.foxglove.ColumnMetaTestUtils.newColumnMeta;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class BulkLoaderTest extends AbstractTestBase {
+	public BulkLoaderTest() {}
+
+	@BeforeEach
+	void setup() {}
+
+	@AfterEach
+	void tearDown() {}
+
+	/**
+	 * Tests the applicability by driver, kept columns and types of columns.
+	 */
+	@ParameterizedTest
+	@CsvSource({
+		"H2 JDBC Driver,VARCHAR,false,1,true",
+		"H2 JDBC Driver,VARCHAR,true,1,true",
+		"Apache Derby Embedded JDBC Driver,VARBINARY,true,1,true",
+		// Only single generated key could be read back
+		"H2 JDBC Driver,VARCHAR,true,2,false",
+		// Binary of H2
+		"H2 JDBC Driver,VARBINARY,false,1,false",
+		// Not supported driver
+		"PostgreSQL JDBC Driver,VARCHAR,false,1,",
+	})
+	void isApplicable(
+		String driverName, JDBCType typeOfColumn,
+		boolean keepingGeneratedValues, int numberOfGeneratedColumns,
+		Boolean expectedApplicable
+	) {
+		var testedLoader = BulkLoader.of(driverName);
+
+		if (expectedApplicable == null) {
+			assertThat(testedLoader).isNull();
+			return;
+		}
+
+		assertThat(
+			testedLoader.isApplicable(
+				List.of(newColumnMeta("tp_value", typeOfColumn)),
+				keepingGeneratedValues, new String[numberOfGeneratedColumns]
+			)
+		)
+			.isEqualTo(expectedApplicable);
+	}
+}
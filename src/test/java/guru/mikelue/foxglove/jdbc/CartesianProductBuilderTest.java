@@ -4,10 +4,12 @@ import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.stream.LongStream;
 import java.util.stream.Stream;
 
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
@@ -58,6 +60,27 @@ public class CartesianProductBuilderTest extends AbstractTestBase {
 			.isEqualTo(expectedExpandedValues);
 	}
 
+	/**
+	 * Tests the number of rows over the range of int, the values are not expanded.
+	 */
+	@Test
+	void numberOfRowsOverInt()
+	{
+		var domainOfA = LongStream.range(0, 100_000).boxed().toList();
+		var domainOfB = LongStream.range(0, 50_000).boxed().toList();
+
+		var testedBuilder = new CartesianProductBuilder();
+		testedBuilder.putDomain("A", () -> domainOfA);
+		testedBuilder.putDomain("B", () -> domainOfB);
+
+		assertThat(testedBuilder.getNumberOfRows())
+			.isEqualTo(5_000_000_000L);
+
+		var supplierOfB = testedBuilder.<Long>buildLazySupplier("B");
+		assertThat(Stream.generate(supplierOfB).limit(50_002).skip(49_999).toList())
+			.containsExactly(49_999L, 0L, 1L);
+	}
+
 	static Arguments[] buildSupplierFactory()
 	{
 		return new Arguments[] {
@@ -0,0 +1,35 @@
+package guru.mikelue.foxglove.jdbc;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import guru.mikelue.misc.testlib.AbstractTestBase;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class CommitPolicyTest extends AbstractTestBase {
+	public CommitPolicyTest() {}
+
+	@BeforeEach
+	void setup() {}
+
+	@AfterEach
+	void tearDown() {}
+
+	/**
+	 * Tests the committing by elapsed time of transaction.
+	 */
+	@Test
+	void everyInterval()
+	{
+		var startNanos = System.nanoTime();
+
+		assertThat(CommitPolicy.everyInterval(Duration.ofNanos(1)).isReached(1, 0, startNanos - 10, 10))
+			.isTrue();
+		assertThat(CommitPolicy.everyInterval(Duration.ofHours(1)).isReached(1, 0, startNanos, 10))
+			.isFalse();
+	}
+}
@@ -0,0 +1,132 @@
+package guru.mikelue.foxglove.jdbc;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.JDBCType;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import guru.mikelue.foxglove.ColumnMeta;
+import guru.mikelue.misc.testlib.AbstractTestBase;
+
+import static guru.mikelue.foxglove.ColumnMetaTestUtils.newColumnMeta;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class CsvRowSinkTest extends AbstractTestBase {
+	@TempDir
+	private Path tempDir;
+
+	public CsvRowSinkTest() {}
+
+	@BeforeEach
+	void setup() {}
+
+	@AfterEach
+	void tearDown() {}
+
+	/**
+	 * Tests the fields of CSV, the small buffer makes the content drained multiple times.
+	 */
+	@ParameterizedTest
+	@CsvSource({
+		"false,001-ap_car.csv",
+		"true,001-ap_car.csv.gz",
+	})
+	void writeRow(
+		boolean gzip, String expectedFileName
+	) throws IOException {
+		var columns = List.of(
+			newColumnMeta("cr_id", JDBCType.BIGINT),
+			newColumnMeta("cr_brand", JDBCType.VARCHAR),
+			newColumnMeta("cr_model", JDBCType.VARCHAR),
+			newColumnMeta("cr_time", JDBCType.TIMESTAMP)
+		);
+
+		try (var testedSink = new CsvRowSink(tempDir).setGzip(gzip).setBufferSize(1024)) {
+			testedSink.beginTable("ap_car", columns);
+
+			for (int i = 0; i < 100; i++) {
+				var row = new HashMap<ColumnMeta, Object>();
+				row.put(columns.get(0), (long)i);
+				row.put(columns.get(1), "Brand, \"Quoted\"");
+				row.put(columns.get(2), i % 2 == 0 ? "" : null);
+				row.put(columns.get(3), LocalDateTime.of(2020, 1, 2, 3, 4, 5));
+
+				testedSink.writeRow(row);
+			}
+
+			testedSink.endTable();
+		}
+
+		var testedFile = tempDir.resolve(expectedFileName);
+		assertThat(testedFile).exists();
+
+		var testedLines = readText(testedFile, gzip).split("\n");
+		assertThat(testedLines)
+			.hasSize(101);
+		assertThat(testedLines[0])
+			.isEqualTo("cr_id,cr_brand,cr_model,cr_time");
+		assertThat(testedLines[1])
+			.isEqualTo("0,\"Brand, \"\"Quoted\"\"\",\"\",2020-01-02 03:04:05");
+		assertThat(testedLines[2])
+			.isEqualTo("1,\"Brand, \"\"Quoted\"\"\",,2020-01-02 03:04:05");
+	}
+
+	/**
+	 * Tests the fields of {@link RowValues}, which are read by ordinal only if the columns are in the same order.
+	 */
+	@ParameterizedTest
+	@CsvSource({
+		"false", "true",
+	})
+	void writeRowValues(
+		boolean reversedColumns
+	) throws IOException {
+		var columns = List.of(
+			newColumnMeta("cr_id", JDBCType.BIGINT),
+			newColumnMeta("cr_brand", JDBCType.VARCHAR)
+		);
+		var columnsOfRow = reversedColumns ?
+			List.of(columns.get(1), columns.get(0)) : List.copyOf(columns);
+
+		try (var testedSink = new CsvRowSink(tempDir)) {
+			testedSink.beginTable("ap_car", columns);
+
+			for (long i = 0; i < 3; i++) {
+				testedSink.writeRow(new RowValues(
+					columnsOfRow,
+					reversedColumns ?
+						new Object[] { "Brand-" + i, i } :
+						new Object[] { i, "Brand-" + i }
+				));
+			}
+
+			testedSink.endTable();
+		}
+
+		var testedLines = readText(tempDir.resolve("001-ap_car.csv"), false).split("\n");
+		assertThat(testedLines)
+			.containsExactly("cr_id,cr_brand", "0,Brand-0", "1,Brand-1", "2,Brand-2");
+	}
+
+	private static String readText(Path file, boolean gzip) throws IOException
+	{
+		try (InputStream input = gzip ?
+			new GZIPInputStream(Files.newInputStream(file)) :
+			Files.newInputStream(file)
+		) {
+			return new String(input.readAllBytes(), StandardCharsets.UTF_8);
+		}
+	}
+}
@@ -0,0 +1,154 @@
+package guru.mikelue.foxglove.jdbc;
+
+import java.sql.JDBCType;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import guru.mikelue.foxglove.ColumnMeta;
+import guru.mikelue.foxglove.TupleAccessor;
+import guru.mikelue.foxglove.jdbc.DriverCapabilities.KeysOfBatch;
+import guru.mikelue.foxglove.setting.DataSetting;
+import guru.mikelue.foxglove.test.AbstractJdbcTestBase;
+
+import static guru.mikelue.foxglove.ColumnMetaTestUtils.newColumnMeta;
+import static guru.mikelue.foxglove.test.SampleSchema.*;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class DriverCapabilitiesTest extends AbstractJdbcTestBase {
+	public DriverCapabilitiesTest() {}
+
+	@BeforeEach
+	void setup()
+	{
+		deleteAll(TABLE_DATA_TYPES, TABLE_RENT, TABLE_CAR_FEATURE, TABLE_CAR, TABLE_CAR_ARCHIVED, TABLE_MEMBER);
+	}
+
+	@AfterEach
+	void tearDown() {}
+
+	/**
+	 * Tests the generated keys of batch by known names of drivers.
+	 */
+	@ParameterizedTest
+	@CsvSource({
+		"Apache Derby Embedded JDBC Driver,LastOnly",
+		"SQLite JDBC,LastOnly",
+		"Microsoft JDBC Driver 11.2 for SQL Server,LastOnly",
+		"H2 JDBC Driver,All",
+		"MariaDB Connector/J,All",
+		"PostgreSQL JDBC Driver,All",
+		"Unknown Driver,All",
+	})
+	void ofDriverName(
+		String driverName, KeysOfBatch expectedKeysOfBatch
+	) {
+		assertThat(DriverCapabilities.ofDriverName(driverName).keysOfBatch())
+			.isEqualTo(expectedKeysOfBatch);
+	}
+
+	/**
+	 * Tests the capabilities are cached by URL of connection.
+	 */
+	@Test
+	void of() throws SQLException
+	{
+		DriverCapabilities first, second;
+
+		try (var conn = getDataSource().getConnection()) {
+			first = DriverCapabilities.of(conn);
+		}
+		try (var conn = getDataSource().getConnection()) {
+			second = DriverCapabilities.of(conn);
+		}
+
+		assertThat(first)
+			.isSameAs(second)
+			.satisfies(capabilities -> {
+				assertThat(capabilities.keysOfBatch()).isEqualTo(KeysOfBatch.All);
+				assertThat(capabilities.supportsBatchUpdates()).isTrue();
+			});
+	}
+
+	/**
+	 * Tests the probing of generated keys for unknown driver, the rows are inserted only once.
+	 *
+	 * The probing is not concluded if the rows are fewer than the probed ones or the savepoint is not viable.
+	 */
+	@ParameterizedTest
+	@CsvSource({
+		"1,10,false,Unknown",
+		"3,10,false,All",
+		"20,7,false,All",
+		"5,10,true,Unknown",
+	})
+	void probing(
+		int numberOfRows, int batchSize, boolean autoCommit,
+		KeysOfBatch expectedKeysOfBatch
+	) throws SQLException {
+		var columns = List.of(
+			newColumnMeta("cr_license_plate", JDBCType.VARCHAR),
+			newColumnMeta("cr_brand", JDBCType.VARCHAR),
+			newColumnMeta("cr_model", JDBCType.VARCHAR),
+			newColumnMeta("cr_year", JDBCType.SMALLINT)
+		);
+		var fetchedTuples = new ArrayList<TupleAccessor>(numberOfRows);
+		var sampleCapabilities = new DriverCapabilities("Unknown Driver", true, KeysOfBatch.Unknown);
+
+		try (var conn = getDataSource().getConnection()) {
+			conn.setAutoCommit(autoCommit);
+
+			try (var stmt = conn.prepareStatement(
+					"INSERT INTO ap_car(cr_license_plate, cr_brand, cr_model, cr_year) VALUES(?, ?, ?, ?)",
+					new String[] { "cr_id" }
+				);
+				var testedWorker = BatchWorker.newInstance(
+					sampleCapabilities, BatchMode.Default,
+					stmt, null, null, false,
+					new String[] { "cr_id" }, fetchedTuples::addAll,
+					BatchSizer.fixed(batchSize), new DataSetting(), true
+				)
+			) {
+				assertThat(testedWorker)
+					.isInstanceOf(ProbingBatchWorker.class);
+
+				for (int i = 0; i < numberOfRows; i++) {
+					var row = new LinkedHashMap<ColumnMeta, Object>();
+					row.put(columns.get(0), "PB-" + i);
+					row.put(columns.get(1), "Brand");
+					row.put(columns.get(2), "Model");
+					row.put(columns.get(3), (short)2020);
+
+					testedWorker.addBatch(row);
+				}
+
+				testedWorker.executeBatch();
+			}
+
+			if (!autoCommit) {
+				conn.commit();
+			}
+		}
+
+		assertThat(sampleCapabilities.keysOfBatch())
+			.isEqualTo(expectedKeysOfBatch);
+
+		var expectedKeys = getJdbcTemplate().queryForList(
+			"SELECT cr_id FROM ap_car", Long.class
+		);
+		var testedKeys = fetchedTuples.stream()
+			.map(tuple -> ((Number)tuple.getValue("cr_id")).longValue())
+			.toList();
+
+		assertThat(testedKeys)
+			.hasSize(numberOfRows)
+			.containsExactlyInAnyOrderElementsOf(expectedKeys);
+	}
+}
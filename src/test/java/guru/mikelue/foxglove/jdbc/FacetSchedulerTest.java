@@ -0,0 +1,110 @@
+package guru.mikelue.foxglove.jdbc;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import guru.mikelue.misc.testlib.AbstractTestBase;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class FacetSchedulerTest extends AbstractTestBase {
+	public FacetSchedulerTest() {}
+
+	@BeforeEach
+	void setup() {}
+
+	@AfterEach
+	void tearDown() {}
+
+	/**
+	 * Tests the referencing facets are started after the referenced facets are finished,
+	 * even if they are given before the referenced facets.
+	 */
+	@ParameterizedTest
+	@ValueSource(ints={1, 2, 4})
+	void execute(int concurrency) throws Exception
+	{
+		var facetOfCar = JdbcTableFacet.builder("ap_car")
+			.numberOfRows(3)
+			.build();
+		var facetOfMember = JdbcTableFacet.builder("ap_member")
+			.numberOfRows(3)
+			.build();
+		var facetOfFeature = JdbcTableFacet.builder("ap_car_feature")
+			.referencing("cf_cr_id")
+				.parent(facetOfCar, "cr_id")
+				.cardinality(2)
+			.build();
+		var facetOfRent = JdbcTableFacet.builder("ap_rent")
+			.cartesianProduct("rt_cr_id")
+				.referencing(facetOfCar, "cr_id")
+			.cartesianProduct("rt_mb_id")
+				.referencing(facetOfMember, "mb_id")
+			.build();
+
+		var events = Collections.synchronizedList(new ArrayList<String>());
+
+		var testedResult = new FacetScheduler(
+			List.of(facetOfRent, facetOfFeature, facetOfCar, facetOfMember),
+			concurrency
+		)
+			.execute(facet -> {
+				events.add("start:" + facet.tableName());
+				Thread.sleep(20);
+				events.add("end:" + facet.tableName());
+
+				return 1;
+			});
+
+		assertThat(testedResult)
+			.isEqualTo(4);
+		assertThat(events)
+			.hasSize(8);
+
+		assertThat(events.indexOf("end:ap_car"))
+			.isLessThan(events.indexOf("start:ap_car_feature"))
+			.isLessThan(events.indexOf("start:ap_rent"));
+		assertThat(events.indexOf("end:ap_member"))
+			.isLessThan(events.indexOf("start:ap_rent"));
+	}
+
+	/**
+	 * Tests the failure of a facet, which stops the starting of other facets.
+	 */
+	@Test
+	void executeWithFailure()
+	{
+		var facetOfCar = JdbcTableFacet.builder("ap_car")
+			.numberOfRows(3)
+			.build();
+		var facetOfFeature = JdbcTableFacet.builder("ap_car_feature")
+			.referencing("cf_cr_id")
+				.parent(facetOfCar, "cr_id")
+				.cardinality(2)
+			.build();
+
+		var startedTables = Collections.synchronizedList(new ArrayList<String>());
+
+		assertThatThrownBy(() ->
+			new FacetScheduler(List.of(facetOfCar, facetOfFeature), 2)
+				.execute(facet -> {
+					startedTables.add(facet.tableName());
+					throw new SQLException("Test failure");
+				})
+		)
+			.isInstanceOf(SQLException.class)
+			.hasMessage("Test failure");
+
+		assertThat(startedTables)
+			.containsExactly("ap_car");
+	}
+}
@@ -0,0 +1,138 @@
+package guru.mikelue.foxglove.jdbc;
+
+import java.sql.JDBCType;
+import java.util.HashSet;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import guru.mikelue.foxglove.ColumnMeta.Property;
+import guru.mikelue.foxglove.test.AbstractJdbcTestBase;
+
+import static guru.mikelue.foxglove.ColumnMetaTestUtils.newColumnMeta;
+import static guru.mikelue.foxglove.test.SampleSchema.*;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class InMemoryDataGeneratorTest extends AbstractJdbcTestBase {
+	public InMemoryDataGeneratorTest() {}
+
+	/**
+	 * Tests the referencing to auto-generated keys by explicit schema.
+	 */
+	@ParameterizedTest
+	@CsvSource({
+		"1,1", "3,2", "40,5",
+	})
+	void referencing(
+		int parentRows, int childRowsPerParent
+	) {
+		var generator = new InMemoryDataGenerator()
+			.withSchema("sc_parent", List.of(
+				newColumnMeta("pt_id", JDBCType.BIGINT, Property.AUTO_INCREMENT),
+				newColumnMeta("pt_name", JDBCType.VARCHAR)
+			))
+			.withSchema("sc_child", List.of(
+				newColumnMeta("cd_id", JDBCType.INTEGER, Property.AUTO_INCREMENT),
+				newColumnMeta("cd_pt_id", JDBCType.BIGINT),
+				newColumnMeta("cd_name", JDBCType.VARCHAR)
+			));
+
+		var parentFacet = JdbcTableFacet.builder("sc_parent")
+			.numberOfRows(parentRows)
+			.build();
+		var childFacet = JdbcTableFacet.builder("sc_child")
+			.referencing("cd_pt_id")
+				.parent(parentFacet, "pt_id")
+				.cardinality(childRowsPerParent)
+			.build();
+
+		var testedNumber = generator.generate(parentFacet, childFacet);
+
+		assertThat(testedNumber)
+			.isEqualTo(parentRows + parentRows * childRowsPerParent);
+
+		var parentTable = generator.getTable("sc_parent");
+		assertThat(parentTable.getValues("pt_id"))
+			.hasSize(parentRows)
+			.startsWith(1L)
+			.doesNotHaveDuplicates();
+
+		var childTable = generator.getTable("SC_CHILD");
+		assertThat(childTable.size())
+			.isEqualTo(parentRows * childRowsPerParent);
+		assertThat(childTable.<Integer>getValue(childTable.size() - 1, "cd_id"))
+			.isEqualTo(parentRows * childRowsPerParent);
+		assertThat(new HashSet<>(childTable.getValues("cd_pt_id")))
+			.containsExactlyInAnyOrderElementsOf(parentTable.getValues("pt_id"));
+		assertThat(childTable.count(tuple -> tuple.getValue("cd_name") == null))
+			.isZero();
+	}
+
+	/**
+	 * Tests the Cartesian product by the schema read from database, nothing is inserted.
+	 */
+	@ParameterizedTest
+	@CsvSource({
+		"1,1", "3,2",
+	})
+	void cartesianProductBySchemaOfDatabase(
+		int numberOfRowsForCar, int numberOfRowsForMember
+	) {
+		var dataOfCars = JdbcTableFacet.builder(TABLE_CAR)
+			.keyOfInt("cr_id")
+				.limit(1000, numberOfRowsForCar)
+			.build();
+		var dataOfMembers = JdbcTableFacet.builder(TABLE_MEMBER)
+			.keyOfInt("mb_id")
+				.limit(2000, numberOfRowsForMember)
+			.build();
+		var rentData = JdbcTableFacet.builder(TABLE_RENT)
+			.cartesianProduct("rt_cr_id")
+				.referencing(dataOfCars, "cr_id")
+			.cartesianProduct("rt_mb_id")
+				.referencing(dataOfMembers, "mb_id")
+			.build();
+
+		var generator = new InMemoryDataGenerator(getDataSource());
+		generator.generate(dataOfCars, dataOfMembers, rentData);
+
+		assertThat(
+			generator.getTable(TABLE_RENT).count(
+				tuple -> tuple.<Number>getValue("rt_cr_id").intValue() >= 1000 &&
+					tuple.<Number>getValue("rt_mb_id").intValue() >= 2000
+			)
+		)
+			.isEqualTo(numberOfRowsForCar * numberOfRowsForMember);
+		assertNumberOfRows(TABLE_RENT)
+			.isEqualTo(0);
+	}
+
+	/**
+	 * Tests the checking of configured columns and schema.
+	 */
+	@Test
+	void unknownColumnOrTable()
+	{
+		var generator = new InMemoryDataGenerator()
+			.withSchema("sc_parent", List.of(
+				newColumnMeta("pt_name", JDBCType.VARCHAR)
+			));
+
+		assertThatThrownBy(() -> generator.generate(
+			JdbcTableFacet.builder("sc_parent")
+				.numberOfRows(1)
+				.column("pt_unknown").fixed("v1")
+				.build()
+		))
+			.isInstanceOf(IllegalArgumentException.class);
+		assertThatThrownBy(() -> generator.generate(
+			JdbcTableFacet.builder("sc_unknown")
+				.numberOfRows(1)
+				.build()
+		))
+			.isInstanceOf(IllegalArgumentException.class);
+	}
+}
@@ -1,22 +1,51 @@
 package guru.mikelue.foxglove.jdbc;
 
+import java.io.IOException;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.JDBCType;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
+import javax.sql.DataSource;
 
+import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.lang3.mutable.MutableInt;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+import org.junit.jupiter.api.io.TempDir;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.CsvSource;
 import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
 
 import guru.mikelue.foxglove.test.AbstractJdbcTestBase;
 
+import static guru.mikelue.foxglove.ColumnMetaTestUtils.newColumnMeta;
 import static guru.mikelue.foxglove.test.SampleSchema.*;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.junit.jupiter.params.provider.Arguments.arguments;
 
 public class JdbcDataGeneratorTest extends AbstractJdbcTestBase {
@@ -51,7 +80,7 @@ public class JdbcDataGeneratorTest extends AbstractJdbcTestBase {
 				.forRow(rowIndex -> "Feature-" + (rowIndex + 1))
 			.build();
 
-		int testedNumber = getDataGenerator()
+		long testedNumber = getDataGenerator()
 			.generate(parentTable, childTable);
 
 		assertThat(testedNumber)
@@ -145,7 +174,7 @@ public class JdbcDataGeneratorTest extends AbstractJdbcTestBase {
 		facetCustomizer.accept(builder);
 		var facet = builder.build();
 
-		int testedNumber = getDataGenerator()
+		long testedNumber = getDataGenerator()
 			.generate(facet);
 
 		/*
@@ -254,6 +283,1085 @@ public class JdbcDataGeneratorTest extends AbstractJdbcTestBase {
 			.isEqualTo(numberOfRowsForCar * numberOfRowsForMember);
 	}
 
+	/**
+	 * Tests the generating of data by multi-row statements,
+	 * with remaining rows and referencing to generated keys.
+	 */
+	@ParameterizedTest
+	@CsvSource({
+		"1,3,4", "7,3,4", "9,2,5", "5,10,3",
+	})
+	void multiRowValues(
+		int parentRows, int childRowsPerParent, int batchSize
+	) {
+		var executedInsertions = new CopyOnWriteArrayList<ExecutedInsertion>();
+
+		var parentTable = JdbcTableFacet.builder(TABLE_CAR)
+			.numberOfRows(parentRows)
+			.build();
+		var childTable = featuresOf(parentTable, childRowsPerParent)
+			.build();
+
+		long testedNumber = new JdbcDataGenerator(recordingInsertions(executedInsertions))
+			.setBatchMode(BatchMode.MultiRowValues)
+			.setBatchSize(batchSize)
+			.generate(parentTable, childTable);
+
+		assertThat(testedNumber)
+			.isEqualTo(parentRows * childRowsPerParent + parentRows);
+
+		assertNumberOfRows(TABLE_CAR)
+			.isEqualTo(parentRows);
+		assertFeaturesOfCars(parentRows * childRowsPerParent);
+
+		/*
+		 * Asserts the rows of a batch are put into the VALUES of a statement
+		 */
+		var numberOfFeatures = parentRows * childRowsPerParent;
+		var insertionsOfFeatures = executedInsertions.stream()
+			.filter(insertion -> insertion.isOf(TABLE_CAR_FEATURE))
+			.toList();
+
+		assertThat(insertionsOfFeatures)
+			.allMatch(insertion -> insertion.numberOfRows() == ExecutedInsertion.rowsInValues(insertion.sql()))
+			.allMatch(insertion -> insertion.numberOfRows() <= batchSize)
+			.anyMatch(insertion -> insertion.numberOfRows() == Math.min(batchSize, numberOfFeatures));
+		assertThat(insertionsOfFeatures.stream().mapToInt(ExecutedInsertion::numberOfRows).sum())
+			.isEqualTo(numberOfFeatures);
+		// :~)
+	}
+
+	/**
+	 * Tests the generating of data by the slots specialized for columns,
+	 * with referencing to generated keys.
+	 *
+	 * The supplier of column is called by the hidden class of slot if the rows are specialized.
+	 */
+	@ParameterizedTest
+	@CsvSource({
+		"1,3,true", "6,4,true", "6,4,false",
+	})
+	void specializingRows(
+		int parentRows, int childRowsPerParent, boolean specializing
+	) {
+		var callsBySlots = new MutableInt(0);
+		var stackWalker = StackWalker.getInstance(
+			Set.of(StackWalker.Option.RETAIN_CLASS_REFERENCE, StackWalker.Option.SHOW_HIDDEN_FRAMES)
+		);
+
+		var parentTable = JdbcTableFacet.builder(TABLE_CAR)
+			.numberOfRows(parentRows)
+			.column("cr_brand")
+				.forRow(rowIndex -> {
+					var calledBySlot = stackWalker.walk(frames -> frames.anyMatch(
+						frame -> frame.getDeclaringClass().isHidden() &&
+							SpecializedRowGenerator.ColumnSlot.class.isAssignableFrom(frame.getDeclaringClass())
+					));
+					if (calledBySlot) {
+						callsBySlots.increment();
+					}
+
+					return "Brand-" + rowIndex;
+				})
+			.build();
+		var childTable = featuresOf(parentTable, childRowsPerParent)
+			.build();
+
+		long testedNumber = getDataGenerator()
+			.setSpecializingRows(specializing)
+			.generate(parentTable, childTable);
+
+		assertThat(testedNumber)
+			.isEqualTo(parentRows * childRowsPerParent + parentRows);
+		assertFeaturesOfCars(parentRows * childRowsPerParent);
+
+		assertThat(callsBySlots.intValue())
+			.isEqualTo(specializing ? parentRows : 0);
+	}
+
+	/**
+	 * Tests the generating of data by pipelined producer of rows,
+	 * the values of rows are generated by the thread of producer.
+	 */
+	@ParameterizedTest
+	@CsvSource({
+		"1,8,2", "10,2,3", "20,3,7",
+	})
+	void pipelining(
+		int parentRows, int childRowsPerParent, int capacity
+	) {
+		var namesOfThreads = ConcurrentHashMap.<String>newKeySet();
+
+		var parentTable = JdbcTableFacet.builder(TABLE_CAR)
+			.numberOfRows(parentRows)
+			.column("cr_brand")
+				.forRow(rowIndex -> {
+					namesOfThreads.add(Thread.currentThread().getName());
+					return "Brand-" + rowIndex;
+				})
+			.build();
+		var childTable = featuresOf(parentTable, childRowsPerParent)
+			.build();
+
+		long testedNumber = getDataGenerator()
+			.setPipelineCapacity(capacity)
+			.setBatchSize(4)
+			.generate(parentTable, childTable);
+
+		assertThat(testedNumber)
+			.isEqualTo(parentRows * childRowsPerParent + parentRows);
+		assertFeaturesOfCars(parentRows * childRowsPerParent);
+
+		assertThat(namesOfThreads)
+			.isNotEmpty()
+			.allMatch(name -> name.startsWith("foxglove-producer-"));
+	}
+
+	/**
+	 * Tests the generating of data by multiple connections for a table facet,
+	 * with remaining chunk and referencing to generated keys.
+	 */
+	@ParameterizedTest
+	@CsvSource({
+		"9,1,2", "10,3,3", "3,11,4",
+	})
+	void parallelism(
+		int parentRows, int childRowsPerParent, int parallelism
+	) {
+		var executedInsertions = new CopyOnWriteArrayList<ExecutedInsertion>();
+
+		var parentTable = JdbcTableFacet.builder(TABLE_CAR)
+			.numberOfRows(parentRows)
+			.build();
+		var childTable = featuresOf(parentTable, childRowsPerParent)
+			.build();
+
+		long testedNumber = new JdbcDataGenerator(recordingInsertions(executedInsertions))
+			.setParallelism(parallelism)
+			.setBatchSize(2)
+			.generate(parentTable, childTable);
+
+		assertThat(testedNumber)
+			.isEqualTo(parentRows * childRowsPerParent + parentRows);
+
+		assertNumberOfRows(TABLE_CAR)
+			.isEqualTo(parentRows);
+		assertFeaturesOfCars(parentRows * childRowsPerParent);
+
+		/*
+		 * Asserts the chunks of features are inserted by the threads of lanes
+		 */
+		var insertionsOfFeatures = executedInsertions.stream()
+			.filter(insertion -> insertion.isOf(TABLE_CAR_FEATURE))
+			.toList();
+
+		assertThat(insertionsOfFeatures)
+			.allMatch(insertion -> insertion.threadName().startsWith("foxglove-lane-"))
+			.allMatch(insertion -> insertion.numberOfRows() <= 2);
+		assertThat(insertionsOfFeatures.stream().map(ExecutedInsertion::threadName).distinct())
+			.hasSizeBetween(1, parallelism);
+		// :~)
+	}
+
+	/**
+	 * Tests the chunks of lanes by batch size of facet, which are committed by the policy.
+	 *
+	 * The uncommitted rows of lanes are rolled back while the connections are closed.
+	 */
+	@ParameterizedTest
+	@MethodSource
+	void parallelismByFacet(
+		CommitPolicy commitPolicy, int batchSizeOfFacet
+	) {
+		final int parentRows = 5;
+		final int childRowsPerParent = 4;
+		var numberOfConnections = new MutableInt(0);
+
+		var countingDataSource = new DelegatingDataSource(getDataSource()) {
+			@Override
+			public Connection getConnection() throws SQLException
+			{
+				numberOfConnections.increment();
+
+				var conn = super.getConnection();
+				return (Connection)Proxy.newProxyInstance(
+					Connection.class.getClassLoader(), new Class<?>[] { Connection.class },
+					(proxy, method, args) -> {
+						if (method.getName().equals("close") && !conn.getAutoCommit()) {
+							conn.rollback();
+						}
+
+						try {
+							return method.invoke(conn, args);
+						} catch (InvocationTargetException e) {
+							throw e.getCause();
+						}
+					}
+				);
+			}
+		};
+
+		var parentTable = JdbcTableFacet.builder(TABLE_CAR)
+			.numberOfRows(parentRows)
+			.build();
+		var childTable = featuresOf(parentTable, childRowsPerParent)
+			.batchSize(batchSizeOfFacet)
+			.build();
+
+		new JdbcDataGenerator(countingDataSource)
+			.setParallelism(3)
+			.setBatchSize(100)
+			.setCommitPolicy(commitPolicy)
+			.generate(parentTable, childTable);
+
+		// The connections of metadata, worker and 3 lanes
+		assertThat(numberOfConnections.intValue())
+			.isEqualTo(5);
+
+		assertNumberOfRows(TABLE_CAR)
+			.isEqualTo(parentRows);
+		assertFeaturesOfCars(parentRows * childRowsPerParent);
+	}
+	static Arguments[] parallelismByFacet()
+	{
+		return new Arguments[] {
+			arguments(CommitPolicy.defaults(), 3),
+			arguments(CommitPolicy.everyBatches(2), 4),
+			arguments(CommitPolicy.everyBytes(100), 3),
+			arguments(CommitPolicy.perFacet(), 3),
+			arguments(CommitPolicy.perGeneration(), 6),
+		};
+	}
+
+	/**
+	 * Tests the failure of lanes, which couldn't start their workers(on connections after the ones of generator).
+	 *
+	 * The calling thread must not be blocked by the chunks dispatched to dead lanes.
+	 */
+	@Test
+	@Timeout(30)
+	void parallelismWithDeadLanes()
+	{
+		var numberOfConnections = new MutableInt(0);
+
+		var failingDataSource = new DelegatingDataSource(getDataSource()) {
+			@Override
+			public Connection getConnection() throws SQLException
+			{
+				var conn = super.getConnection();
+				// The connections of metadata and worker
+				if (numberOfConnections.incrementAndGet() <= 2) {
+					return conn;
+				}
+
+				return (Connection)Proxy.newProxyInstance(
+					Connection.class.getClassLoader(), new Class<?>[] { Connection.class },
+					(proxy, method, args) -> {
+						/*
+						 * The lane dies after the chunks are waiting for it
+						 */
+						if (method.getName().equals("getAutoCommit")) {
+							Thread.sleep(500);
+							throw new SQLException("Lane is broken");
+						}
+						// :~)
+
+						try {
+							return method.invoke(conn, args);
+						} catch (InvocationTargetException e) {
+							throw e.getCause();
+						}
+					}
+				);
+			}
+		};
+
+		var dataOfCars = JdbcTableFacet.builder(TABLE_CAR)
+			.numberOfRows(40)
+			.build();
+
+		assertThatThrownBy(() -> new JdbcDataGenerator(failingDataSource)
+			.setParallelism(3)
+			.setBatchSize(2)
+			.generate(dataOfCars)
+		)
+			.isInstanceOf(RuntimeJdbcException.class)
+			.hasStackTraceContaining("Lane is broken");
+
+		assertNumberOfRows(TABLE_CAR)
+			.isEqualTo(0);
+	}
+
+	/**
+	 * Tests the generating of data by concurrent facets,
+	 * which are given in reversed order of dependencies.
+	 */
+	@ParameterizedTest
+	@CsvSource({
+		"3,4,2", "5,7,3",
+	})
+	void concurrencyOfFacets(
+		int numberOfRowsForCar, int numberOfRowsForMember, int concurrency
+	) {
+		var dataOfCars = JdbcTableFacet.builder(TABLE_CAR)
+			.keyOfInt("cr_id")
+				.limit(1000, numberOfRowsForCar)
+			.build();
+		var dataOfMembers = JdbcTableFacet.builder(TABLE_MEMBER)
+			.keyOfInt("mb_id")
+				.limit(2000, numberOfRowsForMember)
+			.build();
+		var dataOfFeatures = featuresOf(dataOfCars, 2)
+			.build();
+		var rentData = JdbcTableFacet.builder(TABLE_RENT)
+			.cartesianProduct("rt_cr_id")
+				.referencing(dataOfCars, "cr_id")
+			.cartesianProduct("rt_mb_id")
+				.referencing(dataOfMembers, "mb_id")
+			.build();
+
+		long testedNumber = getDataGenerator()
+			.setConcurrencyOfFacets(concurrency)
+			.generate(rentData, dataOfFeatures, dataOfMembers, dataOfCars);
+
+		assertThat(testedNumber)
+			.isEqualTo(
+				numberOfRowsForCar * numberOfRowsForMember +
+				numberOfRowsForCar * 2 +
+				numberOfRowsForCar + numberOfRowsForMember
+			);
+
+		assertFeaturesOfCars(numberOfRowsForCar * 2);
+		assertNumberOfRows(TABLE_RENT)
+			.isEqualTo(numberOfRowsForCar * numberOfRowsForMember);
+	}
+
+	/**
+	 * Tests the generating of data by adaptive batch size and batch size of facet.
+	 *
+	 * The target latency is never reached, so the adaptive size(from 4) is doubled after every full batch.
+	 */
+	@ParameterizedTest
+	@CsvSource({
+		"5,6,8", "10,5,16", "20,7,32",
+	})
+	void adaptiveBatchSize(
+		int parentRows, int childRowsPerParent,
+		int expectedGrownSize
+	) {
+		var executedInsertions = new CopyOnWriteArrayList<ExecutedInsertion>();
+
+		var parentTable = JdbcTableFacet.builder(TABLE_CAR)
+			.numberOfRows(parentRows)
+			.batchSize(3)
+			.build();
+		var childTable = featuresOf(parentTable, childRowsPerParent)
+			.build();
+
+		long testedNumber = new JdbcDataGenerator(recordingInsertions(executedInsertions))
+			.setBatchSize(4)
+			.setAdaptiveBatchSize(
+				AdaptiveBatchSize.of(Duration.ofHours(1), 2, 64)
+			)
+			.generate(parentTable, childTable);
+
+		assertThat(testedNumber)
+			.isEqualTo(parentRows * childRowsPerParent + parentRows);
+		assertFeaturesOfCars(parentRows * childRowsPerParent);
+
+		/*
+		 * Asserts the fixed size of cars and the growing size of features
+		 */
+		assertThat(executedInsertions)
+			.filteredOn(insertion -> insertion.isOf(TABLE_CAR))
+			.extracting(ExecutedInsertion::numberOfRows)
+			.allMatch(rows -> rows <= 3);
+		assertThat(executedInsertions)
+			.filteredOn(insertion -> insertion.isOf(TABLE_CAR_FEATURE))
+			.extracting(ExecutedInsertion::numberOfRows)
+			.allMatch(rows -> rows <= 64)
+			.contains(expectedGrownSize);
+		// :~)
+	}
+
+	/**
+	 * Tests the writing of rows to SQL scripts, which are executed afterward.
+	 *
+	 * The auto-generated keys of parent table are assigned for referencing table.
+	 */
+	@ParameterizedTest
+	@CsvSource({
+		"1,2", "5,3",
+	})
+	void rowSink(
+		int parentRows, int childRowsPerParent,
+		@TempDir Path tempDir
+	) throws IOException {
+		var parentTable = JdbcTableFacet.builder(TABLE_CAR)
+			.numberOfRows(parentRows)
+			.build();
+		var childTable = featuresOf(parentTable, childRowsPerParent)
+			.build();
+
+		long testedNumber;
+		try (var sink = new SqlScriptRowSink(tempDir).setRowsPerStatement(2)) {
+			testedNumber = getDataGenerator()
+				.setRowSink(sink)
+				.generate(parentTable, childTable);
+		}
+
+		assertThat(testedNumber)
+			.isEqualTo(parentRows * childRowsPerParent + parentRows);
+		assertNumberOfRows(TABLE_CAR)
+			.isEqualTo(0);
+
+		for (var scriptName: List.of("001-ap_car.sql", "002-ap_car_feature.sql")) {
+			for (var statement: Files.readString(tempDir.resolve(scriptName)).split(";\n")) {
+				getJdbcTemplate().execute(statement);
+			}
+		}
+
+		assertNumberOfRows(TABLE_CAR)
+			.isEqualTo(parentRows);
+		assertFeaturesOfCars(parentRows * childRowsPerParent);
+	}
+
+	/**
+	 * Tests the loading of rows by import of database,
+	 * the auto-generated keys of parent table are read back for referencing table.
+	 */
+	@ParameterizedTest
+	@CsvSource({
+		"1,2", "5,3", "20,7",
+	})
+	void bulkLoading(
+		int parentRows, int childRowsPerParent
+	) {
+		var executedInsertions = new CopyOnWriteArrayList<ExecutedInsertion>();
+
+		var parentTable = JdbcTableFacet.builder(TABLE_CAR)
+			.numberOfRows(parentRows)
+			.build();
+		var childTable = featuresOf(parentTable, childRowsPerParent)
+			.build();
+
+		long testedNumber = new JdbcDataGenerator(recordingInsertions(executedInsertions))
+			.setBulkLoading(true)
+			.generate(parentTable, childTable);
+
+		assertThat(testedNumber)
+			.isEqualTo(parentRows * childRowsPerParent + parentRows);
+		assertFeaturesOfCars(parentRows * childRowsPerParent);
+
+		/*
+		 * Asserts the rows of both tables are loaded by single statements of import(H2)
+		 */
+		for (var tableName: List.of(TABLE_CAR, TABLE_CAR_FEATURE)) {
+			assertThat(executedInsertions)
+				.filteredOn(insertion -> insertion.isOf(tableName))
+				.singleElement()
+				.matches(insertion -> insertion.sql().contains("CSVREAD"));
+		}
+		// :~)
+	}
+
+	/**
+	 * Tests the loading of all data types by import of database.
+	 */
+	@ParameterizedTest
+	@CsvSource({
+		"1", "30",
+	})
+	void bulkLoadingOfDataTypes(
+		int numberOfRows
+	) {
+		var facet = JdbcTableFacet.builder(TABLE_DATA_TYPES)
+			.numberOfRows(numberOfRows)
+			.column("st_enum")
+				.fixed("VAL_B")
+			.excludeColumns("st_binary", "st_var_binary")
+			.column("st_varchar")
+				.fixed("It's \"quoted\", right?")
+			.column("st_char")
+				.fixed(null)
+			.build();
+
+		long testedNumber = getDataGenerator()
+			.setBulkLoading(true)
+			.generate(facet);
+
+		assertThat(testedNumber)
+			.isEqualTo(numberOfRows);
+		assertNumberOfRows(
+			TABLE_DATA_TYPES,
+			"st_varchar = 'It''s \"quoted\", right?' AND st_char IS NULL"
+		)
+			.isEqualTo(numberOfRows);
+	}
+
+	/**
+	 * Tests the concurrent generating of independent facets by asynchronous calls.
+	 */
+	@ParameterizedTest
+	@CsvSource({
+		"1,1", "20,30",
+	})
+	void generateAsync(
+		int numberOfCars, int numberOfMembers
+	) {
+		var carFuture = getDataGenerator()
+			.generateAsync(List.of(
+				JdbcTableFacet.builder(TABLE_CAR)
+					.numberOfRows(numberOfCars)
+					.build()
+			));
+		var memberFuture = getDataGenerator()
+			.generateAsync(
+				List.of(
+					JdbcTableFacet.builder(TABLE_MEMBER)
+						.numberOfRows(numberOfMembers)
+						.build()
+				),
+				ForkJoinPool.commonPool()
+			);
+
+		CompletableFuture.allOf(carFuture, memberFuture).join();
+
+		assertThat(carFuture.join())
+			.isEqualTo(numberOfCars);
+		assertThat(memberFuture.join())
+			.isEqualTo(numberOfMembers);
+		assertNumberOfRows(TABLE_CAR)
+			.isEqualTo(numberOfCars);
+		assertNumberOfRows(TABLE_MEMBER)
+			.isEqualTo(numberOfMembers);
+	}
+
+	/**
+	 * Tests the exception of asynchronous generating.
+	 */
+	@Test
+	void generateAsyncWithException()
+	{
+		var future = getDataGenerator()
+			.generateAsync(List.of(
+				JdbcTableFacet.builder(TABLE_CAR)
+					.numberOfRows(1)
+					.column("cr_brand")
+						.fixed(null)
+					.build()
+			));
+
+		assertThatThrownBy(future::join)
+			.isInstanceOf(CompletionException.class)
+			.hasCauseInstanceOf(RuntimeJdbcException.class);
+	}
+
+	/**
+	 * Tests the streaming of tuples, which are generated lazily without database.
+	 */
+	@ParameterizedTest
+	@CsvSource({
+		"1,1", "10,3", "50,50",
+	})
+	void stream(
+		int numberOfRows, int consumedRows
+	) {
+		var generatedRows = new MutableInt(0);
+		var facet = JdbcTableFacet.builder(TABLE_CAR)
+			.numberOfRows(numberOfRows)
+			.column("cr_brand")
+				.forRow(rowIndex -> "Brand-" + (rowIndex + 1))
+			.onTupleGenerated(tuple -> generatedRows.increment())
+			.build();
+		var columns = List.of(
+			newColumnMeta("cr_brand", "VARCHAR", JDBCType.VARCHAR),
+			newColumnMeta("cr_year", "SMALLINT", JDBCType.SMALLINT)
+		);
+
+		var testedBrands = JdbcDataGenerator.stream(facet, columns)
+			.limit(consumedRows)
+			.map(tuple -> tuple.<String>getValue("cr_brand"))
+			.toList();
+
+		assertThat(testedBrands)
+			.hasSize(consumedRows)
+			.startsWith("Brand-1");
+		assertThat(generatedRows.intValue())
+			.isEqualTo(consumedRows);
+		assertNumberOfRows(TABLE_CAR)
+			.isEqualTo(0);
+	}
+
+	/**
+	 * Tests the resuming of a failed generation by checkpoint journal,
+	 * the rows committed by the failed generation are not inserted again.
+	 */
+	@ParameterizedTest
+	@CsvSource({
+		"5,3", "5,0", "4,7",
+	})
+	void checkpointJournal(
+		int numberOfCars, int failedRowOfFeature,
+		@TempDir Path tempDir
+	) {
+		var journalFile = tempDir.resolve("cars.checkpoint");
+
+		assertThatThrownBy(() -> getDataGenerator()
+			.setBatchSize(2)
+			.setCheckpointJournal(CheckpointJournal.of(journalFile))
+			.generate(buildFacetsOfCheckpoint(numberOfCars, failedRowOfFeature))
+		)
+			.isInstanceOf(RuntimeJdbcException.class);
+
+		var journal = CheckpointJournal.of(journalFile);
+		var committedFeatures = journal.getCommittedRows(1);
+		assertThat(journal.getCommittedRows(0))
+			.isEqualTo(numberOfCars);
+		assertThat(committedFeatures)
+			.isBetween(0L, (long)failedRowOfFeature);
+		assertNumberOfRows(TABLE_CAR_FEATURE)
+			.isEqualTo((int)committedFeatures);
+
+		long testedNumber = getDataGenerator()
+			.setBatchSize(2)
+			.setCheckpointJournal(journal)
+			.generate(buildFacetsOfCheckpoint(numberOfCars, -1));
+
+		assertThat(testedNumber)
+			.isEqualTo(numberOfCars * 2 - committedFeatures);
+		assertThat(journalFile)
+			.doesNotExist();
+
+		assertNumberOfRows(TABLE_CAR)
+			.isEqualTo(numberOfCars);
+		assertFeaturesOfCars(numberOfCars * 2);
+	}
+
+	/**
+	 * Tests the continuous generation, which is stopped by number of rows or duration.
+	 */
+	@ParameterizedTest
+	@CsvSource({
+		"30,2000,10000,30,30",
+		"9223372036854775807,100,500,20,100",
+	})
+	void generateContinuously(
+		long numberOfRows, double rowsPerSecond, long durationMillis,
+		int minRows, int maxRows
+	) {
+		var facet = JdbcTableFacet.builder(TABLE_CAR)
+			.numberOfRows(numberOfRows)
+			.build();
+
+		long testedNumber = getDataGenerator()
+			.setBatchSize(16)
+			.generateContinuously(
+				facet, GenerationRate.rowsPerSecond(rowsPerSecond),
+				Duration.ofMillis(durationMillis)
+			);
+
+		assertThat(testedNumber)
+			.isBetween((long)minRows, (long)maxRows);
+		assertNumberOfRows(TABLE_CAR)
+			.isEqualTo((int)testedNumber);
+	}
+
+	/**
+	 * Tests the rows committed by policy reached in the middle of a batch,
+	 * which are visible to another connection.
+	 *
+	 * The connections of data source are not auto-committed, and the uncommitted rows are rolled back while closing.
+	 */
+	@ParameterizedTest
+	@MethodSource
+	void commitPolicyInMiddleOfBatch(
+		CommitPolicy commitPolicy, int numberOfRows, int batchSize
+	) {
+		var nonAutoCommitDataSource = new DelegatingDataSource(getDataSource()) {
+			@Override
+			public Connection getConnection() throws SQLException
+			{
+				var conn = super.getConnection();
+				conn.setAutoCommit(false);
+
+				return (Connection)Proxy.newProxyInstance(
+					Connection.class.getClassLoader(), new Class<?>[] { Connection.class },
+					(proxy, method, args) -> {
+						if (method.getName().equals("close")) {
+							conn.rollback();
+						}
+
+						try {
+							return method.invoke(conn, args);
+						} catch (InvocationTargetException e) {
+							throw e.getCause();
+						}
+					}
+				);
+			}
+		};
+
+		var dataOfCars = JdbcTableFacet.builder(TABLE_CAR)
+			.numberOfRows(numberOfRows)
+			.build();
+
+		new JdbcDataGenerator(nonAutoCommitDataSource)
+			.setBatchSize(batchSize)
+			.setCommitPolicy(commitPolicy)
+			.generate(dataOfCars);
+
+		assertNumberOfRows(TABLE_CAR)
+			.isEqualTo(numberOfRows);
+	}
+	static Arguments[] commitPolicyInMiddleOfBatch()
+	{
+		return new Arguments[] {
+			arguments(CommitPolicy.everyBytes(1), 10, 7),
+			arguments(CommitPolicy.everyBytes(100), 10, 7),
+			arguments(CommitPolicy.everyInterval(Duration.ofNanos(1)), 10, 7),
+		};
+	}
+
+	/**
+	 * Tests the commit policy of pre-assigned keys, which must keep the lock of table until the facet is finished.
+	 */
+	@ParameterizedTest
+	@MethodSource
+	void preAssigningKeysByCommitPolicy(
+		CommitPolicy commitPolicy, boolean expectedValid
+	) {
+		var testedGenerator = getDataGenerator()
+			.setPreAssigningKeys(true)
+			.setCommitPolicy(commitPolicy);
+		var dataOfCars = JdbcTableFacet.builder(TABLE_CAR)
+			.numberOfRows(3)
+			.build();
+
+		if (!expectedValid) {
+			assertThatThrownBy(() -> testedGenerator.generate(dataOfCars))
+				.isInstanceOf(IllegalStateException.class);
+			return;
+		}
+
+		testedGenerator.generate(dataOfCars);
+
+		assertNumberOfRows(TABLE_CAR)
+			.isEqualTo(3);
+	}
+	static Arguments[] preAssigningKeysByCommitPolicy()
+	{
+		return new Arguments[] {
+			arguments(CommitPolicy.perFacet(), true),
+			arguments(CommitPolicy.perGeneration(), true),
+			arguments(CommitPolicy.defaults(), false),
+			arguments(CommitPolicy.everyBytes(100), false),
+		};
+	}
+
+	/**
+	 * Tests the tuning of database, which is applied during generation and restored afterward.
+	 */
+	@ParameterizedTest
+	@CsvSource({
+		"3,2", "10,5",
+	})
+	void sessionTuning(
+		int numberOfCars, int featuresPerCar
+	) throws SQLException {
+		var namesOfIndexesWhileGenerating = new ArrayList<String>();
+
+		var dataOfCars = JdbcTableFacet.builder(TABLE_CAR)
+			.numberOfRows(numberOfCars)
+			.build();
+		var dataOfFeatures = featuresOf(dataOfCars, featuresPerCar)
+			.onTupleGenerated(tuple -> {
+				if (tuple.index() > 0) {
+					return;
+				}
+
+				try (var conn = getDataSource().getConnection()) {
+					IndexRebuilding.loadSecondaryIndexes(conn.getMetaData(), TABLE_CAR)
+						.forEach(index -> namesOfIndexesWhileGenerating.add(index.indexName().toLowerCase()));
+				} catch (SQLException e) {
+					throw new RuntimeJdbcException(e);
+				}
+			})
+			.build();
+
+		long testedNumber = getDataGenerator()
+			.setSessionTuning(
+				SessionTuning.ofVendor().andThen(SessionTuning.rebuildingIndexes())
+			)
+			.generate(dataOfCars, dataOfFeatures);
+
+		assertThat(testedNumber)
+			.isEqualTo(numberOfCars + numberOfCars * featuresPerCar);
+		assertFeaturesOfCars(numberOfCars * featuresPerCar);
+
+		assertThat(namesOfIndexesWhileGenerating)
+			.doesNotContain("ix_ap_car__cr_model", "ix_ap_car__cr_color");
+
+		/*
+		 * Asserts the restored indexes and referential integrity
+		 */
+		try (var conn = getDataSource().getConnection()) {
+			assertThat(IndexRebuilding.loadSecondaryIndexes(conn.getMetaData(), TABLE_CAR))
+				.extracting(index -> index.indexName().toLowerCase())
+				.contains("ix_ap_car__cr_model", "ix_ap_car__cr_color");
+		}
+
+		assertThatThrownBy(() -> getJdbcTemplate().update(
+			"INSERT INTO ap_car_feature(cf_cr_id, cf_feature_name) VALUES(-1, 'no-car')"
+		))
+			.isInstanceOf(DataIntegrityViolationException.class);
+		// :~)
+	}
+
+	/**
+	 * Tests the tuning applied once around the facets inserted at the same time.
+	 */
+	@Test
+	void sessionTuningWithConcurrencyOfFacets()
+	{
+		var appliedTimes = new MutableInt(0);
+		var restoredTimes = new MutableInt(0);
+
+		var dataOfCars = JdbcTableFacet.builder(TABLE_CAR)
+			.numberOfRows(3)
+			.build();
+		var dataOfMembers = JdbcTableFacet.builder(TABLE_MEMBER)
+			.numberOfRows(4)
+			.build();
+
+		getDataGenerator()
+			.setConcurrencyOfFacets(2)
+			.setSessionTuning((tunedConn, tableNames) -> {
+				appliedTimes.increment();
+
+				assertThat(tableNames)
+					.containsExactlyInAnyOrder(TABLE_CAR, TABLE_MEMBER);
+				assertThat(restoredTimes.intValue())
+					.isZero();
+
+				return restoredConn -> restoredTimes.increment();
+			})
+			.generate(dataOfCars, dataOfMembers);
+
+		assertThat(appliedTimes.intValue())
+			.isOne();
+		assertThat(restoredTimes.intValue())
+			.isOne();
+	}
+
+	/**
+	 * Tests the restoring of previous value of referential integrity(H2).
+	 */
+	@Test
+	void sessionTuningRestoresPreviousValue()
+	{
+		getJdbcTemplate().execute("SET REFERENTIAL_INTEGRITY FALSE");
+
+		try {
+			getDataGenerator()
+				.setSessionTuning(SessionTuning.ofVendor())
+				.generate(
+					JdbcTableFacet.builder(TABLE_CAR)
+						.numberOfRows(2)
+						.build()
+				);
+
+			/*
+			 * The orphan row is accepted since the referential integrity is kept disabled
+			 */
+			getJdbcTemplate().update(
+				"INSERT INTO ap_car_feature(cf_cr_id, cf_feature_name) VALUES(-1, 'no-car')"
+			);
+			assertNumberOfRows(TABLE_CAR_FEATURE, "cf_cr_id = -1")
+				.isEqualTo(1);
+			// :~)
+		} finally {
+			getJdbcTemplate().update("DELETE FROM ap_car_feature WHERE cf_cr_id = -1");
+			getJdbcTemplate().execute("SET REFERENTIAL_INTEGRITY TRUE");
+		}
+	}
+
+	/**
+	 * Tests the skipping of tuning while joining the transaction of connection.
+	 */
+	@Test
+	void sessionTuningWithJoinedConnection() throws SQLException
+	{
+		var appliedTimes = new MutableInt(0);
+
+		try (var conn = getDataSource().getConnection()) {
+			new JdbcDataGenerator(conn)
+				.setSessionTuning((tunedConn, tableNames) -> {
+					appliedTimes.increment();
+					return restoredConn -> {};
+				})
+				.generate(
+					JdbcTableFacet.builder(TABLE_CAR)
+						.numberOfRows(2)
+						.build()
+				);
+		}
+
+		assertThat(appliedTimes.intValue())
+			.isZero();
+	}
+
+	private static List<JdbcTableFacet> buildFacetsOfCheckpoint(int numberOfCars, int failedRowOfFeature)
+	{
+		var dataOfCars = JdbcTableFacet.builder(TABLE_CAR)
+			.keyOfInt("cr_id")
+				.limit(1000, numberOfCars)
+			.build();
+		var dataOfFeatures = featuresOf(dataOfCars, 2)
+			.onTupleGenerated(tuple -> {
+				if (tuple.index() == failedRowOfFeature) {
+					throw new IllegalStateException("Failed on row: " + failedRowOfFeature);
+				}
+			})
+			.build();
+
+		return List.of(dataOfCars, dataOfFeatures);
+	}
+
+	/**
+	 * Builds the features of cars, which reference the keys of cars generated by database.
+	 */
+	private static JdbcTableFacet.Builder featuresOf(JdbcTableFacet dataOfCars, int featuresPerCar)
+	{
+		return JdbcTableFacet.builder(TABLE_CAR_FEATURE)
+			.referencing("cf_cr_id")
+				.parent(dataOfCars, "cr_id")
+				.cardinality(featuresPerCar)
+			.column("cf_feature_name")
+				.forRow(rowIndex -> "Feature-" + (rowIndex + 1));
+	}
+
+	/**
+	 * Asserts the features referencing to existing cars.
+	 */
+	private void assertFeaturesOfCars(int expectedNumberOfFeatures)
+	{
+		assertNumberOfRows(
+			TABLE_CAR_FEATURE, "cf_cr_id IN (SELECT cr_id FROM ap_car)"
+		)
+			.isEqualTo(expectedNumberOfFeatures);
+	}
+
+	/**
+	 * The insertion executed on database.
+	 *
+	 * @param numberOfRows The number of rows in batch, or the rows in {@code VALUES} of a single statement
+	 * (0 for a statement without parameters)
+	 *
+	 * @see #recordingInsertions(List)
+	 */
+	private record ExecutedInsertion(String sql, String threadName, int numberOfRows) {
+		ExecutedInsertion(String sql, int numberOfRows)
+		{
+			this(sql, Thread.currentThread().getName(), numberOfRows);
+		}
+
+		boolean isOf(String tableName)
+		{
+			return sql.replace("\"", "").toLowerCase()
+				.startsWith("insert into " + tableName.toLowerCase() + " ");
+		}
+
+		static int rowsInValues(String sql)
+		{
+			return StringUtils.countMatches(sql, "(?");
+		}
+	}
+
+	/**
+	 * Builds the data source recording the insertions executed by its connections.
+	 *
+	 * @param executedInsertions The list should be thread-safe, which is added by lanes of parallelism
+	 */
+	private DataSource recordingInsertions(List<ExecutedInsertion> executedInsertions)
+	{
+		return new DelegatingDataSource(getDataSource()) {
+			@Override
+			public Connection getConnection() throws SQLException
+			{
+				return proxyOf(Connection.class, super.getConnection(), (method, args, result) -> {
+					if (method.getName().equals("createStatement")) {
+						return recordingStatement((Statement)result, executedInsertions);
+					}
+
+					if (method.getName().equals("prepareStatement")) {
+						return recordingStatement((PreparedStatement)result, (String)args[0], executedInsertions);
+					}
+
+					return result;
+				});
+			}
+		};
+	}
+
+	private static Statement recordingStatement(Statement stmt, List<ExecutedInsertion> executedInsertions)
+	{
+		return proxyOf(Statement.class, stmt, (method, args, result) -> {
+			if (method.getName().startsWith("execute") && args != null && args[0] instanceof String sql) {
+				executedInsertions.add(new ExecutedInsertion(sql, 0));
+			}
+
+			return result;
+		});
+	}
+
+	private static PreparedStatement recordingStatement(
+		PreparedStatement stmt, String sql, List<ExecutedInsertion> executedInsertions
+	) {
+		var rowsOfBatch = new MutableInt(0);
+
+		return proxyOf(PreparedStatement.class, stmt, (method, args, result) -> {
+			switch (method.getName()) {
+				case "addBatch" -> rowsOfBatch.increment();
+				case "clearBatch" -> rowsOfBatch.setValue(0);
+				case "executeBatch", "executeLargeBatch" -> {
+					executedInsertions.add(new ExecutedInsertion(sql, rowsOfBatch.intValue()));
+					rowsOfBatch.setValue(0);
+				}
+				case "execute", "executeUpdate", "executeLargeUpdate" -> executedInsertions.add(
+					new ExecutedInsertion(sql, ExecutedInsertion.rowsInValues(sql))
+				);
+				default -> {}
+			}
+
+			return result;
+		});
+	}
+
+	/**
+	 * Intercepts the result of method invoked on the target of proxy.
+	 */
+	private interface Interception {
+		Object intercept(Method method, Object[] args, Object result) throws Throwable;
+	}
+
+	private static <T> T proxyOf(Class<T> type, T target, Interception interception)
+	{
+		return type.cast(Proxy.newProxyInstance(
+			type.getClassLoader(), new Class<?>[] { type },
+			(proxy, method, args) -> {
+				Object result;
+				try {
+					result = method.invoke(target, args);
+				} catch (InvocationTargetException e) {
+					throw e.getCause();
+				}
+
+				return interception.intercept(method, args, result);
+			}
+		));
+	}
+
 	private JdbcDataGenerator getDataGenerator()
 	{
 		return new JdbcDataGenerator(getDataSource());
@@ -16,7 +16,6 @@ import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.CsvSource;
 import org.junit.jupiter.params.provider.MethodSource;
 
-import guru.mikelue.foxglove.TupleAccessor;
 import guru.mikelue.foxglove.functional.SupplierDecider;
 import guru.mikelue.foxglove.setting.DataSetting;
 import guru.mikelue.misc.testlib.AbstractTestBase;
@@ -53,15 +52,12 @@ public class JdbcTableFacetTest extends AbstractTestBase {
 		var columnMetaOfParentId = newColumnMeta(
 			"pt_id", JDBCType.INTEGER
 		);
-		var tupleSchema = new TupleAccessorImpl.TupleSchema(
-			List.of(columnMetaOfParentId)
-		);
+		var columnsOfParent = List.of(columnMetaOfParentId);
+		var keptNames = parentTable.getValueTomb().keptColumnNamesOf(columnsOfParent);
 
 		IntStream.range(0, numberOfParents)
-			.<TupleAccessor>mapToObj(i -> tupleSchema.createTupleAccessor(
-				Map.of(columnMetaOfParentId, 10 + i), i
-			))
-			.forEach(parentTable.getValueTomb()::preserveProtoData);
+			.mapToObj(i -> new RowValues(columnsOfParent, new Object[] { 10 + i }))
+			.forEach(row -> parentTable.getValueTomb().preserveProtoData(keptNames, row));
 		// :~)
 
 		/*
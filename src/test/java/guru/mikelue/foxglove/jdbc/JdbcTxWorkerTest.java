@@ -3,7 +3,9 @@ package guru.mikelue.foxglove.jdbc;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.MethodSource;
 
 import java.sql.*;
 import java.util.LinkedHashMap;
@@ -18,6 +20,7 @@ import mockit.Verifications;
 
 import static guru.mikelue.foxglove.ColumnMetaTestUtils.newColumnMeta;
 import static java.sql.Statement.RETURN_GENERATED_KEYS;
+import static org.junit.jupiter.params.provider.Arguments.arguments;
 import static org.assertj.core.api.Assertions.assertThat;
 
 public class JdbcTxWorkerTest extends AbstractTestBase {
@@ -46,20 +49,21 @@ public class JdbcTxWorkerTest extends AbstractTestBase {
 	 */
 	@ParameterizedTest
 	@CsvSource({
-		"3,10,1", // No remaining batch
-		"3,10,2", // No remaining batch
-		"10,5,1", // No remaining batch
-		"10,5,2", // No remaining batch
-		"20,7,1", // Has remaining batch
-		"20,7,3", // Has remaining batch
+		"3,10,1,0", // No remaining batch
+		"3,10,2,0", // No remaining batch
+		"10,5,1,0", // No remaining batch
+		"10,5,2,0", // No remaining batch
+		"20,7,1,0", // Has remaining batch
+		// Has remaining batch, the commits reached by rows of previous table execute the pending rows of next table
+		"20,7,3,2",
 	})
 	void byBatchSize(
 		int numberOfRows, int batchSize,
-		int tableCount
+		int tableCount, int batchesBeforeCommit
 	) throws SQLException {
 		final int remainBatch = (numberOfRows % batchSize == 0) ? 0 : 1;
 
-		var txGear = new TransactionGear(
+		var txGear = TransactionGear.of(
 			mockConn, batchSize, false
 		);
 
@@ -78,8 +82,8 @@ public class JdbcTxWorkerTest extends AbstractTestBase {
 			mockConn.setAutoCommit(false);
 			times = 1;
 
-			mockStmt.executeBatch();
-			times = (numberOfRows / batchSize + remainBatch) * tableCount;
+			mockStmt.executeLargeBatch();
+			times = (numberOfRows / batchSize + remainBatch) * tableCount + batchesBeforeCommit;
 
 			mockConn.commit();
 			times = (numberOfRows * tableCount) / batchSize + remainBatch;
@@ -108,7 +112,7 @@ public class JdbcTxWorkerTest extends AbstractTestBase {
 	) throws SQLException {
 		final int remainBatch = (numberOfRows % batchSize == 0) ? 0 : 1;
 
-		var txGear = new TransactionGear(
+		var txGear = TransactionGear.of(
 			mockConn, batchSize, true
 		);
 
@@ -127,7 +131,7 @@ public class JdbcTxWorkerTest extends AbstractTestBase {
 			mockConn.setAutoCommit(anyBoolean);
 			times = 0;
 
-			mockStmt.executeBatch();
+			mockStmt.executeLargeBatch();
 			times = (numberOfRows / batchSize + remainBatch) * tableCount;
 
 			mockConn.commit();
@@ -136,6 +140,129 @@ public class JdbcTxWorkerTest extends AbstractTestBase {
 		// :~)
 	}
 
+	/**
+	 * Tests the transaction controlled by commit policy.
+	 */
+	@ParameterizedTest
+	@MethodSource
+	void byCommitPolicy(
+		CommitPolicy commitPolicy,
+		int numberOfRows, int batchSize, int tableCount,
+		int expectedBatches, int expectedCommits
+	) throws SQLException {
+		var txGear = TransactionGear.of(mockConn, batchSize, false)
+			.withCommitPolicy(commitPolicy);
+
+		mockAndExerciseInsertion(
+			numberOfRows, batchSize, tableCount,
+			txGear
+		);
+
+		new Verifications() {{
+			mockStmt.executeLargeBatch();
+			times = expectedBatches;
+
+			mockConn.commit();
+			times = expectedCommits;
+		}};
+	}
+	static Arguments[] byCommitPolicy()
+	{
+		return new Arguments[] {
+			arguments(CommitPolicy.everyBatches(2), 20, 5, 1, 4, 2),
+			// Has remaining rows
+			arguments(CommitPolicy.everyBatches(2), 20, 7, 1, 3, 2),
+			arguments(CommitPolicy.perFacet(), 20, 7, 3, 9, 3),
+			arguments(CommitPolicy.perGeneration(), 20, 7, 3, 9, 1),
+			/*
+			 * 21 bytes per row("sample-string" and integer)
+			 *
+			 * The pending rows are executed before every commit
+			 */
+			arguments(CommitPolicy.everyBytes(42), 10, 7, 1, 5, 5),
+			arguments(CommitPolicy.everyBytes(63), 10, 7, 1, 4, 4),
+			// :~)
+		};
+	}
+
+	/**
+	 * Tests the generated keys are not asked if no kept column is generated by database.
+	 */
+	@ParameterizedTest
+	@CsvSource({
+		"3,10", "20,7",
+	})
+	void withoutGeneratedKeys(
+		int numberOfRows, int batchSize
+	) throws SQLException {
+		var sampleColumns = List.of(
+			newColumnMeta("col1", JDBCType.VARCHAR)
+		);
+		var sampleResultOfGeneratedRow = new LinkedHashMap<ColumnMeta, Object>();
+		sampleResultOfGeneratedRow.put(sampleColumns.get(0), "sample-string");
+
+		new Expectations() {{
+			mockConn.prepareStatement(anyString);
+			result = mockStmt;
+
+			mockConn.getMetaData().getDriverName();
+			result = "HSQL Database Engine Driver";
+
+			mockRowGenerator.generateRowParams();
+			result = sampleResultOfGeneratedRow;
+		}};
+
+		try (var testedWorker = new JdbcTxWorker(
+			TransactionGear.of(mockConn, batchSize, false)
+		)) {
+			testedWorker.performInsert(
+				new JdbcTxWorker.InsertionContext(
+					"INSERT INTO any_table(col1) VALUES(?)", numberOfRows, new String[0],
+					mockRowGenerator::generateRowParams,
+					new DataSetting(),
+					"any_table", sampleColumns, false
+				),
+				v -> {}
+			);
+		}
+
+		new Verifications() {{
+			mockConn.prepareStatement(anyString, anyInt);
+			times = 0;
+
+			mockStmt.executeLargeBatch();
+			times = (numberOfRows + batchSize - 1) / batchSize;
+
+			mockStmt.getGeneratedKeys();
+			times = 0;
+		}};
+	}
+
+	/**
+	 * Tests the statement pooled by SQL, which is closed with the worker.
+	 */
+	@ParameterizedTest
+	@CsvSource({
+		"3,10,1", "20,7,3",
+	})
+	void pooledStatements(
+		int numberOfRows, int batchSize,
+		int tableCount
+	) throws SQLException {
+		mockAndExerciseInsertion(
+			numberOfRows, batchSize, tableCount,
+			TransactionGear.of(mockConn, batchSize, false)
+		);
+
+		new Verifications() {{
+			mockConn.prepareStatement(anyString, RETURN_GENERATED_KEYS);
+			times = 1;
+
+			mockStmt.close();
+			times = 1;
+		}};
+	}
+
 	private void mockAndExerciseInsertion(
 		int numberOfRows, int batchSize,
 		int tableCount,
@@ -179,7 +306,7 @@ public class JdbcTxWorkerTest extends AbstractTestBase {
 		 * Performs insert operations
 		 */
 		try (var testedWorker = new JdbcTxWorker(txGear)) {
-			int numberOfGeneratedRows = 0;
+			long numberOfGeneratedRows = 0;
 
 			var insertSql = MetaUtils.buildInsertSql(
 				mockDbMeta,
@@ -0,0 +1,170 @@
+package guru.mikelue.foxglove.jdbc;
+
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.JDBCType;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import guru.mikelue.foxglove.ColumnMeta;
+import guru.mikelue.misc.testlib.AbstractTestBase;
+import mockit.Expectations;
+import mockit.Mocked;
+import mockit.VerificationsInOrder;
+
+import static guru.mikelue.foxglove.ColumnMeta.Property.AUTO_INCREMENT;
+import static guru.mikelue.foxglove.ColumnMetaTestUtils.newColumnMeta;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class KeyPreAssignerTest extends AbstractTestBase {
+	@Mocked
+	private Connection mockConn;
+
+	@Mocked
+	private DatabaseMetaData mockDbMeta;
+
+	@Mocked
+	private Statement mockStmt;
+
+	@Mocked
+	private ResultSet mockRs;
+
+	private final static List<ColumnMeta> SAMPLE_COLUMNS = List.of(
+		newColumnMeta("cr_id", JDBCType.BIGINT, AUTO_INCREMENT),
+		newColumnMeta("cr_name", JDBCType.VARCHAR)
+	);
+
+	public KeyPreAssignerTest() {}
+
+	@BeforeEach
+	void setup() {}
+
+	@AfterEach
+	void tearDown() {}
+
+	/**
+	 * Tests the applicability by driver and kept columns.
+	 */
+	@ParameterizedTest
+	@CsvSource({
+		"Apache Derby Embedded JDBC Driver,cr_id,true",
+		"SQLite JDBC,cr_id,true",
+		"Microsoft JDBC Driver 11.2 for SQL Server,cr_id,true",
+		// Driver gives all of the generated keys
+		"H2 JDBC Driver,cr_id,false",
+		// Key is not kept
+		"SQLite JDBC,,false",
+	})
+	void of(
+		String driverName, String keptColumn, boolean expectedApplicable
+	) {
+		var sampleTomb = new ValueTomb("ap_car");
+		if (keptColumn != null) {
+			sampleTomb.keepColumn(keptColumn);
+		}
+
+		var testedAssigner = KeyPreAssigner.of(
+			driverName, "ap_car",
+			SAMPLE_COLUMNS, List.of(SAMPLE_COLUMNS.get(1)),
+			sampleTomb
+		);
+
+		assertThat(testedAssigner != null)
+			.isEqualTo(expectedApplicable);
+	}
+
+	/**
+	 * Tests the reserving of keys on Derby, which locks the table and restarts the identity.
+	 */
+	@Test
+	void reserveAndRelease() throws SQLException
+	{
+		var sampleTomb = new ValueTomb("ap_car");
+		sampleTomb.keepColumn("cr_id");
+
+		new Expectations() {{
+			mockConn.getMetaData();
+			result = mockDbMeta;
+
+			mockDbMeta.getIdentifierQuoteString();
+			result = "\"";
+
+			mockConn.createStatement();
+			result = mockStmt;
+
+			mockStmt.executeQuery("SELECT MAX(cr_id) FROM ap_car");
+			result = mockRs;
+
+			mockRs.getLong(1);
+			result = 20L;
+		}};
+
+		var testedAssigner = KeyPreAssigner.of(
+			"Apache Derby Embedded JDBC Driver", "ap_car",
+			SAMPLE_COLUMNS, List.of(SAMPLE_COLUMNS.get(1)),
+			sampleTomb
+		);
+
+		var testedSupplier = testedAssigner.reserve(mockConn);
+
+		assertThat(List.of(testedSupplier.get(), testedSupplier.get()))
+			.containsExactly(21L, 22L);
+
+		testedAssigner.release(mockConn);
+
+		new VerificationsInOrder() {{
+			mockStmt.execute("LOCK TABLE ap_car IN EXCLUSIVE MODE");
+			mockStmt.executeQuery("SELECT MAX(cr_id) FROM ap_car");
+			mockStmt.execute("ALTER TABLE ap_car ALTER COLUMN cr_id RESTART WITH 23");
+		}};
+	}
+
+	/**
+	 * Tests the lock taken before the query of maximum key, which blocks the other writers.
+	 */
+	@ParameterizedTest
+	@CsvSource({
+		"Apache Derby Embedded JDBC Driver,LOCK TABLE ap_car IN EXCLUSIVE MODE",
+		"SQLite JDBC,DELETE FROM ap_car WHERE 1 = 0",
+	})
+	void reserveWithLock(
+		String driverName, String expectedLockSql
+	) throws SQLException {
+		var sampleTomb = new ValueTomb("ap_car");
+		sampleTomb.keepColumn("cr_id");
+
+		new Expectations() {{
+			mockConn.getMetaData();
+			result = mockDbMeta;
+
+			mockDbMeta.getIdentifierQuoteString();
+			result = "\"";
+
+			mockConn.createStatement();
+			result = mockStmt;
+
+			mockStmt.executeQuery("SELECT MAX(cr_id) FROM ap_car");
+			result = mockRs;
+		}};
+
+		KeyPreAssigner.of(
+			driverName, "ap_car",
+			SAMPLE_COLUMNS, List.of(SAMPLE_COLUMNS.get(1)),
+			sampleTomb
+		)
+			.reserve(mockConn);
+
+		new VerificationsInOrder() {{
+			mockStmt.execute(expectedLockSql);
+			mockStmt.executeQuery("SELECT MAX(cr_id) FROM ap_car");
+		}};
+	}
+}
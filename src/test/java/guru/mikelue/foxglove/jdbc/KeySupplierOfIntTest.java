@@ -8,6 +8,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.CsvSource;
 import org.junit.jupiter.params.provider.MethodSource;
 
 import guru.mikelue.misc.testlib.AbstractTestBase;
@@ -104,6 +105,24 @@ public class KeySupplierOfIntTest extends AbstractTestBase {
 		};
 	}
 
+	/**
+	 * Tests the number of rows over the range of int.
+	 */
+	@ParameterizedTest
+	@CsvSource({
+		"0,3000000000,1,3000000000",
+		"1,5000000001,2,2500000000",
+	})
+	void numberOfRowsOverInt(
+		long start, long end, int step,
+		long expectedNumberOfRows
+	) {
+		var testedSupplier = KeySupplierOfInt.byRange(start, end, step);
+
+		assertThat(testedSupplier.getNumberOfRows())
+			.isEqualTo(expectedNumberOfRows);
+	}
+
 	private static void assertGeneratedValue(
 		KeySupplierOfInt testedSupplier,
 		Long[] expectedValues
@@ -4,6 +4,7 @@ import java.sql.Connection;
 import java.sql.DatabaseMetaData;
 import java.sql.JDBCType;
 import java.sql.SQLException;
+import java.util.ArrayList;
 import java.util.List;
 
 import org.junit.jupiter.api.AfterEach;
@@ -11,12 +12,15 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
 
+import guru.mikelue.foxglove.ColumnMeta;
+import guru.mikelue.foxglove.ColumnMeta.Property;
 import guru.mikelue.misc.testlib.AbstractTestBase;
 
 import mockit.Expectations;
 import mockit.Mocked;
 
 import static guru.mikelue.foxglove.ColumnMetaTestUtils.newColumnMeta;
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatNoException;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
@@ -73,4 +77,50 @@ public class MetaDataCacheTest extends AbstractTestBase {
 				.hasMessageContaining(columnName);
 		}
 	}
+
+	/**
+	 * Tests the plan of insertion, which is built once for the same target columns.
+	 */
+	@ParameterizedTest
+	@CsvSource({
+		"true,BIGINT,'',false",
+		"false,BIGINT,col_id,true",
+		"false,VARCHAR,col_id,false",
+	})
+	@SuppressWarnings("unchecked")
+	void insertPlan(
+		boolean generatingKey, JDBCType typeOfKey,
+		String expectedGeneratedColumn, boolean expectedIntegralKey
+	) throws SQLException
+	{
+		var keyColumn = newColumnMeta("col_id", typeOfKey, Property.AUTO_INCREMENT);
+		var valueColumn = newColumnMeta("col_value", JDBCType.VARCHAR);
+
+		new Expectations() {{
+			MetaUtils.getColumnMetaList((DatabaseMetaData)any, TEST_TABLE);
+			result = List.of(keyColumn, valueColumn);
+
+			MetaUtils.buildInsertSql((DatabaseMetaData)any, TEST_TABLE, (List<ColumnMeta>)any);
+			result = "INSERT INTO ap_table";
+			times = 1;
+		}};
+
+		var testedMeta = new MetaDataCache(mockConn);
+		testedMeta.loadMetadata(List.of(JdbcTableFacet.builder(TEST_TABLE).build()), mockConn);
+
+		var targetColumns = generatingKey ?
+			List.of(keyColumn, valueColumn) : List.of(valueColumn);
+
+		var testedPlan = testedMeta.getInsertPlan(mockConn, TEST_TABLE, targetColumns);
+
+		assertThat(testedMeta.getInsertPlan(mockConn, TEST_TABLE, new ArrayList<>(targetColumns)))
+			.isSameAs(testedPlan);
+		assertThat(testedPlan.namesOfGeneratedColumns())
+			.containsExactly(
+				expectedGeneratedColumn.isEmpty() ?
+					new String[0] : new String[] { expectedGeneratedColumn }
+			);
+		assertThat(testedPlan.integralGeneratedKey())
+			.isEqualTo(expectedIntegralKey);
+	}
 }
@@ -269,6 +269,52 @@ public class MetaUtilsTest extends AbstractTestBase {
 			.contains("?, ?, ?");
 	}
 
+	/**
+	 * Tests the building SQL with multiple rows of VALUES.
+	 */
+	@Test
+	void buildInsertSqlOfMultiRows() throws SQLException
+	{
+		var sampleColumns = List.of(
+			newColumnMeta("kc_name", JDBCType.VARCHAR),
+			newColumnMeta("kc_age", JDBCType.INTEGER)
+		);
+
+		new Expectations() {{
+			mockDbMeta.getIdentifierQuoteString();
+			result = "`";
+		}};
+
+		var testedSql = MetaUtils.buildInsertSql(mockDbMeta, "kc_person", sampleColumns, 3);
+
+		getLogger().debug("Generated SQL:\n{}", testedSql);
+
+		assertThat(testedSql)
+			.contains("INSERT INTO kc_person (kc_name, kc_age)")
+			.containsOnlyOnce("VALUES")
+			.satisfies(sql -> assertThat(sql.chars().filter(c -> c == '?').count()).isEqualTo(6));
+	}
+
+	/**
+	 * Tests the number of rows for multi-row statement by limitation of drivers.
+	 */
+	@ParameterizedTest
+	@CsvSource({
+		"SQLite JDBC,10,1024,99",
+		"SQLite JDBC,1,1024,999",
+		"Microsoft JDBC Driver 11.2 for SQL Server,2,1024,1000",
+		"H2 JDBC Driver,10,64,64",
+		"H2 JDBC Driver,0,64,1",
+		"Unknown Driver,2000,64,1",
+	})
+	void rowsPerMultiRowStatement(
+		String driverName, int numberOfColumns, int batchSize,
+		int expectedRows
+	) {
+		assertThat(MetaUtils.rowsPerMultiRowStatement(driverName, numberOfColumns, batchSize))
+			.isEqualTo(expectedRows);
+	}
+
 	private void mockOneRow() throws SQLException
 	{
 		new Expectations() {{
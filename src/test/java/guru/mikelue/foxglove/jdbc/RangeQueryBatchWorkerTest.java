@@ -0,0 +1,98 @@
+package guru.mikelue.foxglove.jdbc;
+
+import java.sql.JDBCType;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import guru.mikelue.foxglove.ColumnMeta;
+import guru.mikelue.foxglove.TupleAccessor;
+import guru.mikelue.foxglove.setting.DataSetting;
+import guru.mikelue.foxglove.test.AbstractJdbcTestBase;
+
+import static guru.mikelue.foxglove.ColumnMetaTestUtils.newColumnMeta;
+import static guru.mikelue.foxglove.test.SampleSchema.*;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class RangeQueryBatchWorkerTest extends AbstractJdbcTestBase {
+	public RangeQueryBatchWorkerTest() {}
+
+	@BeforeEach
+	void setup()
+	{
+		deleteAll(TABLE_DATA_TYPES, TABLE_RENT, TABLE_CAR_FEATURE, TABLE_CAR, TABLE_CAR_ARCHIVED, TABLE_MEMBER);
+	}
+
+	@AfterEach
+	void tearDown() {}
+
+	/**
+	 * Tests the generated keys of batches are queried by range,
+	 * which are in the same order of inserted rows.
+	 */
+	@ParameterizedTest
+	@CsvSource({
+		"3,10", "10,5", "20,7",
+	})
+	void executeBatch(
+		int numberOfRows, int batchSize
+	) throws SQLException {
+		var columns = List.of(
+			newColumnMeta("cr_license_plate", JDBCType.VARCHAR),
+			newColumnMeta("cr_brand", JDBCType.VARCHAR),
+			newColumnMeta("cr_model", JDBCType.VARCHAR),
+			newColumnMeta("cr_year", JDBCType.SMALLINT)
+		);
+		var fetchedTuples = new ArrayList<TupleAccessor>(numberOfRows);
+
+		try (var conn = getDataSource().getConnection()) {
+			conn.setAutoCommit(false);
+
+			try (var stmt = conn.prepareStatement(
+					"INSERT INTO ap_car(cr_license_plate, cr_brand, cr_model, cr_year) VALUES(?, ?, ?, ?)"
+				);
+				var testedWorker = BatchWorker.newInstance(
+					DriverCapabilities.ofDriverName("Apache Derby Embedded JDBC Driver"), BatchMode.Default,
+					stmt, null, new KeyRangeQuery(conn, TABLE_CAR, "cr_id"), true,
+					new String[] { "cr_id" }, fetchedTuples::addAll,
+					BatchSizer.fixed(batchSize), new DataSetting(), true
+				)
+			) {
+				assertThat(testedWorker)
+					.isInstanceOf(RangeQueryBatchWorker.class);
+
+				for (int i = 0; i < numberOfRows; i++) {
+					var row = new LinkedHashMap<ColumnMeta, Object>();
+					row.put(columns.get(0), "RQ-" + i);
+					row.put(columns.get(1), "Brand");
+					row.put(columns.get(2), "Model");
+					row.put(columns.get(3), (short)2020);
+
+					testedWorker.addBatch(row);
+				}
+
+				testedWorker.executeBatch();
+			}
+
+			conn.commit();
+		}
+
+		var expectedKeys = getJdbcTemplate().queryForList(
+			"SELECT cr_id FROM ap_car ORDER BY cr_license_plate", Long.class
+		);
+		var testedKeys = fetchedTuples.stream()
+			.map(tuple -> ((Number)tuple.getValue("cr_id")).longValue())
+			.toList();
+
+		assertThat(testedKeys)
+			.hasSize(numberOfRows)
+			.isSorted()
+			.containsExactlyInAnyOrderElementsOf(expectedKeys);
+	}
+}
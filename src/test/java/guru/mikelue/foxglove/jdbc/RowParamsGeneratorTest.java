@@ -8,9 +8,14 @@ import org.junit.jupiter.api.Test;
 
 import guru.mikelue.misc.testlib.AbstractTestBase;
 
+import guru.mikelue.foxglove.functional.Float8Supplier;
+import guru.mikelue.foxglove.functional.Int4SequenceSupplier;
+import guru.mikelue.foxglove.functional.Int8SequenceSupplier;
 import guru.mikelue.foxglove.setting.DataSetting;
 
 import static guru.mikelue.foxglove.ColumnMetaTestUtils.newColumnMeta;
+import static java.sql.JDBCType.BIGINT;
+import static java.sql.JDBCType.DOUBLE;
 import static java.sql.JDBCType.INTEGER;
 import static java.sql.JDBCType.VARCHAR;
 import static org.assertj.core.api.Assertions.assertThat;
@@ -61,4 +66,42 @@ public class RowParamsGeneratorTest extends AbstractTestBase {
 			.containsExactly("v1", 40, "v2");
 		// :~)
 	}
+
+	/**
+	 * Tests the rows generated by specialized slots of columns, which are identical to the ones by loop of suppliers.
+	 */
+	@Test
+	void specialize()
+	{
+		var tableFacet = JdbcTableFacet.builder("any_table")
+			.column("sp_col1").fixed("v1")
+			.column("sp_col2").useSupplier(new Int4SequenceSupplier(10))
+			.column("sp_col3").useSupplier((Float8Supplier)() -> 2.5)
+			.column("sp_col4").useSupplier(new Int8SequenceSupplier(30))
+			.build();
+
+		var sampleMetaOfColumns = List.of(
+			newColumnMeta("sp_col1"),
+			newColumnMeta("sp_col2", INTEGER),
+			newColumnMeta("sp_col3", DOUBLE),
+			newColumnMeta("sp_col4", BIGINT)
+		);
+
+		var testedGenerator = new RowParamsGenerator(
+			tableFacet, sampleMetaOfColumns, new DataSetting()
+		);
+
+		assertThat(testedGenerator.specialize())
+			.isTrue();
+
+		var firstRow = testedGenerator.generateRowValues();
+		var secondRow = testedGenerator.generateRowValues();
+
+		assertThat(firstRow.values())
+			.containsExactly("v1", 10, 2.5, 30L);
+		assertThat(secondRow.values())
+			.containsExactly("v1", 11, 2.5, 31L);
+		assertThat(secondRow.primitiveTypeAt(1))
+			.isEqualTo(RowValues.PrimitiveType.Int4);
+	}
 }
@@ -0,0 +1,110 @@
+package guru.mikelue.foxglove.jdbc;
+
+import java.util.ArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import guru.mikelue.misc.testlib.AbstractTestBase;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
+
+public class RowPipelineTest extends AbstractTestBase {
+	public RowPipelineTest() {}
+
+	@BeforeEach
+	void setup() {}
+
+	@AfterEach
+	void tearDown() {}
+
+	/**
+	 * Tests the rows are taken in the order of generating.
+	 */
+	@ParameterizedTest
+	@CsvSource({
+		"10,1", "10,3", "3,10",
+	})
+	void get(int numberOfRows, int capacity)
+	{
+		var counter = new AtomicInteger(0);
+		var testedResult = new ArrayList<Integer>(numberOfRows);
+
+		try (var testedPipeline = new RowPipeline<>(
+			counter::getAndIncrement, numberOfRows, capacity, "test"
+		)) {
+			for (int i = 0; i < numberOfRows; i++) {
+				testedResult.add(testedPipeline.get());
+			}
+		}
+
+		assertThat(testedResult)
+			.hasSize(numberOfRows)
+			.isSorted()
+			.startsWith(0)
+			.endsWith(numberOfRows - 1);
+	}
+
+	/**
+	 * Tests the exception thrown by producer is re-thrown to consumer,
+	 * after the rows generated before the failure.
+	 */
+	@Test
+	void failureOfProducer()
+	{
+		var counter = new AtomicInteger(0);
+
+		try (var testedPipeline = new RowPipeline<Integer>(
+			() -> {
+				var value = counter.getAndIncrement();
+				if (value == 2) {
+					throw new IllegalArgumentException("Sample failure");
+				}
+
+				return value;
+			},
+			10, 1, "test"
+		)) {
+			assertThat(testedPipeline.get()).isEqualTo(0);
+			assertThat(testedPipeline.get()).isEqualTo(1);
+
+			assertThatThrownBy(testedPipeline::get)
+				.isInstanceOf(IllegalArgumentException.class)
+				.hasMessage("Sample failure");
+		}
+	}
+
+	/**
+	 * Tests the producer is blocked by full buffer and is stopped by closing.
+	 */
+	@Test
+	void backpressure()
+	{
+		final int capacity = 2;
+		var counter = new AtomicInteger(0);
+
+		var testedPipeline = new RowPipeline<>(
+			counter::getAndIncrement, 100, capacity, "test"
+		);
+
+		/*
+		 * The producer is blocked with one more generated row than the capacity
+		 */
+		await()
+			.until(() -> counter.get() == capacity + 1);
+		assertThat(counter.get())
+			.isEqualTo(capacity + 1);
+		// :~)
+
+		testedPipeline.close();
+
+		assertThat(counter.get())
+			.isEqualTo(capacity + 1);
+	}
+}
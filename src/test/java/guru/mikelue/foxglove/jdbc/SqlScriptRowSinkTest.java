@@ -0,0 +1,133 @@
+package guru.mikelue.foxglove.jdbc;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.JDBCType;
+import java.util.HashMap;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import guru.mikelue.foxglove.ColumnMeta;
+import guru.mikelue.misc.testlib.AbstractTestBase;
+
+import static guru.mikelue.foxglove.ColumnMetaTestUtils.newColumnMeta;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class SqlScriptRowSinkTest extends AbstractTestBase {
+	@TempDir
+	private Path tempDir;
+
+	public SqlScriptRowSinkTest() {}
+
+	@BeforeEach
+	void setup() {}
+
+	@AfterEach
+	void tearDown() {}
+
+	/**
+	 * Tests the number of statements and literals of values.
+	 */
+	@ParameterizedTest
+	@CsvSource({
+		"false,5,2,1",
+		"true,5,2,1",
+		"false,4,2,2",
+		"true,7,3,1",
+	})
+	void writeRow(
+		boolean gzip, int numberOfRows, int rowsPerStatement,
+		int expectedNumberOfRemainingRows
+	) throws IOException {
+		var columns = List.of(
+			newColumnMeta("cr_id", JDBCType.BIGINT),
+			newColumnMeta("cr_brand", JDBCType.VARCHAR),
+			newColumnMeta("cr_image", JDBCType.VARBINARY),
+			newColumnMeta("cr_active", JDBCType.BOOLEAN)
+		);
+
+		try (var testedSink = new SqlScriptRowSink(tempDir)
+			.setGzip(gzip)
+			.setRowsPerStatement(rowsPerStatement)
+		) {
+			testedSink.beginTable("ap_car", columns);
+
+			for (int i = 0; i < numberOfRows; i++) {
+				var row = new HashMap<ColumnMeta, Object>();
+				row.put(columns.get(0), i);
+				row.put(columns.get(1), "Mike's");
+				row.put(columns.get(2), new byte[] { 0x0a, (byte)0xff });
+				row.put(columns.get(3), null);
+
+				testedSink.writeRow(row);
+			}
+
+			testedSink.endTable();
+		}
+
+		var testedScript = readText(
+			tempDir.resolve("001-ap_car.sql" + (gzip ? ".gz" : "")), gzip
+		);
+		var testedStatements = testedScript.split(";\n");
+
+		assertThat(testedStatements)
+			.hasSize((numberOfRows + rowsPerStatement - 1) / rowsPerStatement)
+			.allMatch(statement -> statement.startsWith("INSERT INTO ap_car (cr_id, cr_brand, cr_image, cr_active)\nVALUES "));
+		assertThat(testedStatements[testedStatements.length - 1].split("\n\t"))
+			.hasSize(expectedNumberOfRemainingRows);
+		assertThat(testedScript)
+			.contains("(0, 'Mike''s', X'0AFF', NULL)");
+	}
+
+	/**
+	 * Tests the rejection of numbers having no SQL literal.
+	 */
+	@ParameterizedTest
+	@MethodSource
+	void writeRowWithNonFiniteNumber(
+		Number nonFiniteNumber
+	) throws IOException {
+		var columns = List.of(
+			newColumnMeta("cr_daily_rate", JDBCType.DOUBLE)
+		);
+
+		try (var testedSink = new SqlScriptRowSink(tempDir)) {
+			testedSink.beginTable("ap_car", columns);
+
+			var row = new HashMap<ColumnMeta, Object>();
+			row.put(columns.get(0), nonFiniteNumber);
+
+			assertThatThrownBy(() -> testedSink.writeRow(row))
+				.isInstanceOf(IllegalArgumentException.class)
+				.hasMessageContaining(nonFiniteNumber.toString());
+		}
+	}
+	static Number[] writeRowWithNonFiniteNumber()
+	{
+		return new Number[] {
+			Double.NaN, Double.POSITIVE_INFINITY, Double.NEGATIVE_INFINITY,
+			Float.NaN, Float.POSITIVE_INFINITY, Float.NEGATIVE_INFINITY,
+		};
+	}
+
+	private static String readText(Path file, boolean gzip) throws IOException
+	{
+		try (InputStream input = gzip ?
+			new GZIPInputStream(Files.newInputStream(file)) :
+			Files.newInputStream(file)
+		) {
+			return new String(input.readAllBytes(), StandardCharsets.UTF_8);
+		}
+	}
+}
@@ -0,0 +1,91 @@
+package guru.mikelue.foxglove.jdbc;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.commons.lang3.mutable.MutableLong;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import guru.mikelue.misc.testlib.AbstractTestBase;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class TokenBucketTest extends AbstractTestBase {
+	public TokenBucketTest() {}
+
+	@BeforeEach
+	void setup() {}
+
+	@AfterEach
+	void tearDown() {}
+
+	/**
+	 * Tests the sleeping time of acquiring, by fake clock.
+	 */
+	@ParameterizedTest
+	@CsvSource({
+		"10,10,10,0,1000000000",
+		"100,10,10,0,100000000",
+		"10,20,10,0,0",
+		"10,10,15,500000000,1500000000",
+	})
+	void acquire(
+		double permitsPerSecond, long capacity, long permits,
+		long expectedFirstSleep, long expectedSecondSleep
+	) throws InterruptedException {
+		var clock = new MutableLong(0);
+		var sleeps = new ArrayList<Long>();
+
+		var testedBucket = new TokenBucket(
+			elapsedNanos -> permitsPerSecond, capacity,
+			clock::longValue,
+			nanos -> {
+				sleeps.add(nanos);
+				clock.add(nanos);
+			}
+		);
+
+		testedBucket.acquire(permits);
+		testedBucket.acquire(permits);
+
+		var expectedSleeps = new ArrayList<Long>();
+		for (var sleep: List.of(expectedFirstSleep, expectedSecondSleep)) {
+			if (sleep > 0) {
+				expectedSleeps.add(sleep);
+			}
+		}
+
+		assertThat(sleeps)
+			.containsExactlyElementsOf(expectedSleeps);
+	}
+
+	/**
+	 * Tests the rate changed by elapsed time.
+	 */
+	@ParameterizedTest
+	@CsvSource({
+		"0,200000000", "1000000000,50000000",
+	})
+	void rateByElapsedTime(
+		long elapsedNanos, long expectedSleep
+	) throws InterruptedException {
+		var clock = new MutableLong(0);
+		var sleeps = new ArrayList<Long>();
+
+		var testedBucket = new TokenBucket(
+			nanos -> nanos >= 1_000_000_000L ? 20 : 10, 1,
+			clock::longValue,
+			nanos -> sleeps.add(nanos)
+		);
+
+		testedBucket.acquire(1);
+		clock.add(elapsedNanos);
+		testedBucket.acquire(2);
+
+		assertThat(sleeps)
+			.containsExactly(expectedSleep);
+	}
+}
@@ -2,9 +2,6 @@ package guru.mikelue.foxglove.jdbc;
 
 import java.sql.JDBCType;
 import java.util.List;
-import java.util.Map;
-
-import guru.mikelue.foxglove.TupleAccessor;
 
 import static guru.mikelue.foxglove.ColumnMetaTestUtils.newColumnMeta;
 
@@ -14,25 +11,19 @@ interface TombTestUtils {
 		ValueTomb tomb, String columnName,
 		T... values
 	) {
+		var sampleColumns = List.of(newColumnMeta(
+			columnName, JDBCType.INTEGER
+		));
+
+		var keptNames = tomb.keptColumnNamesOf(sampleColumns);
+		if (keptNames == null) {
+			return;
+		}
+
 		for (var value : values) {
 			tomb.preserveProtoData(
-				newTuple(columnName, value)
+				keptNames, new RowValues(sampleColumns, new Object[] { value })
 			);
 		}
 	}
-
-	static <T> TupleAccessor newTuple(
-		String columName, T Value
-	) {
-		var sampleColumn = newColumnMeta(
-			columName, JDBCType.INTEGER
-		);
-
-		var tupleSchema = new TupleAccessorImpl.TupleSchema(
-			List.of(sampleColumn)
-		);
-		return tupleSchema.createTupleAccessor(
-			Map.of(sampleColumn, Value), 0
-		);
-	}
 }
@@ -0,0 +1,88 @@
+package guru.mikelue.foxglove.jdbc;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import guru.mikelue.misc.testlib.AbstractTestBase;
+
+import guru.mikelue.foxglove.ColumnMeta;
+
+import static guru.mikelue.foxglove.ColumnMetaTestUtils.newColumnMeta;
+import static java.sql.JDBCType.INTEGER;
+import static java.sql.JDBCType.VARCHAR;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.entry;
+
+public class TupleAccessorImplTest extends AbstractTestBase {
+	public TupleAccessorImplTest() {}
+
+	@BeforeEach
+	void setup() {}
+
+	@AfterEach
+	void tearDown() {}
+
+	/**
+	 * Tests the values accessed by names(case-insensitive) of columns, which are kept in ordinal of columns.
+	 */
+	@Test
+	void accessValues()
+	{
+		var sampleColumns = List.of(
+			newColumnMeta("ta_name", VARCHAR),
+			newColumnMeta("ta_age", INTEGER)
+		);
+		var testedTuple = new TupleAccessorImpl.TupleSchema(sampleColumns)
+			.createTupleAccessor(new Object[] { "Joe", 20 }, 3);
+
+		var copiedMap = testedTuple.asMap();
+
+		testedTuple.setValue("TA_AGE", 21);
+
+		assertThat(testedTuple.<Integer>getValue(" ta_age "))
+			.isEqualTo(21);
+		assertThat(testedTuple.hasColumn("ta_none"))
+			.isFalse();
+		assertThat(testedTuple.getMetaOfColumns())
+			.containsExactlyElementsOf(sampleColumns);
+		assertThat(testedTuple.index())
+			.isEqualTo(3);
+		assertThatThrownBy(() -> testedTuple.getValue("ta_none"))
+			.isInstanceOf(IllegalArgumentException.class);
+
+		/*
+		 * The map is copied, the view of row is not.
+		 */
+		assertThat(copiedMap)
+			.containsExactly(entry(sampleColumns.get(0), "Joe"), entry(sampleColumns.get(1), 20));
+		assertThat(testedTuple.asRowValues())
+			.containsExactly(entry(sampleColumns.get(0), "Joe"), entry(sampleColumns.get(1), 21));
+		// :~)
+	}
+
+	/**
+	 * Tests the tuple built by map, whose values are put into ordinal of columns.
+	 */
+	@Test
+	void createTupleAccessorByMap()
+	{
+		var sampleColumns = List.of(
+			newColumnMeta("ta_name", VARCHAR),
+			newColumnMeta("ta_age", INTEGER)
+		);
+		var sampleMap = new LinkedHashMap<ColumnMeta, Object>();
+		sampleMap.put(sampleColumns.get(1), 33);
+		sampleMap.put(sampleColumns.get(0), "Mary");
+
+		var testedTuple = new TupleAccessorImpl.TupleSchema(sampleColumns)
+			.createTupleAccessor(sampleMap, 0);
+
+		assertThat(testedTuple.asRowValues().values())
+			.containsExactly("Mary", 33);
+	}
+}
@@ -24,21 +24,29 @@ public class ValueTombTest extends AbstractTestBase {
 	void tearDown() {}
 
 	/**
-	 * Tests the preserving of values by proto-data.
+	 * Tests the preserving of values by ordinals of kept columns(case-insensitive).
 	 */
 	@Test
 	void preserveProtoData()
 	{
 		var testedTomb = new ValueTomb("sample_table");
+		var sampleColumns = List.of(
+			newColumnMeta("COL1", JDBCType.INTEGER),
+			newColumnMeta("col2", JDBCType.VARCHAR)
+		);
+
+		assertThat(testedTomb.keptColumnNamesOf(sampleColumns))
+			.isNull();
 
 		testedTomb.keepColumn("col1");
+		testedTomb.keepColumn("col3");
 
-		testedTomb.preserveProtoData(
-			newTuple("col1", 20)
-		);
-		testedTomb.preserveProtoData(
-			newTuple("col1", 30)
-		);
+		var keptNames = testedTomb.keptColumnNamesOf(sampleColumns);
+		assertThat(keptNames)
+			.containsExactly("col1", null);
+
+		testedTomb.preserveProtoData(keptNames, new RowValues(sampleColumns, new Object[] { 20, "v1" }));
+		testedTomb.preserveProtoData(keptNames, new RowValues(sampleColumns, new Object[] { 30, "v2" }));
 
 		assertThat(testedTomb.getValues("col1"))
 			.containsExactly(20, 30);
@@ -55,8 +63,10 @@ public class ValueTombTest extends AbstractTestBase {
 		testedTomb.keepColumn("col1");
 		testedTomb.keepColumn("col2");
 
+		var sampleColumns = List.of(newColumnMeta("col2", JDBCType.INTEGER));
 		testedTomb.preserveProtoData(
-			newTuple("col2", 99)
+			testedTomb.keptColumnNamesOf(sampleColumns),
+			new RowValues(sampleColumns, new Object[] { 99 })
 		);
 
 		testedTomb.preserveAfterData(List.of(
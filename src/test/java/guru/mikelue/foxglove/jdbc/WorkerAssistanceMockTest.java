@@ -7,13 +7,19 @@ import java.sql.JDBCType;
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
 import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import guru.mikelue.foxglove.ColumnMeta;
+import guru.mikelue.foxglove.functional.Float8Supplier;
+import guru.mikelue.foxglove.functional.Int4Supplier;
+import guru.mikelue.foxglove.functional.Int8SequenceSupplier;
 import guru.mikelue.foxglove.setting.DataSetting;
 import mockit.Mocked;
 import mockit.Verifications;
 
 import static guru.mikelue.foxglove.ColumnMetaTestUtils.newColumnMeta;
+import static org.assertj.core.api.Assertions.assertThat;
 
 public class WorkerAssistanceMockTest {
 	@Mocked
@@ -81,4 +87,97 @@ public class WorkerAssistanceMockTest {
 			// :~)
 		}};
 	}
+
+	/**
+	 * Tests the values in primitive lane are bound without boxing, the custom setter takes precedence.
+	 */
+	@Test
+	void setPrimitiveParams() throws SQLException
+	{
+		var sampleColumns = List.of(
+			newColumnMeta("col_1", "bigint", JDBCType.BIGINT),
+			newColumnMeta("col_2", "double", JDBCType.DOUBLE),
+			newColumnMeta("col_3", "int", JDBCType.INTEGER)
+		);
+		var sampleFacet = JdbcTableFacet.builder("any_table")
+			.column("col_1").useSupplier(new Int8SequenceSupplier(10))
+			.column("col_2").useSupplier((Float8Supplier)() -> 2.5)
+			.column("col_3").useSupplier((Int4Supplier)() -> 1900)
+			.build();
+
+		var sampleRow = new RowParamsGenerator(sampleFacet, sampleColumns, new DataSetting())
+			.generateRowValues();
+
+		testedAssistance.setParams(sampleRow);
+
+		new Verifications() {{
+			mockStat.setLong(1, 10L);
+			times = 1;
+
+			mockStat.setDouble(2, 2.5);
+			times = 1;
+
+			/*
+			 * Custom setter
+			 */
+			mockStat.setInt(3, 1900);
+			times = 1;
+			// :~)
+
+			mockStat.setObject(anyInt, any, anyInt);
+			times = 0;
+		}};
+	}
+
+	/**
+	 * Tests the binders compiled once for the columns shared by rows,
+	 * the value of other type than the first one falls back to the setter by its type.
+	 */
+	@Test
+	void bindByCompiledBinders() throws SQLException
+	{
+		var numberOfMatching = new AtomicInteger(0);
+		var dataSetting = new DataSetting()
+			.addStatementSetter(
+				meta -> numberOfMatching.incrementAndGet() > 0 && meta.name().equals("col_3"),
+				(stmt, index, meta, value) -> stmt.setInt(index, (Integer)value)
+			);
+		var testedAssistance = new WorkerAssistance(
+			mockStat,
+			new GeneratedValueLoader(new String[0]),
+			values -> {}, dataSetting
+		);
+
+		var sampleColumns = List.of(
+			newColumnMeta("col_1", "varchar", JDBCType.VARCHAR),
+			newColumnMeta("col_2", "bigint", JDBCType.BIGINT),
+			newColumnMeta("col_3", "int", JDBCType.INTEGER)
+		);
+
+		testedAssistance.setParams(new RowValues(sampleColumns, new Object[] { "v1", 10L, 1900 }));
+		testedAssistance.setParams(new RowValues(sampleColumns, new Object[] { null, 20, 1901 }));
+		testedAssistance.setParams(new RowValues(sampleColumns, new Object[] { "v3", 30L, 1902 }));
+
+		assertThat(numberOfMatching)
+			.hasValue(sampleColumns.size());
+
+		new Verifications() {{
+			mockStat.setObject(1, anyString, JDBCType.VARCHAR.getVendorTypeNumber());
+			times = 2;
+			mockStat.setNull(1, JDBCType.VARCHAR.getVendorTypeNumber());
+			times = 1;
+
+			/*
+			 * Falls back to the setter by type of value
+			 */
+			mockStat.setObject(2, 20, JDBCType.INTEGER.getVendorTypeNumber());
+			times = 1;
+			// :~)
+			mockStat.setObject(2, any, JDBCType.BIGINT.getVendorTypeNumber());
+			times = 2;
+
+			mockStat.setInt(3, anyInt);
+			times = 3;
+		}};
+	}
 }
@@ -175,7 +175,7 @@ public class SpringContextObjectFactoryTest extends AbstractTestBase {
 		assertThat(testedGenerator)
 			.element(0)
 			.extracting(t -> t.getNumberOfRows())
-			.isEqualTo(3);
+			.isEqualTo(3L);
 	}
 
 	/**
@@ -359,7 +359,7 @@ class FakeDataGenerator implements DataGenerator<TableFacet> {
 	}
 
 	@Override
-	public int generate(List<TableFacet> tables)
+	public long generate(List<TableFacet> tables)
 	{
 		throw new UnsupportedOperationException("Unimplemented method 'generate'");
 	}